@@ -11,31 +11,77 @@ import com.politicos.model.GeneradorListas;
  * @author USUARIO
  */
 import com.politicos.model.*;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class Controller {
-    private EstadisticasOrdenamiento estadisticasAleatorioSimple;
-    private EstadisticasOrdenamiento estadisticasAleatorioDoble;
-    private EstadisticasOrdenamiento estadisticasAleatorioCircular;
-    private EstadisticasOrdenamiento estadisticasOrdenadoSimple;
-    private EstadisticasOrdenamiento estadisticasOrdenadoDoble;
-    private EstadisticasOrdenamiento estadisticasOrdenadoCircular;
-    private EstadisticasOrdenamiento estadisticasInversoSimple;
-    private EstadisticasOrdenamiento estadisticasInversoDoble;
-    private EstadisticasOrdenamiento estadisticasInversoCircular;
+    private final ConfiguracionExperimento configuracion;
+    /** Estadísticas de cada celda, con clave "distribución/lista" (por ejemplo "Aleatorio/Simple"). */
+    private final Map<String, EstadisticasOrdenamiento> estadisticas = new LinkedHashMap<>();
+
+    public Controller() {
+        this(ConfiguracionExperimento.porDefecto());
+    }
+
+    public Controller(ConfiguracionExperimento configuracion) {
+        this.configuracion = configuracion;
+    }
+
+    public Map<String, EstadisticasOrdenamiento> getEstadisticas() {
+        return Collections.unmodifiableMap(estadisticas);
+    }
     
     public void run() {
-        estadisticasAleatorioSimple = new EstadisticasOrdenamiento();
-        estadisticasAleatorioDoble = new EstadisticasOrdenamiento();
-        estadisticasAleatorioCircular = new EstadisticasOrdenamiento();
-        estadisticasOrdenadoSimple = new EstadisticasOrdenamiento();
-        estadisticasOrdenadoDoble = new EstadisticasOrdenamiento();
-        estadisticasOrdenadoCircular = new EstadisticasOrdenamiento();
-        estadisticasInversoSimple = new EstadisticasOrdenamiento();
-        estadisticasInversoDoble = new EstadisticasOrdenamiento();
-        estadisticasInversoCircular = new EstadisticasOrdenamiento();
-        // Generar listas y ordenar
-
-        GeneradorListas generador = new GeneradorListas();
-        generador.ejecutar(10, 1.5, estadisticasAleatorioSimple, estadisticasAleatorioDoble, estadisticasAleatorioCircular, estadisticasOrdenadoSimple, estadisticasOrdenadoDoble, estadisticasOrdenadoCircular, estadisticasInversoSimple, estadisticasInversoDoble, estadisticasInversoCircular);
+        run(null);
+    }
+
+    /**
+     * Ejecuta el experimento completo en el hilo actual (no debe ser el hilo de eventos de Swing).
+     *
+     * @param oyente Receptor opcional de eventos de progreso; puede ser null.
+     */
+    public void run(OyenteProgreso oyente) {
+        ConfiguracionExperimento c = configuracion;
+        ImpresorListas.setModo(c.getModoSalida());
+        ImpresorListas.println(c.toString());
+        GestorOrdenamientos.setModoMedicion(c.getModoMedicion());
+        GestorOrdenamientos.setTiempoMaximoMs(c.getTiempoMaximoMs());
+
+        GeneradorListas generador = new GeneradorListas(c.getSemilla());
+        generador.setAlgoritmos(c.getAlgoritmos());
+        generador.setRepeticiones(c.getRepeticiones());
+        generador.setNMaximo(c.getNMaximo());
+        c.getPresupuestosMs().forEach(generador::setPresupuesto);
+        generador.setOyenteProgreso(oyente);
+        generador.setPoolNodos(c.isPoolNodos());
+        if (!c.getDirectorioCache().isEmpty()) {
+            generador.setCache(new CacheDatasets(c.getDirectorioCache()));
+        }
+        if (!c.getArchivoPuntoControl().isEmpty()) {
+            generador.setPuntoControl(new PuntoControl(c.getArchivoPuntoControl()));
+        }
+        if (!c.getHeapCelda().isEmpty()) {
+            generador.setEjecutorAislado(new EjecutorAislado(c.getHeapCelda(), c.getOpcionesCelda()));
+        } else if (c.getFraccionHeap() > 0) {
+            ModeloMemoria modelo = ModeloMemoria.calibrar(ModeloMemoria.N_CALIBRACION, c.getFraccionHeap());
+            ImpresorListas.println(modelo.toString());
+            generador.setModeloMemoria(modelo);
+        }
+
+        // Generar listas y ordenar, una distribución tras otra
+        for (String distribucion : c.getDistribuciones()) {
+            Map<String, EstadisticasOrdenamiento> porTipoLista = new LinkedHashMap<>();
+            for (String tipoLista : c.getTiposLista()) {
+                EstadisticasOrdenamiento e = new EstadisticasOrdenamiento();
+                estadisticas.put(distribucion + "/" + tipoLista, e);
+                porTipoLista.put(tipoLista, e);
+            }
+            generador.ejecutar(c.getNInicial(), c.getTasaCrecimiento(), Distribuciones.buscar(distribucion), porTipoLista);
+        }
+        ImpresorListas.finalizar();
+        if (oyente != null) {
+            oyente.onEvento(EventoProgreso.finExperimento(generador.getTranscurridoMs()));
+        }
     }
 }
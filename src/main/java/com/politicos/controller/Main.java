@@ -4,19 +4,47 @@
  */
 package com.politicos.controller;
 
-import javax.swing.SwingUtilities;
+import com.politicos.model.ConfiguracionExperimento;
+import com.politicos.model.OyenteProgreso;
+import com.politicos.view.VistaProgreso;
+import java.awt.GraphicsEnvironment;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  *
  * @author USUARIO
  */
 public class Main {
+    /**
+     * @param args Opciones {@code clave=valor} del experimento (ver {@link ConfiguracionExperimento}),
+     *             por ejemplo {@code algoritmos=MergeSort,QuickSort n.maximo=1000000}.
+     */
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
-            Controller controller = new Controller();
-            controller.run();
-            //VistaGUI vista = new VistaGUI(controller);
-            //vista.mostrar();
+        ConfiguracionExperimento configuracion;
+        try {
+            configuracion = ConfiguracionExperimento.desdeArgumentos(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Configuración no válida: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        // El experimento dura horas: se ejecuta en su propio hilo, nunca en el de eventos de Swing
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "experimento"));
+
+        OyenteProgreso oyente = null;
+        if (!GraphicsEnvironment.isHeadless()) {
+            VistaProgreso vista = new VistaProgreso();
+            vista.mostrar();
+            oyente = vista;
+        }
+
+        OyenteProgreso oyenteFinal = oyente;
+        ejecutor.execute(() -> {
+            Controller controller = new Controller(configuracion);
+            controller.run(oyenteFinal);
         });
+        ejecutor.shutdown();
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Ajuste empírico de una ley de potencias {@code t(n) = c · n^k} a tiempos observados,
+ * mediante mínimos cuadrados sobre {@code ln t = ln c + k · ln n}.
+ *
+ * <p>El exponente {@code k} estima el orden de complejidad observado (≈1 para algoritmos
+ * lineales, ≈1.1 para n·log n en los tamaños habituales, ≈2 para los cuadráticos) y permite
+ * predecir el tiempo del siguiente tamaño antes de ejecutarlo.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class AjusteComplejidad {
+
+    /** Número mínimo de puntos para considerar fiable el ajuste. */
+    public static final int MIN_PUNTOS = 3;
+
+    private final double logCoeficiente;
+    private final double exponente;
+    private final double r2;
+    private final int puntos;
+
+    private AjusteComplejidad(double logCoeficiente, double exponente, double r2, int puntos) {
+        this.logCoeficiente = logCoeficiente;
+        this.exponente = exponente;
+        this.r2 = r2;
+        this.puntos = puntos;
+    }
+
+    /**
+     * Ajusta la ley de potencias a los puntos (n, t). Se ignoran los puntos con n o t no positivos.
+     *
+     * @param tamanios Tamaños observados.
+     * @param tiempos Tiempos observados (misma longitud que {@code tamanios}).
+     * @return El ajuste, o {@code null} si hay menos de {@link #MIN_PUNTOS} puntos válidos
+     *         o todos tienen el mismo tamaño.
+     */
+    public static AjusteComplejidad ajustar(double[] tamanios, double[] tiempos) {
+        if (tamanios.length != tiempos.length) {
+            throw new IllegalArgumentException("Tamaños y tiempos deben tener la misma longitud.");
+        }
+        int m = 0;
+        double sx = 0, sy = 0, sxx = 0, sxy = 0, syy = 0;
+        for (int i = 0; i < tamanios.length; i++) {
+            if (tamanios[i] <= 0 || tiempos[i] <= 0) {
+                continue;
+            }
+            double x = Math.log(tamanios[i]);
+            double y = Math.log(tiempos[i]);
+            sx += x;
+            sy += y;
+            sxx += x * x;
+            sxy += x * y;
+            syy += y * y;
+            m++;
+        }
+        double varX = m * sxx - sx * sx;
+        if (m < MIN_PUNTOS || varX <= 0) {
+            return null;
+        }
+        double exponente = (m * sxy - sx * sy) / varX;
+        double logCoeficiente = (sy - exponente * sx) / m;
+        double varY = m * syy - sy * sy;
+        double r2 = (varY <= 0) ? 1.0 : Math.pow(m * sxy - sx * sy, 2) / (varX * varY);
+        return new AjusteComplejidad(logCoeficiente, exponente, r2, m);
+    }
+
+    /**
+     * Predice el tiempo para un tamaño {@code n}, en las mismas unidades que los tiempos ajustados.
+     */
+    public double predecir(double n) {
+        return Math.exp(logCoeficiente + exponente * Math.log(n));
+    }
+
+    public double getExponente() {
+        return exponente;
+    }
+
+    /** Coeficiente de determinación del ajuste en escala log-log. */
+    public double getR2() {
+        return r2;
+    }
+
+    public int getPuntos() {
+        return puntos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("t ≈ %.3g · n^%.2f (R² %.3f, %d puntos)",
+            Math.exp(logCoeficiente), exponente, r2, puntos);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Caché en disco de conjuntos de datos generados, en un formato binario compacto.
+ *
+ * <p>Cada conjunto se guarda una sola vez por combinación (distribución, n, semilla) en
+ * un archivo {@code <distribucion>_<n>_<semilla>.pds} y se vuelve a cargar con lecturas
+ * mapeadas en memoria. Formato (little-endian):</p>
+ * <pre>
+ *   cabecera (32 bytes): magia "PDS1" | versión (int) | n (int) | reservado (int)
+ *                        | semilla (long) | CRC32C del cuerpo (long)
+ *   cuerpo (16 bytes por elemento): id (int) | dinero (double) | día epoch de nacimiento (int)
+ * </pre>
+ * <p>Si el archivo está dañado (tamaño o suma de verificación incorrectos) se ignora y se
+ * regenera.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class CacheDatasets {
+
+    private static final int MAGIA = 0x31534450; // "PDS1" en little-endian
+    private static final int VERSION = 1;
+    static final int TAMANO_CABECERA = 32;
+    static final int TAMANO_REGISTRO = 16;
+    /** Tamaño máximo de cada ventana mapeada (múltiplo de {@link #TAMANO_REGISTRO}). */
+    private static final long VENTANA = 1L << 30;
+    /** Registros decodificados por tarea paralela. */
+    private static final int BLOQUE_DECODIFICACION = 1 << 14;
+
+    /** Directorio donde se guardan los archivos. */
+    private final Path directorio;
+
+    public CacheDatasets(Path directorio) {
+        this.directorio = Objects.requireNonNull(directorio, "El directorio no puede ser null");
+    }
+
+    public CacheDatasets(String directorio) {
+        this(Paths.get(directorio));
+    }
+
+    public Path getDirectorio() {
+        return directorio;
+    }
+
+    /**
+     * Devuelve el conjunto de datos de la caché o, si no existe o está dañado, lo genera
+     * con {@code distribucion} y lo guarda para la próxima vez.
+     *
+     * @param distribucion La distribución que genera los datos.
+     * @param n Número de elementos.
+     * @param semilla Semilla de generación.
+     * @return Los datos, idénticos a {@code distribucion.generar(n, semilla)}.
+     */
+    public Politico[] obtener(GeneradorDistribucion distribucion, int n, long semilla) {
+        Path archivo = rutaDe(distribucion.getNombre(), n, semilla);
+        if (Files.isRegularFile(archivo)) {
+            try {
+                return leer(archivo, n, semilla);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Caché inválida, se regenera " + archivo.getFileName() + ": " + e.getMessage());
+            }
+        }
+        Politico[] datos = distribucion.generar(n, semilla);
+        try {
+            escribir(archivo, datos, semilla);
+        } catch (IOException e) {
+            // La caché es opcional: si no se puede escribir se sigue con los datos generados
+            System.err.println("No se pudo guardar la caché " + archivo.getFileName() + ": " + e.getMessage());
+        }
+        return datos;
+    }
+
+    /**
+     * Ruta del archivo para una combinación (distribución, n, semilla).
+     */
+    public Path rutaDe(String distribucion, int n, long semilla) {
+        String nombre = distribucion.replaceAll("[^A-Za-z0-9.\\-]", "_");
+        return directorio.resolve(nombre + "_" + n + "_" + Long.toUnsignedString(semilla, 16) + ".pds");
+    }
+
+    /**
+     * Escribe los datos en {@code archivo} (primero en un temporal que luego se renombra,
+     * para no dejar nunca un archivo a medias).
+     */
+    public void escribir(Path archivo, Politico[] datos, long semilla) throws IOException {
+        Files.createDirectories(archivo.toAbsolutePath().getParent());
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        long tamanoCuerpo = (long) datos.length * TAMANO_REGISTRO;
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            CRC32C crc = new CRC32C();
+            int indice = 0;
+            for (long desde = 0; desde < tamanoCuerpo; desde += VENTANA) {
+                long longitud = Math.min(VENTANA, tamanoCuerpo - desde);
+                MappedByteBuffer cuerpo = canal.map(FileChannel.MapMode.READ_WRITE, TAMANO_CABECERA + desde, longitud);
+                cuerpo.order(ByteOrder.LITTLE_ENDIAN);
+                while (cuerpo.hasRemaining()) {
+                    Politico p = datos[indice++];
+                    cuerpo.putInt(p.getId());
+                    cuerpo.putDouble(p.getDinero());
+                    cuerpo.putInt((int) p.getFechaNacimiento().toEpochDay());
+                }
+                cuerpo.flip();
+                crc.update(cuerpo);
+            }
+            ByteBuffer cabecera = ByteBuffer.allocate(TAMANO_CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+            cabecera.putInt(MAGIA).putInt(VERSION).putInt(datos.length).putInt(0)
+                    .putLong(semilla).putLong(crc.getValue()).flip();
+            while (cabecera.hasRemaining()) {
+                canal.write(cabecera, cabecera.position());
+            }
+            canal.force(false);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Lee un archivo mapeándolo en memoria y verifica cabecera y suma de verificación.
+     *
+     * @throws IllegalStateException si el contenido no corresponde a lo esperado.
+     * @throws IOException si el archivo no se puede leer.
+     */
+    public Politico[] leer(Path archivo, int nEsperado, long semillaEsperada) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(TAMANO_CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+            while (cabecera.hasRemaining()) {
+                if (canal.read(cabecera, cabecera.position()) < 0) {
+                    throw new IllegalStateException("cabecera incompleta");
+                }
+            }
+            cabecera.flip();
+            if (cabecera.getInt() != MAGIA || cabecera.getInt() != VERSION) {
+                throw new IllegalStateException("formato desconocido");
+            }
+            int n = cabecera.getInt();
+            cabecera.getInt(); // reservado
+            long semilla = cabecera.getLong();
+            long crcEsperado = cabecera.getLong();
+            if (n != nEsperado || semilla != semillaEsperada) {
+                throw new IllegalStateException("n o semilla distintos a los esperados");
+            }
+            long tamanoCuerpo = (long) n * TAMANO_REGISTRO;
+            if (canal.size() != TAMANO_CABECERA + tamanoCuerpo) {
+                throw new IllegalStateException("tamaño de archivo incorrecto");
+            }
+
+            Politico[] datos = new Politico[n];
+            CRC32C crc = new CRC32C();
+            int indice = 0;
+            for (long desde = 0; desde < tamanoCuerpo; desde += VENTANA) {
+                long longitud = Math.min(VENTANA, tamanoCuerpo - desde);
+                MappedByteBuffer cuerpo = canal.map(FileChannel.MapMode.READ_ONLY, TAMANO_CABECERA + desde, longitud);
+                crc.update(cuerpo.duplicate());
+                cuerpo.order(ByteOrder.LITTLE_ENDIAN);
+                decodificar(cuerpo, datos, indice);
+                indice += (int) (longitud / TAMANO_REGISTRO);
+            }
+            if (crc.getValue() != crcEsperado) {
+                throw new IllegalStateException("suma de verificación incorrecta");
+            }
+            return datos;
+        }
+    }
+
+    /**
+     * Decodifica una ventana mapeada en paralelo. Solo se usan lecturas absolutas, que no
+     * modifican el estado del búfer, por lo que varios hilos pueden leerlo a la vez.
+     */
+    private static void decodificar(ByteBuffer cuerpo, Politico[] datos, int primerIndice) {
+        int registros = cuerpo.remaining() / TAMANO_REGISTRO;
+        int bloques = (registros + BLOQUE_DECODIFICACION - 1) / BLOQUE_DECODIFICACION;
+        IntStream.range(0, bloques).parallel().forEach(b -> {
+            int desde = b * BLOQUE_DECODIFICACION;
+            int hasta = Math.min(registros, desde + BLOQUE_DECODIFICACION);
+            for (int r = desde; r < hasta; r++) {
+                int posicion = r * TAMANO_REGISTRO;
+                int id = cuerpo.getInt(posicion);
+                double dinero = cuerpo.getDouble(posicion + 4);
+                LocalDate fecha = FechasCompartidas.deDiaEpoch(cuerpo.getInt(posicion + 12));
+                datos[primerIndice + r] = new Politico(id, dinero, fecha);
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Lista intrusiva: sus elementos son {@link Enlazable} y se ordenan reenlazándolos
+ * directamente con {@link EstrategiaOrdenamiento#ordenarEnlazados}, sin nodos.
+ * {@link EstrategiaOrdenamiento#ordenar} delega en {@link #ordenarEnlazados} porque solo la
+ * lista conoce el tipo concreto de sus elementos.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public interface CadenaEnlazable {
+
+    /**
+     * Ordena los elementos con {@code estrategia} y restablece los enlaces anteriores y la cola.
+     *
+     * @param estrategia La estrategia a aplicar.
+     * @param contexto Contadores y cancelación de esta invocación.
+     */
+    void ordenarEnlazados(EstrategiaOrdenamiento<?> estrategia, ContextoOrdenamiento contexto);
+}
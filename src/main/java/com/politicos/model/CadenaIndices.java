@@ -0,0 +1,63 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Lista enlazada por índices: los elementos viven en columnas primitivas y el enlace
+ * "siguiente" de cada posición es un entero, accesible con {@link #getSiguientes()}. Las
+ * estrategias la ordenan con {@link EstrategiaOrdenamiento#ordenarIndices}: por defecto a
+ * través de una {@link VistaPosiciones} de un solo uso, o bien enlazando directamente por
+ * posiciones, ya sea reescribiendo los enlaces o intercambiando los datos de dos posiciones.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public interface CadenaIndices {
+
+    /** Marca de fin de cadena en los enlaces. */
+    int FIN = -1;
+
+    /**
+     * Devuelve la posición del primer elemento en orden de enlace.
+     * @return La posición de la cabeza, o {@link #FIN} si la lista está vacía.
+     */
+    int getPrimero();
+
+    /**
+     * Prepara la lista para ordenarla y devuelve su cabeza: a partir de aquí
+     * {@link #getSiguientes()} forma una cadena lineal terminada en {@link #FIN}. Una
+     * lista circular rompe aquí su ciclo, y {@link #setPrimero(int)} lo vuelve a cerrar.
+     * @return La posición de la cabeza, o {@link #FIN} si la lista está vacía.
+     */
+    default int desenlazarIndices() {
+        return getPrimero();
+    }
+
+    /**
+     * Fija la cabeza tras reenlazar la cadena y restablece el resto de invariantes (la cola,
+     * y en su caso los enlaces anteriores y el ciclo).
+     * @param primero La posición de la nueva cabeza.
+     */
+    void setPrimero(int primero);
+
+    /**
+     * Devuelve los enlaces de la lista: {@code getSiguientes().siguiente(i)} es la posición
+     * que sigue a {@code i}, o {@link #FIN}. Escribir en ellos reenlaza directamente la
+     * lista, esté donde esté guardada.
+     * @return Los enlaces "siguiente" de la lista.
+     */
+    EnlacesIndices getSiguientes();
+
+    /**
+     * Compara los elementos de dos posiciones con el mismo criterio que su orden natural.
+     * @return Negativo, cero o positivo como {@link Comparable#compareTo}.
+     */
+    int comparar(int a, int b);
+
+    /**
+     * Intercambia los datos de dos posiciones sin tocar los enlaces.
+     */
+    void intercambiar(int a, int b);
+}
@@ -0,0 +1,168 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Mide el rendimiento de los tipos de lista de {@link GeneradorListas#TIPOS_LISTA} en las
+ * tres operaciones que dominan el experimento: inserción al final, recorrido completo
+ * ({@code contiene} de un dato ausente) y ordenación, junto con las pausas de GC que
+ * provocan. Sirve para comparar {@link ListaEnlazadaDesenrollada}, {@link ListaPoliticos}
+ * y {@link ListaPoliticosNativa} con las listas de un nodo por elemento. Mide además la
+ * búsqueda de datos presentes por {@code equals()}, que las variantes "Hash" resuelven con
+ * su índice en lugar de recorrer la lista (en ellas el "recorrido" es también una consulta).
+ * En las variantes "Bloom" el filtro descarta el dato ausente, pero esa primera búsqueda
+ * tras la carga paga la reconstrucción del filtro, que recorre la lista una vez; tras la
+ * tabla se informa de cada filtro el tamaño, la tasa de falsos positivos (estimada y
+ * observada) y el tiempo medio de {@link #AUSENTES} búsquedas de datos ausentes.
+ *
+ * <p>Uso: {@code java -cp target/classes com.politicos.model.ComparativaListas [n] [repeticiones] [algoritmo] [pool]}.
+ * Cada operación se repite tras unas rondas de calentamiento y se informa la mediana
+ * en nanosegundos por elemento; "Asignado" es la mediana de bytes reservados en el heap
+ * por elemento en toda la ronda, y las columnas de GC son el promedio por ronda medida de
+ * recolecciones con pausa y de milisegundos de pausa. La búsqueda se informa en
+ * nanosegundos por consulta, sobre {@link #CONSULTAS} datos al azar de la lista. "Retenido"
+ * es la memoria viva por elemento de la lista cargada, índice incluido, según la
+ * calibración de {@link ModeloMemoria}. Con el argumento {@code pool}, las listas de nodos
+ * usan un {@link PoolNodos} que se conserva entre rondas.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class ComparativaListas {
+
+    /** Rondas descartadas para que el JIT compile los bucles antes de medir. */
+    private static final int CALENTAMIENTO = 3;
+    /** Búsquedas por ronda: pocas, porque sin índice cada una recorre media lista. */
+    private static final int CONSULTAS = 100;
+    /** Búsquedas de datos ausentes para medir los falsos positivos de los filtros de Bloom. */
+    private static final int AUSENTES = 10_000;
+
+    private ComparativaListas() {
+    }
+
+    public static void main(String[] args) {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        int repeticiones = (args.length > 1) ? Integer.parseInt(args[1]) : 7;
+        String algoritmo = (args.length > 2) ? args[2] : "MergeSort";
+        boolean conPool = args.length > 3 && args[3].equals("pool");
+        EstrategiaOrdenamiento<Politico> estrategia = GeneradorListas.obtenerEstrategia(algoritmo);
+        PoolNodos<Politico, Nodo<Politico>> nodos = conPool ? PoolNodos.simples() : null;
+        PoolNodos<Politico, NodoDoble<Politico>> nodosDobles = conPool ? PoolNodos.dobles() : null;
+        ThreadMXBean hilos = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        Politico[] datos = Distribuciones.aleatorio().generar(n, 1L);
+        // Nadie tiene este ID, así que contiene() recorre la lista entera
+        Politico ausente = new Politico(Integer.MAX_VALUE, 0, LocalDate.of(2000, 1, 1));
+        // Copias de datos presentes: se encuentran por ID, no por identidad
+        SplittableRandom azar = new SplittableRandom(1L);
+        Politico[] buscados = new Politico[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            Politico p = datos[azar.nextInt(n)];
+            buscados[i] = new Politico(p.getId(), p.getDinero(), p.getFechaNacimiento());
+        }
+        // IDs por encima de los generados: ningún filtro los tiene, salvo por falso positivo
+        Politico[] ausentes = new Politico[AUSENTES];
+        for (int i = 0; i < AUSENTES; i++) {
+            ausentes[i] = new Politico(Integer.MAX_VALUE - 1 - i, 0, LocalDate.of(2000, 1, 1));
+        }
+        ModeloMemoria memoria = ModeloMemoria.calibrar(Math.min(n, ModeloMemoria.N_CALIBRACION), 1.0);
+
+        System.out.printf("n = %d, repeticiones = %d, ordenación con %s%s (ns por elemento, búsqueda en ns por consulta; mediana)%n",
+            n, repeticiones, algoritmo, conPool ? ", con reserva de nodos" : "");
+        System.out.printf("%-14s %12s %12s %12s %12s %14s %14s %10s %12s%n",
+            "Lista", "Inserción", "Recorrido", "Búsqueda", "Ordenación", "Asignado (B)", "Retenido (B)", "GC/ronda", "Pausa (ms)");
+        StringBuilder filtros = new StringBuilder();
+        for (String tipoLista : GeneradorListas.TIPOS_LISTA) {
+            double[] insercion = new double[repeticiones];
+            double[] recorrido = new double[repeticiones];
+            double[] busqueda = new double[repeticiones];
+            double[] ordenacion = new double[repeticiones];
+            double[] asignado = new double[repeticiones];
+            long colecciones = 0;
+            long pausa = 0;
+            for (int r = -CALENTAMIENTO; r < repeticiones; r++) {
+                MonitorGC monitor = MonitorGC.iniciar();
+                long bytesInicio = hilos.getCurrentThreadAllocatedBytes();
+                long inicio = System.nanoTime();
+                ListaEnlazadaBase<Politico> lista = GeneradorListas.crearLista(tipoLista, nodos, nodosDobles);
+                for (Politico p : datos) {
+                    lista.insertarAlFinal(p);
+                }
+                long tInsercion = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                if (lista.contiene(ausente)) {
+                    throw new IllegalStateException("El dato centinela no debería estar en la lista");
+                }
+                long tRecorrido = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                for (Politico buscado : buscados) {
+                    if (!lista.contiene(buscado)) {
+                        throw new IllegalStateException("No se encontró un dato que sí está en la lista");
+                    }
+                }
+                long tBusqueda = System.nanoTime() - inicio;
+
+                FiltroBloom<?> filtro = filtroDe(lista);
+                if (filtro != null && r == repeticiones - 1) {
+                    inicio = System.nanoTime();
+                    for (Politico ausenteFiltro : ausentes) {
+                        lista.contiene(ausenteFiltro);
+                    }
+                    long tAusentes = System.nanoTime() - inicio;
+                    filtros.append(String.format("%-14s %s, %.1f bits/elemento, %.1f ns por dato ausente%n", tipoLista,
+                        filtro, filtro.getBits() / (double) n, tAusentes / (double) AUSENTES));
+                }
+
+                ResultadoOrdenamiento resultado = estrategia.ordenar(lista);
+                lista.liberar();
+                long bytesRonda = hilos.getCurrentThreadAllocatedBytes() - bytesInicio;
+
+                if (r >= 0) {
+                    asignado[r] = bytesRonda / (double) n;
+                    colecciones += monitor.getColecciones();
+                    pausa += monitor.getTiempoPausa();
+                    insercion[r] = tInsercion / (double) n;
+                    recorrido[r] = tRecorrido / (double) n;
+                    busqueda[r] = tBusqueda / (double) CONSULTAS;
+                    ordenacion[r] = resultado.tiempo * 1_000_000.0 / n;
+                }
+            }
+            System.out.printf("%-14s %12.2f %12.2f %12.1f %12.2f %14.1f %14.1f %10.1f %12.1f%n", tipoLista,
+                mediana(insercion), mediana(recorrido), mediana(busqueda), mediana(ordenacion), mediana(asignado),
+                memoria.getBytesPorNodo(tipoLista), colecciones / (double) repeticiones, pausa / (double) repeticiones);
+        }
+        if (!filtros.isEmpty()) {
+            System.out.printf("%nFiltros de Bloom (última ronda, %d búsquedas de datos ausentes):%n%s", AUSENTES, filtros);
+        }
+    }
+
+    /** El filtro de Bloom de la lista, o {@code null} si no es de nodos o no lo tiene activo. */
+    private static FiltroBloom<?> filtroDe(ListaEnlazadaBase<?> lista) {
+        if (lista instanceof ListaEnlazadaSimple<?> simple) {
+            return simple.getFiltro();
+        }
+        if (lista instanceof ListaEnlazadaDoble<?> doble) {
+            return doble.getFiltro();
+        }
+        if (lista instanceof ListaEnlazadaSimpleCircular<?> circular) {
+            return circular.getFiltro();
+        }
+        return null;
+    }
+
+    private static double mediana(double[] valores) {
+        double[] copia = valores.clone();
+        Arrays.sort(copia);
+        return copia[copia.length / 2];
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Configuración declarativa de un experimento: qué celdas (algoritmo × tipo de lista ×
+ * distribución) se miden, con qué serie de tamaños, cuántas repeticiones y con qué límites.
+ *
+ * <p>Se construye a partir de propiedades {@code clave=valor}, que pueden venir de un archivo
+ * ({@value #ARCHIVO_POR_DEFECTO} en el directorio de trabajo, o el indicado con
+ * {@code config=ruta}) y de argumentos de línea de comandos, que tienen prioridad. Las listas
+ * se separan por comas. Una clave no reconocida es un error. Claves reconocidas:</p>
+ * <ul>
+ *   <li>{@code algoritmos}, {@code listas}, {@code distribuciones}</li>
+ *   <li>{@code n.inicial}, {@code n.tasa}, {@code n.maximo} (0 = sin límite), {@code repeticiones}</li>
+ *   <li>{@code presupuesto.ms} (todos los algoritmos) y {@code presupuesto.<Algoritmo>.ms}; 0 = sin límite</li>
+ *   <li>{@code tiempo.maximo.ms} (límite duro por ordenamiento; 0 = sin límite)</li>
+ *   <li>{@code semilla}, {@code cache.directorio}, {@code punto.control} (vacío = desactivado)</li>
+ *   <li>{@code memoria.fraccion} (0 = sin modelo de memoria), {@code celdas.heap}, {@code celdas.opciones}</li>
+ *   <li>{@code medicion.modo} ({@link ModoMedicion}), {@code salida.modo} ({@link ModoSalida})</li>
+ * </ul>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class ConfiguracionExperimento {
+
+    public static final String ARCHIVO_POR_DEFECTO = "experimento.properties";
+    private static final String CLAVE_ARCHIVO = "config";
+
+    private final List<String> algoritmos;
+    private final List<String> tiposLista;
+    private final List<String> distribuciones;
+    private final int nInicial;
+    private final double tasaCrecimiento;
+    private final int nMaximo;
+    private final int repeticiones;
+    private final Map<String, Double> presupuestosMs;
+    private final long tiempoMaximoMs;
+    private final long semilla;
+    private final String directorioCache;
+    private final String archivoPuntoControl;
+    private final double fraccionHeap;
+    private final String heapCelda;
+    private final List<String> opcionesCelda;
+    private final ModoMedicion modoMedicion;
+    private final ModoSalida modoSalida;
+    private final boolean poolNodos;
+
+    private ConfiguracionExperimento(Properties p) {
+        comprobarClaves(p);
+        algoritmos = lista(p, "algoritmos");
+        tiposLista = lista(p, "listas");
+        distribuciones = lista(p, "distribuciones");
+        nInicial = entero(p, "n.inicial");
+        tasaCrecimiento = decimal(p, "n.tasa");
+        nMaximo = entero(p, "n.maximo");
+        repeticiones = entero(p, "repeticiones");
+        tiempoMaximoMs = (long) decimal(p, "tiempo.maximo.ms");
+        semilla = Long.parseLong(p.getProperty("semilla").trim());
+        directorioCache = p.getProperty("cache.directorio", "").trim();
+        archivoPuntoControl = p.getProperty("punto.control", "").trim();
+        fraccionHeap = decimal(p, "memoria.fraccion");
+        heapCelda = p.getProperty("celdas.heap", "").trim();
+        String opciones = p.getProperty("celdas.opciones", "").trim();
+        opcionesCelda = opciones.isEmpty() ? List.of() : List.of(opciones.split("\\s+"));
+        modoMedicion = ModoMedicion.valueOf(p.getProperty("medicion.modo").trim());
+        modoSalida = ModoSalida.valueOf(p.getProperty("salida.modo").trim());
+        poolNodos = Boolean.parseBoolean(p.getProperty("nodos.pool").trim());
+
+        Map<String, Double> presupuestos = new LinkedHashMap<>();
+        double presupuestoGeneral = decimal(p, "presupuesto.ms");
+        for (String algoritmo : algoritmos) {
+            String propia = p.getProperty("presupuesto." + algoritmo + ".ms");
+            presupuestos.put(algoritmo, (propia != null) ? Double.parseDouble(propia.trim()) : presupuestoGeneral);
+        }
+        presupuestosMs = Collections.unmodifiableMap(presupuestos);
+        validar();
+    }
+
+    /**
+     * Valores por defecto: el experimento completo original (tres distribuciones básicas,
+     * tres listas, cuatro algoritmos, n desde 10 multiplicando por 1,5).
+     */
+    public static Properties valoresPorDefecto() {
+        Properties p = new Properties();
+        p.setProperty("algoritmos", String.join(",", GeneradorListas.ALGORITMOS));
+        p.setProperty("listas", String.join(",", GeneradorListas.TIPOS_LISTA));
+        p.setProperty("distribuciones", "Aleatorio,Ordenado,Inverso");
+        p.setProperty("n.inicial", "10");
+        p.setProperty("n.tasa", "1.5");
+        p.setProperty("n.maximo", "0");
+        p.setProperty("repeticiones", "1");
+        p.setProperty("presupuesto.ms", "60000");
+        p.setProperty("tiempo.maximo.ms", "180000");
+        p.setProperty("semilla", "20250101");
+        p.setProperty("cache.directorio", "datasets");
+        p.setProperty("punto.control", "resultados/punto-control.csv");
+        p.setProperty("memoria.fraccion", "0.8");
+        p.setProperty("celdas.heap", "");
+        p.setProperty("celdas.opciones", "");
+        p.setProperty("medicion.modo", ModoMedicion.MARCAR_GC.name());
+        p.setProperty("salida.modo", ModoSalida.MUESTRA.name());
+        p.setProperty("nodos.pool", "false");
+        return p;
+    }
+
+    public static ConfiguracionExperimento porDefecto() {
+        return new ConfiguracionExperimento(valoresPorDefecto());
+    }
+
+    /**
+     * Construye la configuración a partir de propiedades; las claves ausentes toman su valor por defecto.
+     *
+     * @throws IllegalArgumentException si alguna clave no se reconoce o algún valor no es válido.
+     */
+    public static ConfiguracionExperimento desde(Properties propiedades) {
+        Properties p = valoresPorDefecto();
+        p.putAll(propiedades);
+        try {
+            return new ConfiguracionExperimento(p);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor numérico no válido en la configuración: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Construye la configuración a partir de argumentos {@code clave=valor}. Antes se carga el
+     * archivo indicado con {@code config=ruta} o, si no se indica, {@value #ARCHIVO_POR_DEFECTO}
+     * cuando existe en el directorio de trabajo.
+     *
+     * @throws IllegalArgumentException si un argumento no tiene la forma {@code clave=valor}
+     *                                  o algún valor no es válido.
+     * @throws UncheckedIOException si el archivo indicado no se puede leer.
+     */
+    public static ConfiguracionExperimento desdeArgumentos(String... args) {
+        Properties argumentos = new Properties();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("Argumento no válido (se esperaba clave=valor): " + arg);
+            }
+            argumentos.setProperty(arg.substring(0, igual).trim(), arg.substring(igual + 1).trim());
+        }
+
+        Properties p = new Properties();
+        String indicado = argumentos.getProperty(CLAVE_ARCHIVO);
+        Path archivo = Paths.get(indicado != null ? indicado : ARCHIVO_POR_DEFECTO);
+        if (indicado != null || Files.isRegularFile(archivo)) {
+            p.putAll(leerArchivo(archivo));
+        }
+        argumentos.remove(CLAVE_ARCHIVO);
+        p.putAll(argumentos);
+        return desde(p);
+    }
+
+    /**
+     * Lee un archivo de propiedades en UTF-8 (para admitir nombres como "Inserción").
+     */
+    public static Properties leerArchivo(Path archivo) {
+        Properties p = new Properties();
+        try (Reader lector = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            p.load(lector);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la configuración " + archivo, e);
+        }
+        return p;
+    }
+
+    private void validar() {
+        if (algoritmos.isEmpty() || tiposLista.isEmpty() || distribuciones.isEmpty()) {
+            throw new IllegalArgumentException("Debe haber al menos un algoritmo, un tipo de lista y una distribución.");
+        }
+        for (String algoritmo : algoritmos) {
+            GeneradorListas.obtenerEstrategia(algoritmo);
+        }
+        for (String tipoLista : tiposLista) {
+            GeneradorListas.crearLista(tipoLista);
+        }
+        for (String distribucion : distribuciones) {
+            Distribuciones.buscar(distribucion);
+        }
+        if (nInicial < 1) {
+            throw new IllegalArgumentException("n.inicial debe ser al menos 1.");
+        }
+        if (nMaximo < 0) {
+            throw new IllegalArgumentException("n.maximo no puede ser negativo (0 = sin límite).");
+        }
+        if (tiempoMaximoMs < 0) {
+            throw new IllegalArgumentException("tiempo.maximo.ms no puede ser negativo (0 = sin límite).");
+        }
+        if (tasaCrecimiento <= 1) {
+            throw new IllegalArgumentException("n.tasa debe ser mayor que 1.");
+        }
+        if (repeticiones < 1) {
+            throw new IllegalArgumentException("repeticiones debe ser al menos 1.");
+        }
+        if (fraccionHeap < 0 || fraccionHeap > 1) {
+            throw new IllegalArgumentException("memoria.fraccion debe estar entre 0 y 1.");
+        }
+    }
+
+    /**
+     * Rechaza las claves que no se reconocen, para que una errata no se ignore en silencio.
+     * Además de las claves con valor por defecto se admite {@code presupuesto.<Algoritmo>.ms}
+     * para cualquier algoritmo conocido, aunque no esté en {@code algoritmos}.
+     */
+    private static void comprobarClaves(Properties p) {
+        Properties conocidas = valoresPorDefecto();
+        for (String clave : p.stringPropertyNames()) {
+            if (conocidas.containsKey(clave)) {
+                continue;
+            }
+            if (clave.startsWith("presupuesto.") && clave.endsWith(".ms")
+                    && clave.length() > "presupuesto..ms".length()) {
+                String algoritmo = clave.substring("presupuesto.".length(), clave.length() - ".ms".length());
+                try {
+                    GeneradorListas.obtenerEstrategia(algoritmo);
+                    continue;
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Clave de configuración desconocida: " + clave
+                        + " (" + e.getMessage() + ")", e);
+                }
+            }
+            throw new IllegalArgumentException("Clave de configuración desconocida: " + clave);
+        }
+    }
+
+    private static List<String> lista(Properties p, String clave) {
+        List<String> valores = new ArrayList<>();
+        for (String valor : p.getProperty(clave, "").split(",")) {
+            if (!valor.isBlank()) {
+                valores.add(valor.trim());
+            }
+        }
+        return List.copyOf(valores);
+    }
+
+    private static int entero(Properties p, String clave) {
+        return Integer.parseInt(p.getProperty(clave).trim());
+    }
+
+    private static double decimal(Properties p, String clave) {
+        return Double.parseDouble(p.getProperty(clave).trim());
+    }
+
+    // --- Getters ---
+    public List<String> getAlgoritmos() { return algoritmos; }
+    public List<String> getTiposLista() { return tiposLista; }
+    public List<String> getDistribuciones() { return distribuciones; }
+    public int getNInicial() { return nInicial; }
+    public double getTasaCrecimiento() { return tasaCrecimiento; }
+    public int getNMaximo() { return nMaximo; }
+    public int getRepeticiones() { return repeticiones; }
+    /** Presupuesto por algoritmo en ms; 0 = sin límite. */
+    public Map<String, Double> getPresupuestosMs() { return presupuestosMs; }
+    public long getTiempoMaximoMs() { return tiempoMaximoMs; }
+    public long getSemilla() { return semilla; }
+    /** Directorio de la caché de datos, o cadena vacía si no se usa. */
+    public String getDirectorioCache() { return directorioCache; }
+    /** Archivo del punto de control, o cadena vacía si no se usa. */
+    public String getArchivoPuntoControl() { return archivoPuntoControl; }
+    /** Fracción del heap para el modelo de memoria; 0 = sin modelo. */
+    public double getFraccionHeap() { return fraccionHeap; }
+    /** Heap de la JVM hija, o cadena vacía para medir en este proceso. */
+    public String getHeapCelda() { return heapCelda; }
+    public List<String> getOpcionesCelda() { return opcionesCelda; }
+    public ModoMedicion getModoMedicion() { return modoMedicion; }
+    public ModoSalida getModoSalida() { return modoSalida; }
+    /** Si las listas de nodos reutilizan sus nodos mediante {@link PoolNodos}. */
+    public boolean isPoolNodos() { return poolNodos; }
+
+    @Override
+    public String toString() {
+        return "Experimento: algoritmos " + algoritmos + ", listas " + tiposLista
+            + ", distribuciones " + distribuciones + ", n desde " + nInicial + " x" + tasaCrecimiento
+            + (nMaximo > 0 ? " hasta " + nMaximo : "") + ", " + repeticiones + " repeticiones";
+    }
+}
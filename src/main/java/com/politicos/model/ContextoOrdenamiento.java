@@ -0,0 +1,79 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Objects;
+
+/**
+ * Estado de una única invocación de ordenamiento: contadores de comparaciones e
+ * intercambios, instante de inicio y señal de cancelación.
+ *
+ * <p>Las estrategias no guardan estado propio; todo lo que cambia durante un ordenamiento
+ * vive aquí. Así una misma instancia de estrategia puede ordenar varias listas a la vez
+ * desde hilos distintos, siempre que cada invocación use su propio contexto.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class ContextoOrdenamiento {
+
+    /** Comparaciones realizadas; las estrategias del paquete lo incrementan directamente. */
+    long comparaciones;
+    /** Intercambios o reenlaces realizados; las estrategias del paquete lo incrementan directamente. */
+    long intercambios;
+    private final TokenCancelacion cancelacion;
+    private long inicioNanos;
+
+    public ContextoOrdenamiento() {
+        this(TokenCancelacion.NINGUNO);
+    }
+
+    public ContextoOrdenamiento(TokenCancelacion cancelacion) {
+        this.cancelacion = Objects.requireNonNull(cancelacion, "El token de cancelación no puede ser null");
+    }
+
+    /**
+     * Reinicia los contadores y toma el instante de inicio.
+     */
+    void iniciar() {
+        comparaciones = 0;
+        intercambios = 0;
+        inicioNanos = System.nanoTime();
+    }
+
+    /**
+     * Cierra la medición y devuelve el resultado de la invocación.
+     */
+    ResultadoOrdenamiento terminar() {
+        return new ResultadoOrdenamiento((System.nanoTime() - inicioNanos) / 1_000_000.0, comparaciones, intercambios);
+    }
+
+    /** @see TokenCancelacion#cancelado() */
+    boolean cancelado() {
+        return cancelacion.cancelado();
+    }
+
+    /** @see TokenCancelacion#canceladoAhora() */
+    boolean canceladoAhora() {
+        return cancelacion.canceladoAhora();
+    }
+
+    /** @see TokenCancelacion#isCancelado() */
+    boolean isCancelado() {
+        return cancelacion.isCancelado();
+    }
+
+    public TokenCancelacion getCancelacion() {
+        return cancelacion;
+    }
+
+    public long getComparaciones() {
+        return comparaciones;
+    }
+
+    public long getIntercambios() {
+        return intercambios;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Distribuciones de entrada incluidas y registro de distribuciones disponibles.
+ *
+ * <p>Además de las tres formas originales (aleatoria, ordenada e inversa) se incluyen
+ * formas que imitan datos reales: casi ordenados con un porcentaje de perturbación,
+ * pocos valores únicos, diente de sierra, tubos de órgano, patrimonio con sesgo Zipf
+ * y corridas ordenadas de longitud fija. Se pueden añadir distribuciones nuevas con
+ * {@link #registrar(GeneradorDistribucion)}.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class Distribuciones {
+
+    private static final Map<String, GeneradorDistribucion> registradas = new LinkedHashMap<>();
+
+    static {
+        registrar(aleatorio());
+        registrar(ordenado());
+        registrar(inverso());
+        registrar(casiOrdenado(5));
+        registrar(pocosUnicos(10));
+        registrar(dienteSierra(4));
+        registrar(organoTubos());
+        registrar(zipf(1.1, 10_000));
+        registrar(corridasOrdenadas(64));
+    }
+
+    private Distribuciones() {
+    }
+
+    // --- Registro ---
+
+    /**
+     * Registra (o reemplaza) una distribución por su nombre.
+     * @param distribucion La distribución a registrar.
+     */
+    public static synchronized void registrar(GeneradorDistribucion distribucion) {
+        Objects.requireNonNull(distribucion, "La distribución no puede ser null");
+        registradas.put(distribucion.getNombre(), distribucion);
+    }
+
+    /**
+     * Busca una distribución registrada.
+     * @param nombre El nombre de la distribución.
+     * @return La distribución.
+     * @throws IllegalArgumentException si no hay ninguna con ese nombre.
+     */
+    public static synchronized GeneradorDistribucion buscar(String nombre) {
+        GeneradorDistribucion distribucion = registradas.get(nombre);
+        if (distribucion == null) {
+            throw new IllegalArgumentException("Distribución desconocida: " + nombre
+                + ". Disponibles: " + registradas.keySet());
+        }
+        return distribucion;
+    }
+
+    public static synchronized Collection<GeneradorDistribucion> getRegistradas() {
+        return Collections.unmodifiableCollection(registradas.values());
+    }
+
+    // --- Distribuciones incluidas ---
+
+    /** Patrimonio uniforme. */
+    public static GeneradorDistribucion aleatorio() {
+        return crear("Aleatorio", MotorGeneracion::generarAleatorio);
+    }
+
+    /** Patrimonio estrictamente no decreciente. */
+    public static GeneradorDistribucion ordenado() {
+        return crear("Ordenado", (n, semilla) -> MotorGeneracion.generarMonotono(n, semilla, false));
+    }
+
+    /** Patrimonio no creciente. */
+    public static GeneradorDistribucion inverso() {
+        return crear("Inverso", (n, semilla) -> MotorGeneracion.generarMonotono(n, semilla, true));
+    }
+
+    /**
+     * Datos ordenados en los que aproximadamente el {@code porcentaje}% de los elementos
+     * se ha movido con intercambios aleatorios.
+     *
+     * @param porcentaje Porcentaje de elementos perturbados (0 a 100).
+     */
+    public static GeneradorDistribucion casiOrdenado(double porcentaje) {
+        if (porcentaje < 0 || porcentaje > 100) {
+            throw new IllegalArgumentException("El porcentaje debe estar entre 0 y 100.");
+        }
+        return crear("CasiOrdenado-" + formatear(porcentaje), (n, semilla) -> {
+            Politico[] datos = MotorGeneracion.generarMonotono(n, semilla, false);
+            if (n < 2) {
+                return datos;
+            }
+            // Cada intercambio desplaza dos elementos
+            long intercambios = Math.round(n * porcentaje / 200.0);
+            SplittableRandom aleatorio = new SplittableRandom(~semilla);
+            for (long k = 0; k < intercambios; k++) {
+                int i = aleatorio.nextInt(n);
+                int j = aleatorio.nextInt(n);
+                Politico temp = datos[i];
+                datos[i] = datos[j];
+                datos[j] = temp;
+            }
+            return datos;
+        });
+    }
+
+    /**
+     * Patrimonio tomado de solo {@code valores} cantidades distintas (muchos duplicados).
+     *
+     * @param valores Número de valores distintos.
+     */
+    public static GeneradorDistribucion pocosUnicos(int valores) {
+        validarPositivo(valores, "valores");
+        return crear("PocosUnicos-" + valores, (n, semilla) ->
+            MotorGeneracion.generar(n, semilla, (destino, desde, hasta, aleatorio) -> {
+                for (int i = desde; i < hasta; i++) {
+                    int dinero = 100 + aleatorio.nextInt(valores) * 1000;
+                    destino[i] = new Politico(MotorGeneracion.ID_BASE + i, dinero, MotorGeneracion.fechaAleatoria(aleatorio));
+                }
+            }));
+    }
+
+    /**
+     * Diente de sierra: {@code dientes} tramos ascendentes consecutivos.
+     *
+     * @param dientes Número de tramos ascendentes.
+     */
+    public static GeneradorDistribucion dienteSierra(int dientes) {
+        validarPositivo(dientes, "dientes");
+        return crear("DienteSierra-" + dientes, (n, semilla) -> {
+            int periodo = Math.max(1, (n + dientes - 1) / dientes);
+            return MotorGeneracion.generar(n, semilla, (destino, desde, hasta, aleatorio) -> {
+                for (int i = desde; i < hasta; i++) {
+                    long dinero = 100 + (long) (i % periodo) * 100 + aleatorio.nextInt(100);
+                    destino[i] = new Politico(MotorGeneracion.ID_BASE + i, dinero, MotorGeneracion.fechaAleatoria(aleatorio));
+                }
+            });
+        });
+    }
+
+    /**
+     * Tubos de órgano: primera mitad ascendente y segunda mitad descendente.
+     */
+    public static GeneradorDistribucion organoTubos() {
+        return crear("OrganoTubos", (n, semilla) ->
+            MotorGeneracion.generar(n, semilla, (destino, desde, hasta, aleatorio) -> {
+                for (int i = desde; i < hasta; i++) {
+                    long altura = Math.min(i, n - 1 - i);
+                    long dinero = 100 + altura * 100 + aleatorio.nextInt(100);
+                    destino[i] = new Politico(MotorGeneracion.ID_BASE + i, dinero, MotorGeneracion.fechaAleatoria(aleatorio));
+                }
+            }));
+    }
+
+    /**
+     * Patrimonio con sesgo Zipf: el valor de rango {@code k} (1 a {@code valores}) aparece con
+     * probabilidad proporcional a {@code 1 / k^s}. Los rangos bajos (patrimonios pequeños)
+     * se repiten mucho.
+     *
+     * @param s Exponente de la distribución (típicamente cerca de 1).
+     * @param valores Número de valores distintos posibles.
+     */
+    public static GeneradorDistribucion zipf(double s, int valores) {
+        validarPositivo(valores, "valores");
+        if (s <= 0) {
+            throw new IllegalArgumentException("El exponente de Zipf debe ser positivo.");
+        }
+        // Función de distribución acumulada, compartida (solo lectura) por todos los hilos
+        double[] acumulada = new double[valores];
+        double total = 0;
+        for (int k = 1; k <= valores; k++) {
+            total += 1.0 / Math.pow(k, s);
+            acumulada[k - 1] = total;
+        }
+        for (int k = 0; k < valores; k++) {
+            acumulada[k] /= total;
+        }
+        return crear("Zipf-" + formatear(s) + "-" + valores, (n, semilla) ->
+            MotorGeneracion.generar(n, semilla, (destino, desde, hasta, aleatorio) -> {
+                for (int i = desde; i < hasta; i++) {
+                    int rango = Arrays.binarySearch(acumulada, aleatorio.nextDouble());
+                    if (rango < 0) {
+                        rango = -rango - 1;
+                    }
+                    long dinero = 100 + (long) Math.min(rango, valores - 1) * 100;
+                    destino[i] = new Politico(MotorGeneracion.ID_BASE + i, dinero, MotorGeneracion.fechaAleatoria(aleatorio));
+                }
+            }));
+    }
+
+    /**
+     * Corridas ordenadas: datos aleatorios en los que cada tramo consecutivo de
+     * {@code longitud} elementos está ordenado por patrimonio.
+     *
+     * @param longitud Longitud de cada corrida.
+     */
+    public static GeneradorDistribucion corridasOrdenadas(int longitud) {
+        validarPositivo(longitud, "longitud");
+        return crear("Corridas-" + longitud, (n, semilla) -> {
+            Politico[] datos = MotorGeneracion.generarAleatorio(n, semilla);
+            int corridas = (n + longitud - 1) / longitud;
+            IntStream.range(0, corridas).parallel().forEach(c ->
+                Arrays.sort(datos, c * longitud, Math.min(n, (c + 1) * longitud)));
+            return datos;
+        });
+    }
+
+    // --- Auxiliares ---
+
+    private static GeneradorDistribucion crear(String nombre, BiFunction<Integer, Long, Politico[]> generador) {
+        return new GeneradorDistribucion() {
+            @Override
+            public String getNombre() {
+                return nombre;
+            }
+
+            @Override
+            public Politico[] generar(int n, long semilla) {
+                return generador.apply(n, semilla);
+            }
+
+            @Override
+            public String toString() {
+                return nombre;
+            }
+        };
+    }
+
+    private static void validarPositivo(int valor, String nombre) {
+        if (valor <= 0) {
+            throw new IllegalArgumentException("El parámetro '" + nombre + "' debe ser positivo.");
+        }
+    }
+
+    /** Da formato a un parámetro decimal sin ceros sobrantes (5.0 -> "5", 1.1 -> "1.1"). */
+    private static String formatear(double valor) {
+        return valor == Math.rint(valor) ? Long.toString((long) valor) : Double.toString(valor);
+    }
+}
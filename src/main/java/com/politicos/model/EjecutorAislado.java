@@ -0,0 +1,210 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ejecuta cada celda del experimento (distribución, tipo de lista, algoritmo, n) en una
+ * JVM hija lanzada con {@link ProcessBuilder}.
+ *
+ * <p>Así las mediciones de tamaños grandes no heredan la fragmentación del heap, las
+ * decisiones del JIT ni la basura de celdas anteriores, y un {@link OutOfMemoryError} en
+ * una celda no tumba el experimento completo. La JVM hija se lanza con el heap y las
+ * opciones configuradas y devuelve su resultado por la salida estándar en una línea
+ * con el prefijo {@value #PREFIJO_RESULTADO}; el resto de su salida se reenvía a la
+ * consola del proceso padre.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class EjecutorAislado {
+
+    static final String PREFIJO_RESULTADO = "RESULTADO;";
+    /** Código de salida de la JVM hija cuando se queda sin memoria. */
+    static final int SALIDA_SIN_MEMORIA = 3;
+    /** Código de salida de la JVM hija cuando la medición falla por otro motivo. */
+    static final int SALIDA_ERROR = 2;
+
+    /** Tamaño máximo del heap de la JVM hija (valor de {@code -Xmx}, por ejemplo "2g"). */
+    private final String heapMaximo;
+    /** Opciones adicionales para la JVM hija (por ejemplo {@code -XX:+UseParallelGC}). */
+    private final List<String> opcionesJvm;
+    /** Tiempo máximo por celda en milisegundos; 0 = sin límite. */
+    private long tiempoMaximoMs;
+
+    public EjecutorAislado(String heapMaximo, List<String> opcionesJvm) {
+        this.heapMaximo = Objects.requireNonNull(heapMaximo, "El heap máximo no puede ser null");
+        this.opcionesJvm = new ArrayList<>(Objects.requireNonNull(opcionesJvm, "Las opciones no pueden ser null"));
+    }
+
+    public EjecutorAislado(String heapMaximo) {
+        this(heapMaximo, List.of());
+    }
+
+    public void setTiempoMaximoMs(long tiempoMaximoMs) {
+        this.tiempoMaximoMs = tiempoMaximoMs;
+    }
+
+    /**
+     * Mide una celda en una JVM hija.
+     *
+     * @param directorioCache Directorio de la caché de datos que usará la JVM hija, o
+     *                        {@code null} para que genere los datos a partir de la semilla.
+     * @return El resultado de la celda (con {@code cancelado} si superó el tiempo máximo), o
+     *         {@code null} si la JVM hija falló: terminó con un código distinto de 0, no
+     *         escribió su resultado o se interrumpió la espera.
+     * @throws OutOfMemoryError si la JVM hija se quedó sin memoria (el heap del proceso padre
+     *                          no se ve afectado; se lanza para que el llamador deje de crecer n).
+     * @throws UncheckedIOException si no se pudo lanzar la JVM hija.
+     */
+    public ResultadoOrdenamiento ejecutar(String distribucion, String tipoLista, String algoritmo,
+                                          int n, long semilla, String directorioCache) {
+        List<String> comando = new ArrayList<>();
+        comando.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        comando.add("-Xmx" + heapMaximo);
+        comando.addAll(opcionesJvm);
+        comando.add("-cp");
+        comando.add(System.getProperty("java.class.path"));
+        comando.add(EjecutorAislado.class.getName());
+        comando.add(distribucion);
+        comando.add(tipoLista);
+        comando.add(algoritmo);
+        comando.add(Integer.toString(n));
+        comando.add(Long.toString(semilla));
+        comando.add(GestorOrdenamientos.getModoMedicion().name());
+        comando.add(Long.toString(GestorOrdenamientos.getTiempoMaximoMs()));
+        if (directorioCache != null) {
+            comando.add(directorioCache);
+        }
+
+        Process proceso;
+        try {
+            proceso = new ProcessBuilder(comando).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo lanzar la JVM hija", e);
+        }
+
+        // La salida se lee en otro hilo para poder aplicar el tiempo máximo con waitFor
+        ResultadoOrdenamiento[] resultado = new ResultadoOrdenamiento[1];
+        Thread lector = new Thread(() -> leerSalida(proceso, resultado), "lector-celda-aislada");
+        lector.setDaemon(true);
+        lector.start();
+
+        try {
+            boolean termino = tiempoMaximoMs > 0
+                ? proceso.waitFor(tiempoMaximoMs, TimeUnit.MILLISECONDS)
+                : proceso.waitFor() >= 0;
+            if (!termino) {
+                proceso.destroyForcibly();
+                System.err.println("Celda aislada cancelada por tiempo: " + algoritmo + " n = " + n);
+                // Igual que en el proceso padre: una muestra cancelada, no un fallo
+                ResultadoOrdenamiento cancelado = new ResultadoOrdenamiento(tiempoMaximoMs, 0, 0);
+                cancelado.cancelado = true;
+                return cancelado;
+            }
+            lector.join();
+        } catch (InterruptedException e) {
+            proceso.destroyForcibly();
+            Thread.currentThread().interrupt();
+            System.err.println("Espera de la celda aislada interrumpida: " + algoritmo + " n = " + n);
+            return null;
+        }
+
+        int salida = proceso.exitValue();
+        if (salida == SALIDA_SIN_MEMORIA) {
+            throw new OutOfMemoryError("La JVM hija (-Xmx" + heapMaximo + ") se quedó sin memoria con "
+                + algoritmo + " n = " + n);
+        }
+        if (salida != 0 || resultado[0] == null) {
+            System.err.println("La JVM hija terminó con código " + salida
+                + (resultado[0] == null ? " sin resultado" : "") + ": " + tipoLista + " " + algoritmo + " n = " + n);
+            return null;
+        }
+        return resultado[0];
+    }
+
+    private static void leerSalida(Process proceso, ResultadoOrdenamiento[] resultado) {
+        try (BufferedReader lector = new BufferedReader(
+                new InputStreamReader(proceso.getInputStream(), StandardCharsets.UTF_8))) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                if (linea.startsWith(PREFIJO_RESULTADO)) {
+                    resultado[0] = decodificar(linea);
+                } else {
+                    ImpresorListas.println(linea);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR leyendo la salida de la JVM hija: " + e.getMessage());
+        }
+    }
+
+    static String codificar(ResultadoOrdenamiento r) {
+        return PREFIJO_RESULTADO + r.tiempo + ";" + r.comparaciones + ";" + r.intercambios
+            + ";" + r.coleccionesGC + ";" + r.tiempoGC + ";" + r.cancelado;
+    }
+
+    static ResultadoOrdenamiento decodificar(String linea) {
+        String[] partes = linea.substring(PREFIJO_RESULTADO.length()).split(";");
+        ResultadoOrdenamiento r = new ResultadoOrdenamiento(
+            Double.parseDouble(partes[0]), Long.parseLong(partes[1]), Long.parseLong(partes[2]));
+        r.coleccionesGC = Long.parseLong(partes[3]);
+        r.tiempoGC = Double.parseDouble(partes[4]);
+        r.cancelado = partes.length > 5 && Boolean.parseBoolean(partes[5]);
+        return r;
+    }
+
+    /**
+     * Punto de entrada de la JVM hija.
+     * Argumentos: distribución, tipo de lista, algoritmo, n, semilla, modo de medición,
+     * tiempo máximo del ordenamiento (ms) y, opcionalmente, el directorio de la caché de datos.
+     */
+    public static void main(String[] args) {
+        if (args.length < 7) {
+            System.err.println("Uso: EjecutorAislado <distribucion> <lista> <algoritmo> <n> <semilla> <modoMedicion> <tiempoMaximoMs> [cache]");
+            System.exit(SALIDA_ERROR);
+        }
+        ImpresorListas.setModo(ModoSalida.NINGUNA);
+        GestorOrdenamientos.setModoMedicion(ModoMedicion.valueOf(args[5]));
+        GestorOrdenamientos.setTiempoMaximoMs(Long.parseLong(args[6]));
+        int n = Integer.parseInt(args[3]);
+        long semilla = Long.parseLong(args[4]);
+        int salida;
+        try {
+            GeneradorDistribucion distribucion = Distribuciones.buscar(args[0]);
+            Politico[] datos = (args.length > 7)
+                ? new CacheDatasets(args[7]).obtener(distribucion, n, semilla)
+                : distribucion.generar(n, semilla);
+            ListaEnlazadaBase<Politico> lista = GeneradorListas.crearLista(args[1]);
+            for (Politico p : datos) {
+                lista.insertarAlFinal(p);
+            }
+            datos = null;
+            ResultadoOrdenamiento resultado = GestorOrdenamientos.ejecutar(args[2],
+                GeneradorListas.obtenerEstrategia(args[2]), lista, new EstadisticasOrdenamiento());
+            ImpresorListas.finalizar();
+            if (resultado != null) {
+                System.out.println(codificar(resultado));
+                salida = 0;
+            } else {
+                salida = SALIDA_ERROR;
+            }
+        } catch (OutOfMemoryError e) {
+            salida = SALIDA_SIN_MEMORIA;
+        }
+        System.out.flush();
+        System.exit(salida);
+    }
+}
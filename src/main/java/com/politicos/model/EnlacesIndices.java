@@ -0,0 +1,59 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Enlaces "siguiente" de una {@link CadenaIndices}: {@code siguiente(i)} es la posición que
+ * sigue a {@code i}, o {@link CadenaIndices#FIN}. Las estrategias leen y reescriben la
+ * cadena solo a través de esta clase, así que una lista puede ordenarse sobre sus propios
+ * enlaces aunque no estén en un {@code int[]} del heap.
+ *
+ * <p>Solo hay dos implementaciones: {@link Arreglo} para las listas que enlazan con un
+ * {@code int[]} y la de {@link ListaPoliticosNativa}, que escribe directamente en sus
+ * registros. El constructor es de paquete para que no aparezcan más y las llamadas de los
+ * algoritmos sigan siendo bimórficas, que el compilador JIT resuelve en línea.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public abstract class EnlacesIndices {
+
+    EnlacesIndices() {
+    }
+
+    /**
+     * @param posicion Una posición enlazada.
+     * @return La posición que la sigue, o {@link CadenaIndices#FIN}.
+     */
+    public abstract int siguiente(int posicion);
+
+    /**
+     * Enlaza {@code siguiente} detrás de {@code posicion}.
+     * @param posicion Una posición enlazada.
+     * @param siguiente La posición que pasa a seguirla, o {@link CadenaIndices#FIN}.
+     */
+    public abstract void setSiguiente(int posicion, int siguiente);
+
+    /**
+     * Enlaces guardados en un arreglo, que se modifica directamente.
+     */
+    static final class Arreglo extends EnlacesIndices {
+        private final int[] siguientes;
+
+        Arreglo(int[] siguientes) {
+            this.siguientes = siguientes;
+        }
+
+        @Override
+        public int siguiente(int posicion) {
+            return siguientes[posicion];
+        }
+
+        @Override
+        public void setSiguiente(int posicion, int siguiente) {
+            siguientes[posicion] = siguiente;
+        }
+    }
+}
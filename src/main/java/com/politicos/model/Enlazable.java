@@ -0,0 +1,27 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Elemento que lleva sus propios enlaces, para las listas intrusivas ({@link ListaIntrusiva}):
+ * en lugar de envolverlo en un {@link NodoDoble}, la lista enlaza directamente los elementos.
+ * Un elemento solo puede estar en una lista intrusiva a la vez.
+ *
+ * @param <E> El propio tipo del elemento.
+ * @author devapps
+ * @version 1.0
+ */
+public interface Enlazable<E extends Enlazable<E>> {
+
+    /** @return El elemento siguiente en la lista, o {@code null} si es el último o no está en ninguna. */
+    E getSiguiente();
+
+    void setSiguiente(E siguiente);
+
+    /** @return El elemento anterior en la lista, o {@code null} si es el primero o no está en ninguna. */
+    E getAnterior();
+
+    void setAnterior(E anterior);
+}
@@ -6,6 +6,8 @@ package com.politicos.model;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  *
@@ -16,6 +18,15 @@ public class EstadisticasOrdenamiento {
     // Clave: "Tamaño_Algoritmo", por ejemplo: "1000_QuickSort"
     private Map<String, ResultadoOrdenamiento> acumulados = new HashMap<>();
     private Map<String, Integer> conteos = new HashMap<>();
+    // Muestras en las que hubo al menos una recolección de basura durante la medición
+    private Map<String, Integer> muestrasConGC = new HashMap<>();
+    // Clave: tamaño; valor: {memoria estimada por el modelo, pico medido} en bytes
+    private Map<Integer, long[]> memoria = new HashMap<>();
+    // Muestras canceladas por tiempo; no entran en los promedios
+    private Map<String, Integer> cancelaciones = new HashMap<>();
+
+    /** Se ajusta la complejidad solo con los tamaños más grandes: los pequeños están dominados por el ruido y el JIT. */
+    private static final int PUNTOS_AJUSTE = 5;
 
     public synchronized void agregarResultado(int tamanio, String algoritmo, ResultadoOrdenamiento resultado) {
         String clave = generarClave(tamanio, algoritmo);
@@ -27,8 +38,13 @@ public class EstadisticasOrdenamiento {
         acumulado.tiempo += resultado.tiempo;
         acumulado.comparaciones += resultado.comparaciones;
         acumulado.intercambios += resultado.intercambios;
+        acumulado.coleccionesGC += resultado.coleccionesGC;
+        acumulado.tiempoGC += resultado.tiempoGC;
 
         conteos.put(clave, conteos.get(clave) + 1);
+        if (resultado.afectadoPorGC()) {
+            muestrasConGC.merge(clave, 1, Integer::sum);
+        }
     }
 
     private String generarClave(int tamanio, String algoritmo) {
@@ -40,13 +56,95 @@ public class EstadisticasOrdenamiento {
         ResultadoOrdenamiento acumulado = acumulados.get(clave);
         int conteo = conteos.getOrDefault(clave, 1); // evitar división por 0
 
-        return new ResultadoOrdenamiento(
+        ResultadoOrdenamiento promedio = new ResultadoOrdenamiento(
             acumulado.tiempo / conteo,
             acumulado.comparaciones / conteo,
             acumulado.intercambios / conteo
         );
+        promedio.coleccionesGC = acumulado.coleccionesGC / conteo;
+        promedio.tiempoGC = acumulado.tiempoGC / conteo;
+        return promedio;
+    }
+
+    /**
+     * Devuelve cuántas muestras de la combinación tamaño/algoritmo se vieron afectadas por el GC.
+     */
+    public int getMuestrasConGC(int tamanio, String algoritmo) {
+        return muestrasConGC.getOrDefault(generarClave(tamanio, algoritmo), 0);
+    }
+
+    /**
+     * Registra una muestra que se canceló por tiempo. No se incluye en los promedios.
+     */
+    public synchronized void registrarCancelacion(int tamanio, String algoritmo) {
+        cancelaciones.merge(generarClave(tamanio, algoritmo), 1, Integer::sum);
+    }
+
+    public int getCancelaciones(int tamanio, String algoritmo) {
+        return cancelaciones.getOrDefault(generarClave(tamanio, algoritmo), 0);
+    }
+
+    /**
+     * Registra la memoria que el modelo estimó para un tamaño y el pico que se midió realmente.
+     */
+    public synchronized void registrarMemoria(int tamanio, long estimada, long medida) {
+        memoria.put(tamanio, new long[]{estimada, medida});
+    }
+
+    /**
+     * @return {estimada, medida} en bytes, o {@code null} si no se registró memoria para ese tamaño.
+     */
+    public long[] getMemoria(int tamanio) {
+        return memoria.get(tamanio);
+    }
+
+    public int getConteo(int tamanio, String algoritmo) {
+        return conteos.getOrDefault(generarClave(tamanio, algoritmo), 0);
     }
     
+    /**
+     * Ajusta una ley de potencias al tiempo promedio frente al tamaño para un algoritmo,
+     * usando los {@value #PUNTOS_AJUSTE} tamaños más grandes medidos.
+     *
+     * @return El ajuste, o {@code null} si aún no hay puntos suficientes.
+     */
+    public synchronized AjusteComplejidad ajustarComplejidad(String algoritmo) {
+        TreeMap<Integer, Double> tiempos = new TreeMap<>();
+        for (Map.Entry<String, ResultadoOrdenamiento> entry : acumulados.entrySet()) {
+            String[] partes = entry.getKey().split("_");
+            if (partes[1].equals(algoritmo)) {
+                int tamanio = Integer.parseInt(partes[0]);
+                tiempos.put(tamanio, entry.getValue().tiempo / conteos.get(entry.getKey()));
+            }
+        }
+        while (tiempos.size() > PUNTOS_AJUSTE) {
+            tiempos.pollFirstEntry();
+        }
+        double[] n = new double[tiempos.size()];
+        double[] t = new double[tiempos.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : tiempos.entrySet()) {
+            n[i] = entry.getKey();
+            t[i] = entry.getValue();
+            i++;
+        }
+        return AjusteComplejidad.ajustar(n, t);
+    }
+
+    /**
+     * Devuelve el tiempo promedio del mayor tamaño medido para un algoritmo, o -1 si no hay ninguno.
+     */
+    public synchronized double getUltimoTiempo(String algoritmo) {
+        int mayor = -1;
+        for (String clave : acumulados.keySet()) {
+            String[] partes = clave.split("_");
+            if (partes[1].equals(algoritmo)) {
+                mayor = Math.max(mayor, Integer.parseInt(partes[0]));
+            }
+        }
+        return (mayor < 0) ? -1 : obtenerPromedio(mayor, algoritmo).tiempo;
+    }
+
     public Map<String, ResultadoOrdenamiento> getPromedios() {
         Map<String, ResultadoOrdenamiento> promedios = new HashMap<>();
         Map<String, Integer> totalConteos = new HashMap<>();
@@ -106,13 +204,35 @@ public class EstadisticasOrdenamiento {
 
         for (Integer tamanio : promedios.keySet()) {
             System.out.println("Tamaño de arreglo: " + tamanio);
+            long[] mem = memoria.get(tamanio);
+            if (mem != null) {
+                System.out.printf("  Memoria -> Estimada: %.1f MB, Pico medido: %.1f MB%n",
+                    mem[0] / (1024.0 * 1024.0), mem[1] / (1024.0 * 1024.0));
+            }
             for (Map.Entry<String, ResultadoOrdenamiento> entry : promedios.get(tamanio).entrySet()) {
                 String algoritmo = entry.getKey();
                 ResultadoOrdenamiento promedio = entry.getValue();
-                System.out.printf("  [%s] Promedio -> Tiempo: %.2f ms, Comparaciones: %d, Intercambios: %d%n",
-                    algoritmo, promedio.tiempo, promedio.comparaciones, promedio.intercambios);
+                System.out.printf("  [%s] Promedio -> Tiempo: %.2f ms, Comparaciones: %d, Intercambios: %d, GC: %d/%d muestras (%.2f ms)%n",
+                    algoritmo, promedio.tiempo, promedio.comparaciones, promedio.intercambios,
+                    getMuestrasConGC(tamanio, algoritmo), getConteo(tamanio, algoritmo), promedio.tiempoGC);
             }
             System.out.println();
         }
+
+        for (Map.Entry<String, Integer> entry : new TreeMap<>(cancelaciones).entrySet()) {
+            String[] partes = entry.getKey().split("_");
+            System.out.printf("  [%s] Tiempo agotado con n = %s (%d muestras)%n", partes[1], partes[0], entry.getValue());
+        }
+
+        TreeSet<String> algoritmos = new TreeSet<>();
+        for (String clave : acumulados.keySet()) {
+            algoritmos.add(clave.split("_")[1]);
+        }
+        for (String algoritmo : algoritmos) {
+            AjusteComplejidad ajuste = ajustarComplejidad(algoritmo);
+            if (ajuste != null) {
+                System.out.printf("  [%s] Complejidad observada -> %s%n", algoritmo, ajuste);
+            }
+        }
     }
 }
@@ -4,10 +4,12 @@
  */
 package com.politicos.model;
 
+import java.util.Objects;
+
 /**
  /**
  * Interfaz funcional que define el contrato para las estrategias de ordenación
- * aplicables a una {@link ListaEnlazadaSimple}.
+ * aplicables a cualquier lista que implemente {@link TopologiaLista}.
  * Utiliza el patrón Strategy para permitir intercambiar algoritmos de ordenación.
  *
  * @param <T> El tipo de elementos en la lista, se espera que implemente {@link Comparable}.
@@ -17,16 +19,96 @@ package com.politicos.model;
 public interface EstrategiaOrdenamiento<T> {
 
     /**
-     * Ordena la lista enlazada simple proporcionada "in situ" (modificando la estructura original).
+     * Ordena la lista proporcionada "in situ" (modificando la estructura original).
      * Se asume que los elementos de tipo {@code T} son comparables entre sí.
      * La implementación específica del algoritmo puede modificar la referencia a la cabeza de la lista.
      *
-     * @param lista La {@link ListaEnlazadaSimple} que será ordenada. No debe ser null.
+     * @param lista La lista ({@link ListaEnlazadaSimple}, {@link ListaEnlazadaDoble} o
+     *              {@link ListaEnlazadaSimpleCircular}) que será ordenada. No debe ser null.
      * @throws ClassCastException si los elementos de la lista no implementan {@link Comparable}
      *                            (aunque la verificación principal se hace antes de llamar a este método).
      * @throws NullPointerException si {@code lista} es null.
      */
-    ResultadoOrdenamiento ordenar(ListaEnlazadaSimple<T> lista);
-    ResultadoOrdenamiento ordenar(ListaEnlazadaDoble<T> lista);
-    ResultadoOrdenamiento ordenar(ListaEnlazadaSimpleCircular<T> lista);
-}
\ No newline at end of file
+    default ResultadoOrdenamiento ordenar(TopologiaLista<T> lista) {
+        return ordenar(lista, new ContextoOrdenamiento());
+    }
+
+    /**
+     * Ordena la lista usando {@code contexto} para los contadores y la cancelación.
+     * La lista se desenlaza a una cadena lineal, se ordena con {@link #ordenarCadena}
+     * y se vuelve a enlazar, de modo que el mismo código sirve para los tres tipos de lista.
+     * Las listas que implementan {@link CadenaIndices} se ordenan con {@link #ordenarIndices},
+     * y las intrusivas ({@link CadenaEnlazable}) con {@link #ordenarEnlazados}.
+     *
+     * @param lista La lista a ordenar. No debe ser null.
+     * @param contexto El estado de esta invocación. No debe compartirse entre invocaciones simultáneas.
+     * @return El resultado de la invocación (tiempo, comparaciones, intercambios).
+     */
+    default ResultadoOrdenamiento ordenar(TopologiaLista<T> lista, ContextoOrdenamiento contexto) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null.");
+        contexto.iniciar();
+        if (lista instanceof CadenaIndices cadena) {
+            // Listas por índices: se ordenan reenlazando posiciones, sin materializar nodos
+            cadena.setPrimero(ordenarIndices(cadena, cadena.desenlazarIndices(), lista.getTamanno(), contexto));
+            return contexto.terminar();
+        }
+        if (lista instanceof CadenaEnlazable enlazable) {
+            // Listas intrusivas: se reenlazan los propios elementos
+            enlazable.ordenarEnlazados(this, contexto);
+            return contexto.terminar();
+        }
+        Nodo<T> cabeza = lista.desenlazar();
+        lista.reenlazar(ordenarCadena(cabeza, lista.getTamanno(), contexto));
+        return contexto.terminar();
+    }
+
+    /**
+     * Ordena una cadena lineal de nodos terminada en {@code null}. Las implementaciones
+     * no guardan estado entre invocaciones, por lo que una misma instancia puede usarse
+     * a la vez desde varios hilos con contextos distintos. Si el contexto se cancela,
+     * deben devolver igualmente una cadena con todos los nodos, aunque no esté ordenada.
+     *
+     * @param cabeza El primer nodo de la cadena, o {@code null} si está vacía.
+     * @param tamanno El número de nodos de la cadena.
+     * @param contexto Contadores y cancelación de esta invocación.
+     * @return La cabeza de la cadena ordenada.
+     */
+    Nodo<T> ordenarCadena(Nodo<T> cabeza, int tamanno, ContextoOrdenamiento contexto);
+
+    /**
+     * Ordena una {@link CadenaIndices}. Por defecto la recorre como cadena de nodos con una
+     * {@link VistaPosiciones} creada para esta llamada y la ordena con {@link #ordenarCadena},
+     * así que cualquier estrategia sirve sin más para las listas por índices. Una estrategia puede
+     * sobrescribirlo para enlazar directamente por posiciones, siempre que produzca los
+     * mismos contadores y respete la cancelación igual que la versión por nodos.
+     *
+     * @param cadena La lista columnar a ordenar.
+     * @param primero La posición de la cabeza, o {@link CadenaIndices#FIN}.
+     * @param tamanno El número de elementos enlazados.
+     * @param contexto Contadores y cancelación de esta invocación.
+     * @return La posición de la nueva cabeza.
+     */
+    @SuppressWarnings("unchecked") // Las estrategias solo usan compareTo, que la vista delega en la lista
+    default int ordenarIndices(CadenaIndices cadena, int primero, int tamanno, ContextoOrdenamiento contexto) {
+        VistaPosiciones vista = new VistaPosiciones(cadena);
+        EstrategiaOrdenamiento<VistaPosiciones.Posicion> porNodos =
+                (EstrategiaOrdenamiento<VistaPosiciones.Posicion>) (EstrategiaOrdenamiento<?>) this;
+        return vista.reenlazar(porNodos.ordenarCadena(vista.desenlazar(primero), tamanno, contexto));
+    }
+
+    /**
+     * Ordena una cadena de elementos {@link Enlazable} terminada en {@code null}, con el
+     * mismo algoritmo que {@link #ordenarCadena}, moviendo los propios elementos: los
+     * algoritmos que en nodos intercambian datos aquí reenlazan. Solo usa y modifica los
+     * enlaces {@code siguiente}; los anteriores los rehace la lista. Debe respetar la
+     * cancelación igual que la versión por nodos.
+     *
+     * @param <E> Tipo de los elementos.
+     * @param cabeza El primer elemento de la cadena, o {@code null} si está vacía.
+     * @param tamanno El número de elementos de la cadena.
+     * @param contexto Contadores y cancelación de esta invocación.
+     * @return La cabeza de la cadena ordenada.
+     */
+    <E extends Enlazable<E> & Comparable<? super E>> E ordenarEnlazados(E cabeza, int tamanno,
+            ContextoOrdenamiento contexto);
+}
@@ -0,0 +1,62 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Evento inmutable que describe el avance del experimento: qué celda se está midiendo,
+ * con qué tamaño, cuánto tiempo lleva el experimento y el último resultado obtenido.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class EventoProgreso {
+
+    public enum Tipo {
+        /** Comienza la medición de una celda. */
+        INICIO_CELDA,
+        /** Termina la medición de una celda; {@link #getResultado()} puede ser null si falló. */
+        FIN_CELDA,
+        /** El experimento completo ha terminado. */
+        FIN_EXPERIMENTO
+    }
+
+    private final Tipo tipo;
+    private final String distribucion;
+    private final String tipoLista;
+    private final String algoritmo;
+    private final int n;
+    private final long transcurridoMs;
+    private final ResultadoOrdenamiento resultado;
+
+    public EventoProgreso(Tipo tipo, String distribucion, String tipoLista, String algoritmo, int n,
+                          long transcurridoMs, ResultadoOrdenamiento resultado) {
+        this.tipo = tipo;
+        this.distribucion = distribucion;
+        this.tipoLista = tipoLista;
+        this.algoritmo = algoritmo;
+        this.n = n;
+        this.transcurridoMs = transcurridoMs;
+        this.resultado = resultado;
+    }
+
+    public static EventoProgreso finExperimento(long transcurridoMs) {
+        return new EventoProgreso(Tipo.FIN_EXPERIMENTO, null, null, null, 0, transcurridoMs, null);
+    }
+
+    public Tipo getTipo() { return tipo; }
+    public String getDistribucion() { return distribucion; }
+    public String getTipoLista() { return tipoLista; }
+    public String getAlgoritmo() { return algoritmo; }
+    public int getN() { return n; }
+    /** Tiempo transcurrido desde el inicio del experimento, en milisegundos. */
+    public long getTranscurridoMs() { return transcurridoMs; }
+    public ResultadoOrdenamiento getResultado() { return resultado; }
+
+    @Override
+    public String toString() {
+        return tipo + " " + distribucion + "/" + tipoLista + "/" + algoritmo + " n = " + n
+            + " (" + transcurridoMs + " ms)";
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Reutiliza las instancias de {@link LocalDate} (que son inmutables) para las fechas
+ * de nacimiento. Los conjuntos de datos grandes tienen millones de políticos pero solo
+ * unas decenas de miles de fechas distintas, así que compartirlas ahorra una asignación
+ * y unos 24 bytes por elemento.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class FechasCompartidas {
+
+    /** Primer día (epoch day) cubierto: 1900-01-01. */
+    private static final long DESDE = LocalDate.of(1900, 1, 1).toEpochDay();
+    /** Fechas ya creadas, de 1900 a 2100. */
+    private static final AtomicReferenceArray<LocalDate> FECHAS =
+        new AtomicReferenceArray<>((int) (LocalDate.of(2101, 1, 1).toEpochDay() - DESDE));
+
+    private FechasCompartidas() {
+    }
+
+    /**
+     * Devuelve la fecha del día epoch indicado, compartida si está dentro del rango cubierto.
+     * @param diaEpoch Días desde 1970-01-01.
+     * @return La fecha correspondiente.
+     */
+    public static LocalDate deDiaEpoch(long diaEpoch) {
+        long indice = diaEpoch - DESDE;
+        if (indice < 0 || indice >= FECHAS.length()) {
+            return LocalDate.ofEpochDay(diaEpoch);
+        }
+        LocalDate fecha = FECHAS.get((int) indice);
+        if (fecha == null) {
+            fecha = LocalDate.ofEpochDay(diaEpoch);
+            FECHAS.lazySet((int) indice, fecha); // Carrera benigna: las dos instancias son iguales
+        }
+        return fecha;
+    }
+}
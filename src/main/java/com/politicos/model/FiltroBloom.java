@@ -0,0 +1,272 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Filtro de Bloom opcional de una lista de nodos: un arreglo de bits donde cada dato
+ * insertado marca {@code k} posiciones derivadas de su {@code hashCode()}. Si alguna de
+ * las posiciones de un dato está a cero, el dato seguro que no está en la lista y la
+ * búsqueda termina sin recorrerla; si todas están a uno, puede estar (o ser un falso
+ * positivo) y la lista se recorre como siempre. Ocupa unos pocos bits por elemento, frente
+ * a las decenas de bytes de {@link IndiceHash}. Lo crea la lista al llamar a su método
+ * {@code activarFiltro()}.
+ *
+ * <p>Las {@code k} posiciones de un dato caen en un mismo bloque de {@link #BITS_BLOQUE}
+ * bits (una línea de caché), así que marcar o consultar un dato cuesta un fallo de caché
+ * en lugar de {@code k}. A cambio, con los mismos bits hay algo más de falsos positivos que
+ * en un filtro sin bloques, porque unos bloques se llenan más que otros.</p>
+ *
+ * <p>Un filtro de Bloom no admite borrados: los bits de los datos eliminados siguen
+ * marcados y solo aumentan los falsos positivos. Por eso el filtro cuenta las
+ * eliminaciones y, cuando superan un cuarto de lo insertado o la lista crece más allá de
+ * la capacidad del filtro, se reconstruye recorriendo la lista en la siguiente consulta.
+ * Así una carga masiva paga un solo recorrido, en la primera búsqueda, en lugar de uno por
+ * cada vez que el filtro se queda pequeño.</p>
+ *
+ * @param <T> Tipo de los elementos; deben tener {@code hashCode()} coherente con {@code equals()}.
+ * @author devapps
+ * @version 1.0
+ */
+public final class FiltroBloom<T> {
+
+    /** Bits por elemento por defecto: con 7 funciones, alrededor de un 1 % de falsos positivos. */
+    public static final int BITS_POR_ELEMENTO = 10;
+    /** Bits de cada bloque: 64 bytes, una línea de caché. */
+    public static final int BITS_BLOQUE = 512;
+    private static final int PALABRAS_BLOQUE = BITS_BLOQUE / Long.SIZE;
+    /** Capacidad mínima, para que una lista vacía o pequeña no reconstruya a cada inserción. */
+    private static final int CAPACIDAD_MINIMA = 64;
+
+    private final Supplier<Nodo<T>> cabeza;
+    private final int bitsPorElemento;
+    /** Posiciones por dato: {@code bitsPorElemento · ln 2}, que minimiza los falsos positivos. */
+    private final int funciones;
+
+    private long[] bits;
+    /** Número de bloques del filtro ({@code bits.length / PALABRAS_BLOQUE}). */
+    private int numBloques;
+    /** Elementos para los que se dimensionó el filtro. */
+    private int capacidad;
+    /** Datos marcados desde la última reconstrucción (con repeticiones). */
+    private int insertados;
+    /** Eliminaciones desde la última reconstrucción: sus bits siguen marcados. */
+    private int eliminados;
+
+    private long descartes;
+    private long falsosPositivos;
+    private int reconstrucciones;
+
+    /**
+     * Construye el filtro con los datos actuales de la lista. O(n).
+     *
+     * @param cabeza Devuelve la cabeza actual de la lista; en la circular el recorrido para al volver a ella.
+     * @param tamanno Tamaño actual de la lista.
+     * @param bitsPorElemento Bits del filtro por elemento de capacidad (al menos 1).
+     */
+    FiltroBloom(Supplier<Nodo<T>> cabeza, int tamanno, int bitsPorElemento) {
+        if (bitsPorElemento < 1) {
+            throw new IllegalArgumentException("El filtro necesita al menos un bit por elemento.");
+        }
+        this.cabeza = Objects.requireNonNull(cabeza);
+        this.bitsPorElemento = bitsPorElemento;
+        this.funciones = Math.max(1, Math.min(16, (int) Math.round(bitsPorElemento * Math.log(2))));
+        reconstruir(tamanno);
+    }
+
+    // --- Consultas ---
+
+    /**
+     * Comprueba si {@code dato} puede estar en la lista. Antes reconstruye el filtro si hubo
+     * demasiadas eliminaciones o la lista superó su capacidad.
+     *
+     * @param dato El dato buscado.
+     * @param tamanno Tamaño actual de la lista.
+     * @return {@code false} si el dato seguro que no está; {@code true} si puede estar.
+     */
+    boolean puedeContener(T dato, int tamanno) {
+        if (tamanno > capacidad || eliminados > insertados / 4) {
+            reconstruir(tamanno);
+        }
+        long h = mezclar(Objects.hashCode(dato));
+        int inicio = bloque(h) * PALABRAS_BLOQUE;
+        int h1 = (int) h;
+        int h2 = (h1 >>> 9) | 1;
+        for (int i = 0; i < funciones; i++) {
+            int posicion = (h1 + i * h2) & (BITS_BLOQUE - 1);
+            if ((bits[inicio + (posicion >>> 6)] & (1L << posicion)) == 0) {
+                descartes++;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // --- Avisos de la lista ---
+
+    /**
+     * La lista acaba de insertar {@code dato}.
+     * @param dato El dato insertado.
+     */
+    void agregar(T dato) {
+        long h = mezclar(Objects.hashCode(dato));
+        int inicio = bloque(h) * PALABRAS_BLOQUE;
+        int h1 = (int) h;
+        int h2 = (h1 >>> 9) | 1;
+        for (int i = 0; i < funciones; i++) {
+            int posicion = (h1 + i * h2) & (BITS_BLOQUE - 1);
+            bits[inicio + (posicion >>> 6)] |= 1L << posicion;
+        }
+        insertados++;
+    }
+
+    /**
+     * La lista acaba de eliminar un dato; sus bits se quedan hasta la próxima reconstrucción.
+     */
+    void eliminado() {
+        eliminados++;
+    }
+
+    /**
+     * La búsqueda de un dato que el filtro dejó pasar no lo encontró.
+     */
+    void falsoPositivo() {
+        falsosPositivos++;
+    }
+
+    /**
+     * Pone el filtro a cero, cuando la lista se vacía.
+     */
+    void vaciar() {
+        Arrays.fill(bits, 0L);
+        insertados = 0;
+        eliminados = 0;
+    }
+
+    /**
+     * Redimensiona el filtro con holgura para {@code tamanno} elementos y marca de nuevo los
+     * datos de la lista: tras muchas eliminaciones, o cuando la lista cambia de nodos sin
+     * pasar por las inserciones. O(n).
+     *
+     * @param tamanno Tamaño actual de la lista.
+     */
+    void reconstruir(int tamanno) {
+        if (bits != null) {
+            reconstrucciones++;
+        }
+        capacidad = Math.max(CAPACIDAD_MINIMA, tamanno + tamanno / 4); // Holgura para crecer sin reconstruir
+        long bloques = ((long) capacidad * bitsPorElemento + BITS_BLOQUE - 1) / BITS_BLOQUE;
+        numBloques = (int) Math.min(bloques, Integer.MAX_VALUE / PALABRAS_BLOQUE);
+        bits = new long[numBloques * PALABRAS_BLOQUE];
+        insertados = 0;
+        eliminados = 0;
+        Nodo<T> primero = cabeza.get();
+        Nodo<T> actual = primero;
+        while (actual != null) {
+            agregar(actual.getDato());
+            actual = actual.getSiguiente();
+            if (actual == primero) {
+                break; // Vuelta completa en la lista circular
+            }
+        }
+    }
+
+    // --- Estadísticas ---
+
+    /**
+     * Tasa de falsos positivos esperada con la ocupación actual: el promedio por bloque de
+     * {@code (bits a uno / BITS_BLOQUE)^k}. Incluye el efecto de los bits que dejaron los
+     * datos eliminados. Recorre el arreglo de bits.
+     * @return La probabilidad, entre 0 y 1, de que un dato ausente no se descarte.
+     */
+    public double getTasaFalsosPositivos() {
+        double suma = 0;
+        for (int inicio = 0; inicio < bits.length; inicio += PALABRAS_BLOQUE) {
+            int activos = 0;
+            for (int i = 0; i < PALABRAS_BLOQUE; i++) {
+                activos += Long.bitCount(bits[inicio + i]);
+            }
+            suma += Math.pow(activos / (double) BITS_BLOQUE, funciones);
+        }
+        return suma / numBloques;
+    }
+
+    /**
+     * Fracción de búsquedas de datos ausentes que el filtro no descartó, desde que se creó.
+     * @return La tasa observada, o 0 si aún no hubo búsquedas de datos ausentes.
+     */
+    public double getTasaObservada() {
+        long ausentes = descartes + falsosPositivos;
+        return (ausentes == 0) ? 0 : falsosPositivos / (double) ausentes;
+    }
+
+    /** @return Número de bits del filtro. */
+    public int getBits() {
+        return numBloques * BITS_BLOQUE;
+    }
+
+    /** @return Tamaño del arreglo de bits en bytes. */
+    public long getBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    /** @return Bits por elemento de capacidad con los que se creó el filtro. */
+    public int getBitsPorElemento() {
+        return bitsPorElemento;
+    }
+
+    /** @return Posiciones que marca cada dato. */
+    public int getFunciones() {
+        return funciones;
+    }
+
+    /** @return Elementos para los que está dimensionado el filtro. */
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /** @return Búsquedas que el filtro resolvió sin recorrer la lista. */
+    public long getDescartes() {
+        return descartes;
+    }
+
+    /** @return Búsquedas que el filtro dejó pasar y no encontraron el dato. */
+    public long getFalsosPositivos() {
+        return falsosPositivos;
+    }
+
+    /** @return Veces que el filtro se reconstruyó tras crearse. */
+    public int getReconstrucciones() {
+        return reconstrucciones;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FiltroBloom[%d KiB, k = %d, capacidad = %d, falsos positivos %.2f %% estimados / %.2f %% observados]",
+            getBytes() / 1024, funciones, capacidad, 100 * getTasaFalsosPositivos(), 100 * getTasaObservada());
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    /**
+     * Bloque de un hash: sus 32 bits altos llevados a {@code [0, numBloques)} sin división.
+     * Los bajos eligen las posiciones dentro del bloque ({@code h2} impar, para que las
+     * {@code k} posiciones sean distintas).
+     */
+    private int bloque(long h) {
+        return (int) (((h >>> 32) * numBloques) >>> 32);
+    }
+
+    /** Dispersa {@code hashCode()}, que suele ser secuencial (IDs), en 64 bits. */
+    private static long mezclar(int hash) {
+        long z = hash * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
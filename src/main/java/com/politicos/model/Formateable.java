@@ -0,0 +1,39 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Elementos capaces de escribir su representación textual directamente en un
+ * {@link StringBuilder} suministrado por el llamador, sin crear cadenas intermedias.
+ * Las listas lo usan al imprimir para no llamar a {@code toString()} por cada elemento.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public interface Formateable {
+
+    /**
+     * Añade la representación textual de este objeto al final de {@code destino}.
+     * Debe producir el mismo texto que {@code toString()}.
+     *
+     * @param destino El búfer donde escribir. No debe ser null.
+     */
+    void formatearEn(StringBuilder destino);
+
+    /**
+     * Añade {@code dato} a {@code destino}, usando {@link #formatearEn(StringBuilder)}
+     * cuando el dato lo soporta y {@code toString()} en caso contrario.
+     *
+     * @param destino El búfer donde escribir.
+     * @param dato El dato a escribir (puede ser null).
+     */
+    static void anexar(StringBuilder destino, Object dato) {
+        if (dato instanceof Formateable) {
+            ((Formateable) dato).formatearEn(destino);
+        } else {
+            destino.append(dato);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Contrato para los generadores de datos de entrada (distribuciones) de los experimentos.
+ * Cada implementación decide la "forma" de los datos: aleatorios, casi ordenados,
+ * con muchos duplicados, etc. Se registran en {@link Distribuciones}.
+ *
+ * <p>Las implementaciones deben ser deterministas: la misma semilla y el mismo
+ * {@code n} producen siempre los mismos datos.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public interface GeneradorDistribucion {
+
+    /**
+     * Nombre único de la distribución, usado en los reportes y en la configuración.
+     * @return El nombre de la distribución.
+     */
+    String getNombre();
+
+    /**
+     * Genera {@code n} políticos con esta distribución.
+     *
+     * @param n Número de elementos.
+     * @param semilla Semilla que determina por completo el resultado.
+     * @return Un arreglo nuevo de longitud {@code n}.
+     */
+    Politico[] generar(int n, long semilla);
+}
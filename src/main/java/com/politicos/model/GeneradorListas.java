@@ -4,93 +4,254 @@
  */
 package com.politicos.model;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
-import java.util.function.BiConsumer;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 /**
  *
  * @author USUARIO
  */
 public class GeneradorListas {
-    private static final Random random = new Random();
-    private static final int ID_BASE = 1000;
-    ListaEnlazadaBase<Politico> lista;
+    /** Semilla base: con la misma semilla se generan exactamente los mismos datos. */
+    private final long semilla;
+    /** Caché opcional de conjuntos de datos; si es null siempre se generan. */
+    private CacheDatasets cache;
+    /** Registro opcional de celdas completadas, para reanudar un experimento interrumpido. */
+    private PuntoControl puntoControl;
+    /** Si no es null, cada celda se mide en una JVM hija en lugar de en este proceso. */
+    private EjecutorAislado ejecutorAislado;
+    /** Modelo de memoria opcional: si está, el crecimiento de n se detiene antes de agotar el heap. */
+    private ModeloMemoria modeloMemoria;
+    /** Reservas de nodos opcionales para las listas Simple, Circular y Doble; null = {@code new} por nodo. */
+    private PoolNodos<Politico, Nodo<Politico>> poolNodos;
+    private PoolNodos<Politico, NodoDoble<Politico>> poolNodosDobles;
+    /** Presupuesto de tiempo por muestra (ms) de cada algoritmo; sin entrada = sin límite. */
+    private final Map<String, Double> presupuestosMs = new HashMap<>();
+    /** Celdas "distribución/lista/algoritmo" cuyo tiempo previsto ya superó el presupuesto. */
+    private final Set<String> fueraDePresupuesto = new HashSet<>();
+    /** Receptor opcional de eventos de progreso (por ejemplo, un panel de seguimiento). */
+    private OyenteProgreso oyenteProgreso;
+    /** Instante de creación, para el tiempo transcurrido de los eventos de progreso. */
+    private final long inicioNanos = System.nanoTime();
+    /** Algoritmos disponibles. */
+    public static final List<String> ALGORITMOS = List.of("Burbuja", "Inserción", "MergeSort", "QuickSort");
+    /** Tipos de lista disponibles. */
+    public static final List<String> TIPOS_LISTA = List.of("Simple", "Doble", "Circular", "Desenrollada", "Columnas", "Nativa",
+        "SimpleIndices", "DobleIndices", "CircularIndices", "Xor", "Intrusiva", "SimpleHash", "DobleHash", "CircularHash",
+        "SimpleBloom", "DobleBloom", "CircularBloom");
+    /** Estrategias compartidas: no tienen estado, el de cada ejecución va en su contexto. */
+    private static final EstrategiaOrdenamiento<Politico> BURBUJA = new OrdenamientoBurbuja<>();
+    private static final EstrategiaOrdenamiento<Politico> INSERCION = new OrdenamientoInsercion<>();
+    private static final EstrategiaOrdenamiento<Politico> MERGE = new OrdenamientoMerge<>();
+    private static final EstrategiaOrdenamiento<Politico> QUICKSORT = new OrdenamientoQuickSort<>();
+    /** Algoritmos que se miden en cada celda, en orden. */
+    private List<String> algoritmos = ALGORITMOS;
+    /** Muestras por celda. */
+    private int repeticiones = 1;
+    /** Tamaño máximo de la serie; 0 = sin límite (solo la memoria o el presupuesto la detienen). */
+    private int nMaximo;
     
     public GeneradorListas() {   
+        this(new SplittableRandom().nextLong());
     }
+
+    public GeneradorListas(long semilla) {
+        this.semilla = semilla;
+    }
+
+    public long getSemilla() {
+        return semilla;
+    }
+
+    public void setCache(CacheDatasets cache) {
+        this.cache = cache;
+    }
+
+    public void setPuntoControl(PuntoControl puntoControl) {
+        this.puntoControl = puntoControl;
+    }
+
+    public void setEjecutorAislado(EjecutorAislado ejecutorAislado) {
+        this.ejecutorAislado = ejecutorAislado;
+    }
+
+    /**
+     * Activa o desactiva las reservas de nodos: con ellas, la lista de cada celda y los
+     * clones que se ordenan reutilizan los mismos nodos en lugar de crearlos uno a uno.
+     * Al terminar con cada lista los nodos se sueltan, así que el modelo de memoria sigue
+     * siendo válido.
+     */
+    public void setPoolNodos(boolean usar) {
+        this.poolNodos = usar ? PoolNodos.simples() : null;
+        this.poolNodosDobles = usar ? PoolNodos.dobles() : null;
+    }
+
+    public void setModeloMemoria(ModeloMemoria modeloMemoria) {
+        this.modeloMemoria = modeloMemoria;
+    }
+
+    /**
+     * Selecciona qué algoritmos se miden y en qué orden.
+     *
+     * @throws IllegalArgumentException si algún nombre no corresponde a un algoritmo conocido.
+     */
+    public void setAlgoritmos(List<String> algoritmos) {
+        for (String algoritmo : algoritmos) {
+            obtenerEstrategia(algoritmo); // Valida el nombre
+        }
+        this.algoritmos = List.copyOf(algoritmos);
+    }
+
+    public void setRepeticiones(int repeticiones) {
+        if (repeticiones < 1) {
+            throw new IllegalArgumentException("Debe haber al menos una repetición.");
+        }
+        this.repeticiones = repeticiones;
+    }
+
+    public void setNMaximo(int nMaximo) {
+        this.nMaximo = nMaximo;
+    }
+
+    public void setOyenteProgreso(OyenteProgreso oyenteProgreso) {
+        this.oyenteProgreso = oyenteProgreso;
+    }
+
+    /**
+     * Milisegundos transcurridos desde que se creó el generador.
+     */
+    public long getTranscurridoMs() {
+        return (System.nanoTime() - inicioNanos) / 1_000_000;
+    }
+
+    /**
+     * Fija el tiempo máximo previsto por muestra para un algoritmo. Cuando el ajuste de
+     * complejidad predice que el siguiente tamaño lo supera, el algoritmo deja de medirse
+     * para esa lista y distribución.
+     *
+     * @param algoritmo Nombre del algoritmo (por ejemplo "Burbuja").
+     * @param presupuestoMs Tiempo máximo en milisegundos; 0 o negativo elimina el límite.
+     */
+    public void setPresupuesto(String algoritmo, double presupuestoMs) {
+        if (presupuestoMs > 0) {
+            presupuestosMs.put(algoritmo, presupuestoMs);
+        } else {
+            presupuestosMs.remove(algoritmo);
+        }
+    }
+
+    /**
+     * Aplica el mismo presupuesto de tiempo a todos los algoritmos.
+     */
+    public void setPresupuesto(double presupuestoMs) {
+        for (String algoritmo : ALGORITMOS) {
+            setPresupuesto(algoritmo, presupuestoMs);
+        }
+    }
+
+    /**
+     * Ejecuta el experimento para una distribución y los tipos de lista indicados.
+     *
+     * @param n Tamaño inicial.
+     * @param tasaCrecimiento Factor por el que se multiplica {@code n} en cada paso.
+     * @param distribucion Generador de los datos de entrada.
+     * @param porTipoLista Estadísticas de cada tipo de lista a medir ("Simple", "Doble", "Circular"),
+     *                     en el orden en que se medirán.
+     */
     public void ejecutar(
         int n,
         double tasaCrecimiento,
-        EstadisticasOrdenamiento estadisticasSimpleAleatorio,
-        EstadisticasOrdenamiento estadisticasDobleAleatorio,
-        EstadisticasOrdenamiento estadisticasCircularAleatorio,
-        EstadisticasOrdenamiento estadisticasSimpleOrdenado,
-        EstadisticasOrdenamiento estadisticasDobleOrdenado,
-        EstadisticasOrdenamiento estadisticasCircularOrdenado,
-        EstadisticasOrdenamiento estadisticasSimpleInverso,
-        EstadisticasOrdenamiento estadisticasDobleInverso,
-        EstadisticasOrdenamiento estadisticasCircularInverso
+        GeneradorDistribucion distribucion,
+        Map<String, EstadisticasOrdenamiento> porTipoLista
     ) {
-        generador("Aleatorio", this::generarAleatorio, n, tasaCrecimiento,
-            estadisticasSimpleAleatorio, estadisticasDobleAleatorio, estadisticasCircularAleatorio);
-
-        generador("Ordenado", this::generarOrdenado, n, tasaCrecimiento,
-            estadisticasSimpleOrdenado, estadisticasDobleOrdenado, estadisticasCircularOrdenado);
-
-        generador("Inverso", this::generarInverso, n, tasaCrecimiento,
-            estadisticasSimpleInverso, estadisticasDobleInverso, estadisticasCircularInverso);
+        Objects.requireNonNull(distribucion, "La distribución no puede ser null");
+        Objects.requireNonNull(porTipoLista, "Las estadísticas no pueden ser null");
+        if (tasaCrecimiento <= 1) {
+            throw new IllegalArgumentException("La tasa de crecimiento debe ser mayor que 1.");
+        }
+        for (String tipoLista : porTipoLista.keySet()) {
+            crearLista(tipoLista); // Valida el nombre antes de empezar
+        }
+        generador(distribucion, n, tasaCrecimiento, porTipoLista);
     }
 
     private void generador(
-        String tipo,
-        BiConsumer<List<Politico>, Integer> generador,
+        GeneradorDistribucion distribucion,
         int n,
         double tasaCrecimiento,
-        EstadisticasOrdenamiento estadisticasSimple,
-        EstadisticasOrdenamiento estadisticasDoble,
-        EstadisticasOrdenamiento estadisticasCircular
+        Map<String, EstadisticasOrdenamiento> porTipoLista
     ) {
+        String tipo = distribucion.getNombre();
+        Set<String> tiposLista = porTipoLista.keySet();
+        if (puntoControl != null) {
+            int restaurados = 0;
+            for (Map.Entry<String, EstadisticasOrdenamiento> entry : porTipoLista.entrySet()) {
+                restaurados += puntoControl.restaurar(tipo, entry.getKey(), entry.getValue());
+            }
+            if (restaurados > 0) {
+                ImpresorListas.println("Reanudando " + tipo + ": " + restaurados + " celdas ya completadas");
+            }
+        }
         try {
-            while (true) {
-                System.out.println("\n\t======= " + tipo.toUpperCase() + " - n = " + n + " =======");
-
-                // Paso 1: Generar datos base
-                List<Politico> datos = new ArrayList<>();
-                generador.accept(datos, n);
-
-                // Paso 2: Lista Simple
-                ListaEnlazadaSimple<Politico> listaSimple = new ListaEnlazadaSimple<>();
-                cargarDatos(listaSimple, datos);
-                listaSimple.imprimir();
-                System.out.println("\t\t==== Lista Simple ====");
-                ordenar(listaSimple, estadisticasSimple);
-                limpiar(listaSimple);
-
-                // Paso 3: Lista Doble
-                ListaEnlazadaDoble<Politico> listaDoble = new ListaEnlazadaDoble<>();
-                cargarDatos(listaDoble, datos);
-                listaDoble.imprimir();
-                System.out.println("\t\t==== Lista Doble ====");
-                ordenar(listaDoble, estadisticasDoble);
-                limpiar(listaDoble);
-
-                // Paso 4: Lista Circular
-                ListaEnlazadaSimpleCircular<Politico> listaCircular = new ListaEnlazadaSimpleCircular<>();
-                cargarDatos(listaCircular, datos);
-                listaCircular.imprimir();
-                System.out.println("\t\t==== Lista Circular ====");
-                ordenar(listaCircular, estadisticasCircular);
-                limpiar(listaCircular);
+            // La serie termina en nMaximo o cuando el tamaño ya no puede crecer más
+            for (int anterior = -1; n > anterior && (nMaximo <= 0 || n <= nMaximo);
+                    anterior = n, n = siguienteTamanio(n, tasaCrecimiento)) {
+                if (modeloMemoria != null && ejecutorAislado == null && !cabeAlguna(tiposLista, n)) {
+                    ImpresorListas.println("Se detiene " + tipo + " en n = " + n
+                        + ": ningún tipo de lista cabe en los "
+                        + aMegas(modeloMemoria.getDisponible()) + " MB disponibles");
+                    break;
+                }
+                if (todoFueraDePresupuesto(tipo, tiposLista)) {
+                    ImpresorListas.println("Se detiene " + tipo + " en n = " + n
+                        + ": todos los algoritmos superarían su presupuesto de tiempo");
+                    break;
+                }
+                if (!hayPendientes(tipo, tiposLista, n)) {
+                    // Tamaño ya medido en una ejecución anterior: ni siquiera se generan los datos
+                    continue;
+                }
+                long semillaPaso = MotorGeneracion.derivarSemilla(semilla, tipo, n);
+                ImpresorListas.println("\n\t======= " + tipo.toUpperCase() + " - n = " + n
+                    + " (semilla " + semillaPaso + ") =======");
 
-                datos = null;
-                System.gc();
+                if (ejecutorAislado != null) {
+                    // Los datos los genera (o lee de la caché) cada JVM hija
+                    for (Map.Entry<String, EstadisticasOrdenamiento> entry : porTipoLista.entrySet()) {
+                        medirAislado(tipo, entry.getKey(), n, semillaPaso, entry.getValue());
+                    }
+                    continue;
+                }
+
+                // Datos base: todas las listas comparten los mismos objetos
+                Politico[] datos = (cache != null)
+                    ? cache.obtener(distribucion, n, semillaPaso)
+                    : distribucion.generar(n, semillaPaso);
+
+                for (Map.Entry<String, EstadisticasOrdenamiento> entry : porTipoLista.entrySet()) {
+                    String tipoLista = entry.getKey();
+                    if (!hayPendientes(tipo, tipoLista, n) || !cabe(tipoLista, n)) {
+                        continue;
+                    }
+                    if (modeloMemoria != null) {
+                        ModeloMemoria.reiniciarPico();
+                    }
+                    ListaEnlazadaBase<Politico> lista = crearLista(tipoLista, poolNodos, poolNodosDobles);
+                    cargarDatos(lista, datos);
+                    ImpresorListas.imprimir(lista);
+                    ImpresorListas.println("\t\t==== Lista " + tipoLista + " ====");
+                    ordenar(lista, tipo, tipoLista, entry.getValue());
+                    registrarMemoria(n, tipoLista, entry.getValue());
+                    limpiar(lista);
+                }
 
-                // Siguiente iteración
-                n = (int) Math.round(n * tasaCrecimiento);
+                datos = null;
+                GestorOrdenamientos.liberarMemoria();
                 // Descomentar el siguiente condicional si desea hacer pruebas o ver las estadisticas mas rapido
                 /*
                 if (n > 100000) {
@@ -99,63 +260,285 @@ public class GeneradorListas {
                 */
             }
         } catch (OutOfMemoryError e) {
+            // Último recurso: el modelo de memoria debería haber detenido el bucle antes
             System.err.println("Se ha agotado la memoria interna con tipo: " + tipo);
         }
     }
 
-    private void cargarDatos(ListaEnlazadaBase<Politico> lista, List<Politico> datos) {
-        for (Politico p : datos) {
-            lista.insertarAlFinal(new Politico(p.getId(), p.getDinero(), p.getFechaNacimiento()));
-        }
+    /**
+     * Siguiente tamaño de la serie; siempre crece al menos en uno aunque la tasa sea pequeña,
+     * salvo en el tamaño máximo de un arreglo, donde devuelve el mismo {@code n}.
+     */
+    private static int siguienteTamanio(int n, double tasaCrecimiento) {
+        long siguiente = Math.max(n + 1L, Math.round(n * tasaCrecimiento));
+        return (int) Math.min(siguiente, Integer.MAX_VALUE - 8);
     }
 
-    protected void generarAleatorio(List<Politico> datos, int n) {
-        for (int i = 0; i < n; i++) {
-            int dinero = 100 + random.nextInt(1_000_000);
-            LocalDate fecha = LocalDate.of(
-                random.nextInt(60) + 1940,
-                random.nextInt(12) + 1,
-                random.nextInt(28) + 1
-            );
-            datos.add(new Politico(ID_BASE + i, dinero, fecha));
+    /**
+     * Indica si el modelo de memoria prevé que un paso de tamaño n con ese tipo de lista cabe en el heap.
+     */
+    private boolean cabe(String tipoLista, int n) {
+        return modeloMemoria == null || modeloMemoria.cabe(n, tipoLista);
+    }
+
+    private boolean cabeAlguna(Set<String> tiposLista, int n) {
+        for (String tipoLista : tiposLista) {
+            if (cabe(tipoLista, n)) {
+                return true;
+            }
         }
+        return false;
     }
 
-    protected void generarInverso(List<Politico> datos, int n) {
-        int dineroBase = 100 + random.nextInt(5000);
-        for (int i = 0; i < n; i++) {
-            LocalDate fecha = LocalDate.of(
-                random.nextInt(60) + 1940,
-                random.nextInt(12) + 1,
-                random.nextInt(28) + 1
-            );
-            datos.add(0, new Politico(ID_BASE + i, dineroBase, fecha)); // insertar al inicio
-            dineroBase += random.nextInt(5000);
+    /**
+     * Guarda en las estadísticas la memoria estimada por el modelo y el pico medido del paso.
+     */
+    private void registrarMemoria(int n, String tipoLista, EstadisticasOrdenamiento estadisticas) {
+        if (modeloMemoria != null) {
+            estadisticas.registrarMemoria(n, modeloMemoria.estimar(n, tipoLista),
+                Math.max(0, ModeloMemoria.picoUsado() - modeloMemoria.getUsoBase()));
         }
     }
 
-    protected void generarOrdenado(List<Politico> datos, int n) {
-        int dineroBase = 100 + random.nextInt(5000);
-        for (int i = 0; i < n; i++) {
-            LocalDate fecha = LocalDate.of(
-                random.nextInt(60) + 1940,
-                random.nextInt(12) + 1,
-                random.nextInt(28) + 1
-            );
-            datos.add(new Politico(ID_BASE + i, dineroBase, fecha));
-            dineroBase += random.nextInt(5000);
+    private static long aMegas(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    private void cargarDatos(ListaEnlazadaBase<Politico> lista, Politico[] datos) {
+        for (Politico p : datos) {
+            lista.insertarAlFinal(p);
         }
     }
 
     protected void limpiar(ListaEnlazadaBase<Politico> lista) {
+        lista.liberar();
         lista = null;
-        System.gc();
+        if (poolNodos != null) {
+            // Los nodos solo se reutilizan dentro de una celda: soltarlos antes de la siguiente
+            poolNodos.vaciar();
+            poolNodosDobles.vaciar();
+        }
+        GestorOrdenamientos.liberarMemoria();
+    }
+
+    protected void ordenar(ListaEnlazadaBase<Politico> lista, String distribucion, String tipoLista,
+                           EstadisticasOrdenamiento estadisticas) {
+        int n = lista.getTamanno();
+        for (String algoritmo : algoritmos) {
+            for (int r = repeticionesHechas(distribucion, tipoLista, algoritmo, n); r < repeticiones; r++) {
+                if (!dentroDePresupuesto(distribucion, tipoLista, algoritmo, n, estadisticas)) {
+                    break;
+                }
+                publicar(EventoProgreso.Tipo.INICIO_CELDA, distribucion, tipoLista, algoritmo, n, null);
+                ResultadoOrdenamiento resultado =
+                    GestorOrdenamientos.ejecutar(algoritmo, obtenerEstrategia(algoritmo), lista, estadisticas);
+                publicar(EventoProgreso.Tipo.FIN_CELDA, distribucion, tipoLista, algoritmo, n, resultado);
+                if (resultado != null && resultado.cancelado) {
+                    // Un tamaño mayor tardaría aún más: se deja de medir esta celda
+                    fueraDePresupuesto.add(claveCelda(distribucion, tipoLista, algoritmo));
+                } else if (resultado != null && puntoControl != null) {
+                    puntoControl.registrar(distribucion, tipoLista, algoritmo, n, resultado);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mide los algoritmos pendientes de una lista, cada uno en su propia JVM hija.
+     * Un {@link OutOfMemoryError} de la JVM hija se propaga para detener el crecimiento de n.
+     * Si la JVM hija se cancela por tiempo o falla, la celda deja de medirse en tamaños mayores,
+     * que tardarían más o fallarían igual.
+     */
+    private void medirAislado(String distribucion, String tipoLista, int n, long semillaPaso,
+                              EstadisticasOrdenamiento estadisticas) {
+        String directorioCache = (cache != null) ? cache.getDirectorio().toString() : null;
+        for (String algoritmo : algoritmos) {
+            for (int r = repeticionesHechas(distribucion, tipoLista, algoritmo, n); r < repeticiones; r++) {
+                if (!dentroDePresupuesto(distribucion, tipoLista, algoritmo, n, estadisticas)) {
+                    break;
+                }
+                ImpresorListas.println("\t\t==== Lista " + tipoLista + " - " + algoritmo + " (JVM aislada) ====");
+                publicar(EventoProgreso.Tipo.INICIO_CELDA, distribucion, tipoLista, algoritmo, n, null);
+                ResultadoOrdenamiento resultado =
+                    ejecutorAislado.ejecutar(distribucion, tipoLista, algoritmo, n, semillaPaso, directorioCache);
+                publicar(EventoProgreso.Tipo.FIN_CELDA, distribucion, tipoLista, algoritmo, n, resultado);
+                if (resultado == null) {
+                    fueraDePresupuesto.add(claveCelda(distribucion, tipoLista, algoritmo));
+                    ImpresorListas.println(String.format("Se omite %s en lista %s (%s) desde n = %d: la JVM hija falló",
+                        algoritmo, tipoLista, distribucion, n));
+                } else if (resultado.cancelado) {
+                    estadisticas.registrarCancelacion(n, algoritmo);
+                    fueraDePresupuesto.add(claveCelda(distribucion, tipoLista, algoritmo));
+                } else {
+                    estadisticas.agregarResultado(n, algoritmo, resultado);
+                    if (puntoControl != null) {
+                        puntoControl.registrar(distribucion, tipoLista, algoritmo, n, resultado);
+                    }
+                }
+            }
+        }
+    }
+
+    private void publicar(EventoProgreso.Tipo tipo, String distribucion, String tipoLista, String algoritmo,
+                          int n, ResultadoOrdenamiento resultado) {
+        if (oyenteProgreso != null) {
+            oyenteProgreso.onEvento(new EventoProgreso(tipo, distribucion, tipoLista, algoritmo, n,
+                getTranscurridoMs(), resultado));
+        }
+    }
+
+    /**
+     * Indica si queda alguna celda (algoritmo) por medir para los tipos de lista indicados y tamaño n.
+     */
+    private boolean hayPendientes(String distribucion, Set<String> tiposLista, int n) {
+        for (String tipoLista : tiposLista) {
+            if (hayPendientes(distribucion, tipoLista, n)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hayPendientes(String distribucion, String tipoLista, int n) {
+        for (String algoritmo : algoritmos) {
+            if (repeticionesHechas(distribucion, tipoLista, algoritmo, n) < repeticiones
+                    && !fueraDePresupuesto.contains(claveCelda(distribucion, tipoLista, algoritmo))) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    protected void ordenar(ListaEnlazadaBase<Politico> lista, EstadisticasOrdenamiento estadisticas) {
-        GestorOrdenamientos.ejecutar("Burbuja", new OrdenamientoBurbuja<>(), lista, estadisticas);
-        GestorOrdenamientos.ejecutar("Inserción", new OrdenamientoInsercion<>(), lista, estadisticas);
-        GestorOrdenamientos.ejecutar("MergeSort", new OrdenamientoMerge<>(), lista, estadisticas);
-        GestorOrdenamientos.ejecutar("QuickSort", new OrdenamientoQuickSort<>(), lista, estadisticas);
+    private int repeticionesHechas(String distribucion, String tipoLista, String algoritmo, int n) {
+        return (puntoControl != null) ? puntoControl.getRepeticiones(distribucion, tipoLista, algoritmo, n) : 0;
+    }
+
+    /**
+     * Decide si un algoritmo se mide con tamaño n. Con al menos {@value AjusteComplejidad#MIN_PUNTOS}
+     * tamaños previos se predice el tiempo con una ley de potencias; con menos, se usa el último
+     * tiempo observado como cota inferior. Una vez superado, el presupuesto no se vuelve a evaluar.
+     */
+    private boolean dentroDePresupuesto(String distribucion, String tipoLista, String algoritmo, int n,
+                                        EstadisticasOrdenamiento estadisticas) {
+        String clave = claveCelda(distribucion, tipoLista, algoritmo);
+        if (fueraDePresupuesto.contains(clave)) {
+            return false;
+        }
+        Double presupuesto = presupuestosMs.get(algoritmo);
+        if (presupuesto == null) {
+            return true;
+        }
+        AjusteComplejidad ajuste = estadisticas.ajustarComplejidad(algoritmo);
+        double previsto = (ajuste != null) ? ajuste.predecir(n) : estadisticas.getUltimoTiempo(algoritmo);
+        if (previsto <= presupuesto) {
+            return true;
+        }
+        fueraDePresupuesto.add(clave);
+        ImpresorListas.println(String.format("Se omite %s en lista %s (%s) desde n = %d: previstos %.0f ms > presupuesto %.0f ms",
+            algoritmo, tipoLista, distribucion, n, previsto, presupuesto));
+        return false;
+    }
+
+    private boolean todoFueraDePresupuesto(String distribucion, Set<String> tiposLista) {
+        for (String tipoLista : tiposLista) {
+            for (String algoritmo : algoritmos) {
+                if (!fueraDePresupuesto.contains(claveCelda(distribucion, tipoLista, algoritmo))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String claveCelda(String distribucion, String tipoLista, String algoritmo) {
+        return distribucion + "/" + tipoLista + "/" + algoritmo;
+    }
+
+    static ListaEnlazadaBase<Politico> crearLista(String tipoLista) {
+        return crearLista(tipoLista, null, null);
+    }
+
+    /**
+     * Crea una lista vacía del tipo indicado. Las listas de nodos toman sus nodos de la
+     * reserva correspondiente si no es null; los demás tipos no usan reservas.
+     */
+    static ListaEnlazadaBase<Politico> crearLista(String tipoLista,
+                                                  PoolNodos<Politico, Nodo<Politico>> nodos,
+                                                  PoolNodos<Politico, NodoDoble<Politico>> nodosDobles) {
+        switch (tipoLista) {
+            case "Simple":
+                return new ListaEnlazadaSimple<>(nodos);
+            case "Doble":
+                return new ListaEnlazadaDoble<>(nodosDobles);
+            case "Circular":
+                return new ListaEnlazadaSimpleCircular<>(nodos);
+            case "Desenrollada":
+                return new ListaEnlazadaDesenrollada<>();
+            case "Columnas":
+                return new ListaPoliticos();
+            case "Nativa":
+                return new ListaPoliticosNativa();
+            case "SimpleIndices":
+                return new ListaEnlazadaIndices<>(ListaEnlazadaIndices.Topologia.SIMPLE);
+            case "DobleIndices":
+                return new ListaEnlazadaIndices<>(ListaEnlazadaIndices.Topologia.DOBLE);
+            case "CircularIndices":
+                return new ListaEnlazadaIndices<>(ListaEnlazadaIndices.Topologia.CIRCULAR);
+            case "Xor":
+                return new ListaEnlazadaXor<>();
+            case "Intrusiva":
+                return new ListaPoliticosEnlazados();
+            case "SimpleHash": {
+                ListaEnlazadaSimple<Politico> lista = new ListaEnlazadaSimple<>(nodos);
+                lista.indexar();
+                return lista;
+            }
+            case "DobleHash": {
+                ListaEnlazadaDoble<Politico> lista = new ListaEnlazadaDoble<>(nodosDobles);
+                lista.indexar();
+                return lista;
+            }
+            case "CircularHash": {
+                ListaEnlazadaSimpleCircular<Politico> lista = new ListaEnlazadaSimpleCircular<>(nodos);
+                lista.indexar();
+                return lista;
+            }
+            case "SimpleBloom": {
+                ListaEnlazadaSimple<Politico> lista = new ListaEnlazadaSimple<>(nodos);
+                lista.activarFiltro();
+                return lista;
+            }
+            case "DobleBloom": {
+                ListaEnlazadaDoble<Politico> lista = new ListaEnlazadaDoble<>(nodosDobles);
+                lista.activarFiltro();
+                return lista;
+            }
+            case "CircularBloom": {
+                ListaEnlazadaSimpleCircular<Politico> lista = new ListaEnlazadaSimpleCircular<>(nodos);
+                lista.activarFiltro();
+                return lista;
+            }
+            default:
+                throw new IllegalArgumentException("Tipo de lista desconocido: " + tipoLista);
+        }
+    }
+
+    /**
+     * Devuelve la estrategia compartida para {@code algoritmo}. Las estrategias no guardan
+     * estado entre invocaciones, así que la misma instancia sirve para todas las celdas e hilos.
+     */
+    static EstrategiaOrdenamiento<Politico> obtenerEstrategia(String algoritmo) {
+        switch (algoritmo) {
+            case "Burbuja":
+                return BURBUJA;
+            case "Inserción":
+                return INSERCION;
+            case "MergeSort":
+                return MERGE;
+            case "QuickSort":
+                return QUICKSORT;
+            default:
+                throw new IllegalArgumentException("Algoritmo desconocido: " + algoritmo);
+        }
     }
 }
@@ -11,7 +11,52 @@ import java.util.Objects;
  * @author USUARIO
  */
 public class GestorOrdenamientos {
-    public static <T extends Comparable<T>> void ejecutar(
+    /** Modo de medición usado por todas las ejecuciones. Por defecto no se fuerza el GC. */
+    private static volatile ModoMedicion modoMedicion = ModoMedicion.MARCAR_GC;
+    /** Tiempo máximo por ordenamiento en milisegundos; 0 = sin límite. */
+    private static volatile long tiempoMaximoMs = 0;
+    /** Token del ordenamiento en curso, para poder cancelarlo desde otro hilo. */
+    private static volatile TokenCancelacion enCurso;
+
+    public static ModoMedicion getModoMedicion() {
+        return modoMedicion;
+    }
+
+    public static void setModoMedicion(ModoMedicion modo) {
+        modoMedicion = Objects.requireNonNull(modo, "El modo de medición no puede ser null");
+    }
+
+    public static long getTiempoMaximoMs() {
+        return tiempoMaximoMs;
+    }
+
+    /**
+     * Fija el tiempo máximo de cada ordenamiento. Al vencer, la estrategia se detiene dejando
+     * la lista válida y la muestra se registra como cancelada en lugar de promediarse.
+     *
+     * @param milisegundos Límite en milisegundos; 0 o negativo lo desactiva.
+     */
+    public static void setTiempoMaximoMs(long milisegundos) {
+        tiempoMaximoMs = Math.max(0, milisegundos);
+    }
+
+    /**
+     * Cancela el ordenamiento que se esté ejecutando, si lo hay. Puede llamarse desde cualquier hilo.
+     */
+    public static void cancelarEnCurso() {
+        TokenCancelacion token = enCurso;
+        if (token != null) {
+            token.cancelar();
+        }
+    }
+
+    /**
+     * Ordena un clon de {@code listaOriginal} con la estrategia indicada y registra el resultado.
+     *
+     * @return El resultado registrado (con {@code cancelado} si se agotó el tiempo),
+     *         o {@code null} si el ordenamiento falló.
+     */
+    public static <T extends Comparable<T>> ResultadoOrdenamiento ejecutar(
             String nombrePrueba,
             EstrategiaOrdenamiento<T> estrategia,
             ListaEnlazadaBase<T> listaOriginal,
@@ -20,37 +65,66 @@ public class GestorOrdenamientos {
         Objects.requireNonNull(estrategia, "La estrategia no puede ser null");
         Objects.requireNonNull(listaOriginal, "La lista no puede ser null");
 
-        System.out.println("\n--- Ordenando con " + nombrePrueba + " ---");
+        ImpresorListas.println("\n--- Ordenando con " + nombrePrueba + " ---");
 
+        ResultadoOrdenamiento resultado = null;
+        long limite = tiempoMaximoMs;
+        ListaEnlazadaBase<T> clon = null;
         try {
-            if (listaOriginal instanceof ListaEnlazadaSimple) {
-                ListaEnlazadaSimple<T> clon = (ListaEnlazadaSimple<T>) listaOriginal.clonarLista();
-                estadisticas.agregarResultado(clon.getTamanno(), nombrePrueba, estrategia.ordenar(clon));
-                System.out.println("Resultado:");
-                clon.imprimir();
-                clon = null;
-                System.gc();
-            } else if (listaOriginal instanceof ListaEnlazadaDoble) {
-                ListaEnlazadaDoble<T> clon = (ListaEnlazadaDoble<T>) listaOriginal.clonarLista();
-                estadisticas.agregarResultado(clon.getTamanno(), nombrePrueba, estrategia.ordenar(clon));
-                clon.imprimir();
-                clon = null;
-                System.gc();
-            } else if (listaOriginal instanceof ListaEnlazadaSimpleCircular) {
-                ListaEnlazadaSimpleCircular<T> clon = (ListaEnlazadaSimpleCircular<T>) listaOriginal.clonarLista();
-                estadisticas.agregarResultado(clon.getTamanno(), nombrePrueba, estrategia.ordenar(clon));
-                clon.imprimir();
-                clon = null;
-                System.gc();
-            } else {
-                throw new IllegalArgumentException("Tipo de lista no soportado: " + listaOriginal.getClass().getSimpleName());
-            }
+            // Un solo camino para los tres tipos: la estrategia trabaja sobre la TopologiaLista
+            clon = listaOriginal.clonarLista();
+            // El plazo empieza a contar ahora: clonar no forma parte del tiempo del ordenamiento
+            TokenCancelacion token = (limite > 0) ? TokenCancelacion.conPlazo(limite) : TokenCancelacion.sinPlazo();
+            enCurso = token;
+            ContextoOrdenamiento contexto = new ContextoOrdenamiento(token);
+            MonitorGC monitor = MonitorGC.iniciar();
+            resultado = estrategia.ordenar(clon, contexto);
+            resultado = registrar(estadisticas, clon.getTamanno(), nombrePrueba,
+                monitor.cerrar(resultado, modoMedicion), token);
+            ImpresorListas.println("Resultado:");
+            ImpresorListas.imprimir(clon);
+            clon.liberar();
+            clon = null;
+            liberarMemoria();
 
         } catch (UnsupportedOperationException usoEx) {
             System.err.println("ERROR: La estrategia '" + nombrePrueba + "' no es compatible. " + usoEx.getMessage());
+            resultado = null;
         } catch (Exception e) {
             System.err.println("ERROR inesperado en '" + nombrePrueba + "': " + e.getMessage());
             e.printStackTrace();
+            resultado = null;
+        } finally {
+            enCurso = null;
+            if (clon != null) {
+                clon.liberar(); // Si el ordenamiento falló, el clon aún puede tener memoria fuera del heap
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Agrega el resultado a las estadísticas, o lo registra como cancelado si el token se disparó.
+     */
+    private static ResultadoOrdenamiento registrar(EstadisticasOrdenamiento estadisticas, int tamanio,
+                                                   String nombrePrueba, ResultadoOrdenamiento resultado,
+                                                   TokenCancelacion token) {
+        resultado.cancelado = token.isCancelado();
+        if (resultado.cancelado) {
+            estadisticas.registrarCancelacion(tamanio, nombrePrueba);
+            ImpresorListas.println(String.format("TIEMPO AGOTADO: %s cancelado tras %.0f ms", nombrePrueba, resultado.tiempo));
+        } else {
+            estadisticas.agregarResultado(tamanio, nombrePrueba, resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * Solo invoca {@code System.gc()} si el modo de medición lo requiere.
+     */
+    static void liberarMemoria() {
+        if (modoMedicion.fuerzaGC()) {
+            System.gc();
         }
     }
 }
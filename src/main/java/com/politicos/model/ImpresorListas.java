@@ -0,0 +1,77 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Objects;
+
+/**
+ * Punto único de salida por consola de los experimentos.
+ * Según el {@link ModoSalida} imprime la lista completa (síncrono) o solo una muestra
+ * de cabeza/cola a través de {@link SalidaAsincrona}, de modo que el bucle de
+ * ordenamiento no se bloquee en la consola.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class ImpresorListas {
+
+    private static volatile ModoSalida modo = ModoSalida.COMPLETA;
+    /** Número de elementos que se muestran al principio y al final de cada lista. */
+    private static volatile int elementosMuestra = 5;
+
+    private ImpresorListas() {
+    }
+
+    public static ModoSalida getModo() {
+        return modo;
+    }
+
+    public static void setModo(ModoSalida nuevoModo) {
+        modo = Objects.requireNonNull(nuevoModo, "El modo de salida no puede ser null");
+    }
+
+    public static void setElementosMuestra(int elementos) {
+        if (elementos < 0) {
+            throw new IllegalArgumentException("El tamaño de la muestra no puede ser negativo.");
+        }
+        elementosMuestra = elementos;
+    }
+
+    /**
+     * Imprime la lista según el modo activo.
+     * @param lista La lista a imprimir.
+     */
+    public static void imprimir(ListaEnlazadaBase<?> lista) {
+        switch (modo) {
+            case COMPLETA:
+                lista.imprimir();
+                break;
+            case MUESTRA:
+                SalidaAsincrona.escribir(lista.muestra(elementosMuestra));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Imprime un mensaje de progreso. Solo es síncrono en modo {@link ModoSalida#COMPLETA}.
+     * @param mensaje El texto a imprimir.
+     */
+    public static void println(String mensaje) {
+        if (modo == ModoSalida.COMPLETA) {
+            System.out.println(mensaje);
+        } else {
+            SalidaAsincrona.escribir(mensaje);
+        }
+    }
+
+    /**
+     * Espera a que la salida asíncrona pendiente se haya escrito.
+     */
+    public static void finalizar() {
+        SalidaAsincrona.vaciar(10_000);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Índice hash opcional de una lista de nodos: asocia cada dato con el primer nodo que lo
+ * contiene y, en las listas simples, con el nodo anterior a ese. Con él, las búsquedas por
+ * {@code equals()} de {@link ListaEnlazadaSimple}, {@link ListaEnlazadaDoble} y
+ * {@link ListaEnlazadaSimpleCircular} pasan de recorrer la lista a una consulta O(1) en
+ * promedio. Lo crea la lista al llamar a su método {@code indexar()}.
+ *
+ * <p>La lista avisa al índice de cada nodo que enlaza o desenlaza, antes de devolverlo a
+ * la reserva, y de cada reordenación completa. Una reordenación solo lo invalida: se
+ * reconstruye en la siguiente consulta, no dentro del ordenamiento. Los datos repetidos comparten una entrada
+ * que cuenta sus apariciones. Si el índice no puede deducir cuál es la primera (se inserta
+ * un repetido en medio, o se elimina la primera y la siguiente no está al lado), la entrada
+ * queda pendiente y se localiza recorriendo la lista en la siguiente consulta: solo los
+ * datos repetidos pueden costar O(n).</p>
+ *
+ * @param <T> Tipo de los elementos; deben tener {@code hashCode()} coherente con {@code equals()}.
+ * @author devapps
+ * @version 1.0
+ */
+final class IndiceHash<T> {
+
+    /** Apariciones de un dato en la lista y dónde está la primera. */
+    private static final class Entrada<T> {
+        /** Primer nodo con el dato, o {@code null} si está pendiente de localizar. */
+        private Nodo<T> nodo;
+        /** Nodo anterior a {@code nodo}, o {@code null} si es la cabeza; solo en listas simples. */
+        private Nodo<T> anterior;
+        private int apariciones;
+    }
+
+    private final HashMap<T, Entrada<T>> entradas;
+    /** Si hay que seguir los anteriores; la lista doble ya los tiene en sus nodos. */
+    private final boolean conAnteriores;
+    /** Cabeza actual de la lista, para recorrerla. En la circular el recorrido para al volver a ella. */
+    private final Supplier<Nodo<T>> cabeza;
+    /** Si la lista se reordenó desde la última reconstrucción; las entradas no valen. */
+    private boolean invalidado;
+
+    /**
+     * Construye el índice de la lista recorriéndola una vez. O(n).
+     *
+     * @param cabeza Devuelve la cabeza actual de la lista.
+     * @param tamanno Tamaño actual de la lista, para dimensionar la tabla.
+     * @param conAnteriores Si se deben guardar los anteriores (listas simples).
+     */
+    IndiceHash(Supplier<Nodo<T>> cabeza, int tamanno, boolean conAnteriores) {
+        this.cabeza = cabeza;
+        this.conAnteriores = conAnteriores;
+        this.entradas = HashMap.newHashMap(tamanno);
+        reconstruir();
+    }
+
+    // --- Consultas ---
+
+    /**
+     * @param dato El dato a buscar.
+     * @return El primer nodo con {@code dato}, o {@code null} si no está.
+     */
+    Nodo<T> buscar(T dato) {
+        Entrada<T> entrada = localizar(dato);
+        return (entrada == null) ? null : entrada.nodo;
+    }
+
+    /**
+     * @param dato El dato a buscar.
+     * @return El nodo anterior al primero con {@code dato}, o {@code null} si no está o es la cabeza.
+     */
+    Nodo<T> anterior(T dato) {
+        Entrada<T> entrada = localizar(dato);
+        return (entrada == null) ? null : entrada.anterior;
+    }
+
+    /**
+     * Anterior de un nodo concreto, que solo se conoce si es la primera aparición de su dato.
+     *
+     * @param nodo Un nodo de la lista que no es la cabeza.
+     * @return Su nodo anterior, o {@code null} si el índice no lo conoce.
+     */
+    Nodo<T> anteriorDe(Nodo<T> nodo) {
+        Entrada<T> entrada = localizar(nodo.getDato());
+        return (entrada != null && entrada.nodo == nodo) ? entrada.anterior : null;
+    }
+
+    // --- Avisos de la lista ---
+
+    /**
+     * La lista acaba de enlazar {@code nodo} entre {@code anterior} y {@code siguiente}.
+     *
+     * @param anterior El nodo anterior, o {@code null} si {@code nodo} es la nueva cabeza.
+     * @param nodo El nodo enlazado.
+     * @param siguiente El nodo siguiente, o {@code null} si {@code nodo} es el último.
+     */
+    void enlazado(Nodo<T> anterior, Nodo<T> nodo, Nodo<T> siguiente) {
+        if (invalidado) {
+            return; // La reconstrucción pendiente ya lo verá
+        }
+        T dato = nodo.getDato();
+        Entrada<T> entrada = entradas.get(dato);
+        if (entrada == null) {
+            entrada = new Entrada<>();
+            entrada.nodo = nodo;
+            entrada.anterior = conAnteriores ? anterior : null;
+            entradas.put(dato, entrada);
+        } else if (anterior == null) {
+            entrada.nodo = nodo; // Una nueva cabeza es la primera aparición
+            entrada.anterior = null;
+        } else if (siguiente != null) {
+            pendiente(entrada); // En medio: puede quedar antes o después de la primera
+        }
+        entrada.apariciones++;
+        if (conAnteriores && siguiente != null) {
+            fijarAnterior(siguiente, nodo);
+        }
+    }
+
+    /**
+     * La lista acaba de desenlazar {@code nodo}, que estaba entre {@code anterior} y
+     * {@code siguiente}; todavía no lo ha devuelto a la reserva.
+     *
+     * @param anterior El nodo anterior, o {@code null} si {@code nodo} era la cabeza.
+     * @param nodo El nodo desenlazado, aún con su dato.
+     * @param siguiente El nodo siguiente, o {@code null} si {@code nodo} era el último.
+     */
+    void desenlazado(Nodo<T> anterior, Nodo<T> nodo, Nodo<T> siguiente) {
+        if (invalidado) {
+            return;
+        }
+        T dato = nodo.getDato();
+        Entrada<T> entrada = entradas.get(dato);
+        if (entrada != null) {
+            if (--entrada.apariciones == 0) {
+                entradas.remove(dato);
+            } else if (entrada.nodo == nodo) {
+                if (siguiente != null && Objects.equals(siguiente.getDato(), dato)) {
+                    entrada.nodo = siguiente; // El repetido contiguo pasa a ser el primero
+                } else {
+                    pendiente(entrada);
+                }
+            }
+        }
+        if (conAnteriores && siguiente != null) {
+            fijarAnterior(siguiente, anterior);
+        }
+    }
+
+    /**
+     * La lista se reordenó o se reenlazó por completo: las entradas se recalcularán con
+     * {@link #reconstruir()} en la siguiente consulta. O(1).
+     */
+    void invalidar() {
+        invalidado = true;
+    }
+
+    /**
+     * Recalcula todas las entradas recorriendo la lista. O(n).
+     */
+    void reconstruir() {
+        invalidado = false;
+        for (Entrada<T> entrada : entradas.values()) {
+            entrada.apariciones = 0;
+            pendiente(entrada);
+        }
+        Nodo<T> primero = cabeza.get();
+        Nodo<T> anterior = null;
+        Nodo<T> actual = primero;
+        while (actual != null) {
+            T dato = actual.getDato();
+            Entrada<T> entrada = entradas.get(dato);
+            if (entrada == null) {
+                entrada = new Entrada<>();
+                entradas.put(dato, entrada);
+            }
+            if (entrada.apariciones++ == 0) {
+                entrada.nodo = actual;
+                entrada.anterior = conAnteriores ? anterior : null;
+            }
+            anterior = actual;
+            actual = actual.getSiguiente();
+            if (actual == primero) {
+                break; // Vuelta completa en la lista circular
+            }
+        }
+        entradas.values().removeIf(entrada -> entrada.apariciones == 0);
+    }
+
+    /**
+     * Vacía el índice, cuando la lista se vacía.
+     */
+    void vaciar() {
+        entradas.clear();
+        invalidado = false;
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    /**
+     * Devuelve la entrada de {@code dato}, localizando antes su primer nodo si estaba pendiente.
+     */
+    private Entrada<T> localizar(T dato) {
+        if (invalidado) {
+            reconstruir();
+        }
+        Entrada<T> entrada = entradas.get(dato);
+        if (entrada == null || entrada.nodo != null) {
+            return entrada;
+        }
+        Nodo<T> primero = cabeza.get();
+        Nodo<T> anterior = null;
+        Nodo<T> actual = primero;
+        while (actual != null) {
+            if (Objects.equals(actual.getDato(), dato)) {
+                entrada.nodo = actual;
+                entrada.anterior = conAnteriores ? anterior : null;
+                return entrada;
+            }
+            anterior = actual;
+            actual = actual.getSiguiente();
+            if (actual == primero) {
+                break;
+            }
+        }
+        throw new IllegalStateException("El índice hash no coincide con la lista: falta " + dato);
+    }
+
+    /**
+     * Si {@code nodo} es la primera aparición de su dato, actualiza su anterior.
+     */
+    private void fijarAnterior(Nodo<T> nodo, Nodo<T> anterior) {
+        Entrada<T> entrada = entradas.get(nodo.getDato());
+        if (entrada != null && entrada.nodo == nodo) {
+            entrada.anterior = anterior;
+        }
+    }
+
+    private static <T> void pendiente(Entrada<T> entrada) {
+        entrada.nodo = null;
+        entrada.anterior = null; // No retener nodos que quizá ya no están en la lista
+    }
+}
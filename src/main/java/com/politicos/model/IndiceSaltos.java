@@ -0,0 +1,285 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Índice opcional de "carriles expresos" (skip list) sobre una lista ya ordenada
+ * ({@link ListaEnlazadaSimple} o {@link ListaEnlazadaDoble}). Sobre los nodos de la lista
+ * se superponen niveles cada vez más escasos de accesos directos: en promedio uno de cada
+ * {@link #PROMOCION} nodos aparece en el primer nivel, uno de cada {@code PROMOCION²} en el
+ * segundo, etc. Una búsqueda avanza por el nivel más alto mientras no se pase, baja, y
+ * termina recorriendo unos pocos nodos de la lista: O(log n) en lugar de O(n).
+ *
+ * <p>La lista base no cambia de forma: sigue siendo una lista enlazada normal que se puede
+ * recorrer, imprimir o clonar. Las inserciones en orden y las eliminaciones deben hacerse a
+ * través del índice, que actualiza sus carriles y delega el enlace en la lista
+ * ({@link ListaDeNodos}). Si la lista se modifica o se reordena por otra vía, el índice lo
+ * detecta con {@link ListaDeNodos#getModificaciones()} y lanza
+ * {@link IllegalStateException}; si se cambia un dato dentro de un nodo, hay que construir
+ * un índice nuevo.</p>
+ *
+ * <p>La búsqueda usa el orden natural ({@code compareTo}) para llegar al tramo de
+ * elementos equivalentes y {@code equals()} para elegir dentro de él, así que da el mismo
+ * resultado que la búsqueda lineal de la lista siempre que los elementos iguales según
+ * {@code equals()} también lo sean según {@code compareTo}.</p>
+ *
+ * @param <T> Tipo de los elementos, con su orden natural.
+ * @author devapps
+ * @version 1.0
+ */
+public class IndiceSaltos<T extends Comparable<? super T>> {
+
+    /** Uno de cada {@code PROMOCION} accesos de un nivel sube, en promedio, al siguiente. */
+    public static final int PROMOCION = 4;
+    /** Niveles máximos: suficientes para {@code PROMOCION^16} elementos. */
+    private static final int NIVEL_MAXIMO = 16;
+
+    /**
+     * Acceso directo de un carril a un nodo de la lista. En el primer nivel {@code abajo}
+     * es {@code null}; en los superiores apunta al acceso del mismo nodo en el nivel inferior.
+     */
+    private static final class Expreso<T> {
+        /** Nodo de la lista al que lleva, o {@code null} en el centinela del nivel. */
+        private final Nodo<T> nodo;
+        private final Expreso<T> abajo;
+        private Expreso<T> siguiente;
+
+        private Expreso(Nodo<T> nodo, Expreso<T> abajo) {
+            this.nodo = nodo;
+            this.abajo = abajo;
+        }
+    }
+
+    private final ListaDeNodos<T> lista;
+    /** Centinela de cada nivel, del primero ({@code 0}) al más alto en uso. */
+    private final Expreso<T>[] centinelas;
+    /** Niveles en uso. */
+    private int niveles;
+    /** Modificaciones de la lista tras la última operación del índice, para detectar cambios externos. */
+    private int modificacionesEsperadas;
+    /** Sorteo de la altura de cada nodo; con semilla fija, el índice es reproducible. */
+    private final SplittableRandom azar = new SplittableRandom(0x5EED);
+    /** Predecesor en cada nivel de la última búsqueda; se reutiliza entre operaciones. */
+    private final Expreso<T>[] previos;
+    /** Nodos de la lista visitados en la última búsqueda, tras bajar de los carriles. */
+    private int nodosRecorridos;
+
+    /**
+     * Construye el índice sobre {@code lista}, que debe estar ordenada de forma ascendente.
+     * Recorre la lista una vez: O(n).
+     *
+     * @param lista La lista ordenada (simple o doble).
+     * @throws IllegalArgumentException si la lista no está ordenada.
+     */
+    @SuppressWarnings("unchecked") // Arreglos genéricos de Expreso, solo de uso interno
+    public IndiceSaltos(ListaDeNodos<T> lista) {
+        this.lista = Objects.requireNonNull(lista, "La lista no puede ser null.");
+        this.centinelas = (Expreso<T>[]) new Expreso<?>[NIVEL_MAXIMO];
+        this.previos = (Expreso<T>[]) new Expreso<?>[NIVEL_MAXIMO];
+        // Durante la construcción, previos[i] es el último acceso del nivel i
+        Nodo<T> anterior = null;
+        for (Nodo<T> nodo = lista.getCabeza(); nodo != null; nodo = nodo.getSiguiente()) {
+            if (anterior != null && anterior.getDato().compareTo(nodo.getDato()) > 0) {
+                throw new IllegalArgumentException("La lista debe estar ordenada para indexarla.");
+            }
+            enlazarAccesos(nodo, sortearAltura());
+            anterior = nodo;
+        }
+        this.modificacionesEsperadas = lista.getModificaciones();
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene {@code dato}. O(log n).
+     *
+     * @param dato El dato a buscar.
+     * @return {@code true} si algún elemento es igual a {@code dato} según {@code equals()}.
+     */
+    public boolean contiene(T dato) {
+        return buscar(dato) != null;
+    }
+
+    /**
+     * Busca el primer nodo cuyo dato es igual a {@code dato}. O(log n).
+     *
+     * @param dato El dato a buscar.
+     * @return El nodo de la lista, o {@code null} si no está.
+     */
+    public Nodo<T> buscar(T dato) {
+        comprobarLista();
+        Nodo<T> actual = siguienteDe(descender(dato, false));
+        while (actual != null && actual.getDato().compareTo(dato) == 0) {
+            if (actual.getDato().equals(dato)) {
+                return actual;
+            }
+            actual = actual.getSiguiente();
+        }
+        return null;
+    }
+
+    // --- Modificación ---
+
+    /**
+     * Inserta {@code dato} en su posición según el orden natural, detrás de los elementos
+     * equivalentes, y le sortea una altura en los carriles. O(log n).
+     *
+     * @param dato El dato a insertar.
+     * @return El nodo creado en la lista.
+     */
+    public Nodo<T> insertarOrdenado(T dato) {
+        comprobarLista();
+        Objects.requireNonNull(dato, "El índice no admite elementos null.");
+        Nodo<T> previo = descender(dato, true);
+        Nodo<T> nuevo = lista.insertarTrasNodo(previo, dato);
+        enlazarAccesos(nuevo, sortearAltura());
+        modificacionesEsperadas = lista.getModificaciones();
+        return nuevo;
+    }
+
+    /**
+     * Elimina de la lista el primer elemento igual a {@code dato} y sus accesos en los
+     * carriles. O(log n).
+     *
+     * @param dato El dato a eliminar.
+     * @return {@code true} si se encontró y eliminó.
+     */
+    public boolean eliminar(T dato) {
+        comprobarLista();
+        Nodo<T> previo = descender(dato, false);
+        Nodo<T> actual = siguienteDe(previo);
+        while (actual != null && actual.getDato().compareTo(dato) == 0) {
+            if (actual.getDato().equals(dato)) {
+                quitarAccesos(actual, dato);
+                lista.eliminarTrasNodo(previo);
+                modificacionesEsperadas = lista.getModificaciones();
+                return true;
+            }
+            previo = actual;
+            actual = actual.getSiguiente();
+        }
+        return false;
+    }
+
+    // --- Información ---
+
+    /** @return Niveles de carriles en uso. */
+    public int getNiveles() {
+        return niveles;
+    }
+
+    /**
+     * Nodos de la lista recorridos uno a uno en la última búsqueda, después de bajar del
+     * primer carril. Con el índice al día es del orden de {@link #PROMOCION}.
+     * @return El número de nodos.
+     */
+    public int getNodosRecorridos() {
+        return nodosRecorridos;
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    /**
+     * Baja por los carriles hasta el último nodo con dato menor que {@code dato} (o menor o
+     * igual, si {@code incluirIguales}) y lo devuelve, o {@code null} si no hay ninguno.
+     * Deja en {@link #previos} el último acceso de cada nivel que cumple la misma condición.
+     */
+    private Nodo<T> descender(T dato, boolean incluirIguales) {
+        Nodo<T> desde = null;
+        Expreso<T> acceso = (niveles == 0) ? null : centinelas[niveles - 1];
+        for (int nivel = niveles - 1; nivel >= 0; nivel--) {
+            while (acceso.siguiente != null && precede(acceso.siguiente.nodo.getDato(), dato, incluirIguales)) {
+                acceso = acceso.siguiente;
+            }
+            previos[nivel] = acceso;
+            if (acceso.nodo != null) {
+                desde = acceso.nodo;
+            }
+            acceso = acceso.abajo;
+            if (acceso == null && nivel > 0) {
+                acceso = centinelas[nivel - 1]; // Del centinela se baja al centinela
+            }
+        }
+        // Tramo final sobre la lista base
+        Nodo<T> previo = desde;
+        Nodo<T> actual = siguienteDe(desde);
+        int recorridos = 0;
+        while (actual != null && precede(actual.getDato(), dato, incluirIguales)) {
+            previo = actual;
+            actual = actual.getSiguiente();
+            recorridos++;
+        }
+        nodosRecorridos = recorridos;
+        return previo;
+    }
+
+    private boolean precede(T a, T b, boolean incluirIguales) {
+        int comparacion = a.compareTo(b);
+        return incluirIguales ? comparacion <= 0 : comparacion < 0;
+    }
+
+    private Nodo<T> siguienteDe(Nodo<T> nodo) {
+        return (nodo == null) ? lista.getCabeza() : nodo.getSiguiente();
+    }
+
+    /**
+     * Añade a {@code nodo} accesos en los {@code altura} primeros niveles, justo detrás de
+     * {@link #previos}, que debe apuntar al acceso anterior de cada nivel.
+     */
+    private void enlazarAccesos(Nodo<T> nodo, int altura) {
+        while (niveles < altura) {
+            centinelas[niveles] = new Expreso<>(null, null);
+            previos[niveles] = centinelas[niveles];
+            niveles++;
+        }
+        Expreso<T> abajo = null;
+        for (int nivel = 0; nivel < altura; nivel++) {
+            Expreso<T> acceso = new Expreso<>(nodo, abajo);
+            acceso.siguiente = previos[nivel].siguiente;
+            previos[nivel].siguiente = acceso;
+            previos[nivel] = acceso; // Así la construcción sigue añadiendo al final
+            abajo = acceso;
+        }
+    }
+
+    /**
+     * Quita los accesos a {@code nodo}. Tras {@link #descender(Object, boolean)} sin iguales,
+     * cada uno está en su nivel después de {@link #previos}, entre los accesos equivalentes a
+     * {@code dato}.
+     */
+    private void quitarAccesos(Nodo<T> nodo, T dato) {
+        for (int nivel = 0; nivel < niveles; nivel++) {
+            Expreso<T> acceso = previos[nivel];
+            while (acceso.siguiente != null && acceso.siguiente.nodo != nodo
+                   && acceso.siguiente.nodo.getDato().compareTo(dato) == 0) {
+                acceso = acceso.siguiente;
+            }
+            if (acceso.siguiente == null || acceso.siguiente.nodo != nodo) {
+                break; // Los niveles superiores tampoco lo tienen
+            }
+            acceso.siguiente = acceso.siguiente.siguiente;
+        }
+        Arrays.fill(previos, null); // No retener nodos eliminados
+    }
+
+    /** Altura geométrica: 0 con probabilidad {@code 1 - 1/PROMOCION}, y así sucesivamente. */
+    private int sortearAltura() {
+        int altura = 0;
+        while (altura < NIVEL_MAXIMO && azar.nextInt(PROMOCION) == 0) {
+            altura++;
+        }
+        return altura;
+    }
+
+    private void comprobarLista() {
+        if (lista.getModificaciones() != modificacionesEsperadas) {
+            throw new IllegalStateException("La lista se modificó sin pasar por el índice; hay que volver a construirlo.");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Lista de nodos que permite insertar y eliminar junto a un nodo ya localizado, sin
+ * volver a buscarlo desde la cabeza. La usa {@link IndiceSaltos}, que encuentra el nodo
+ * con sus carriles expresos y delega en la lista el enlace y la contabilidad (cola,
+ * tamaño, reserva de nodos).
+ *
+ * @param <T> Tipo de los elementos.
+ * @author devapps
+ * @version 1.0
+ */
+public interface ListaDeNodos<T> {
+
+    /** @return El primer nodo, o {@code null} si la lista está vacía. */
+    Nodo<T> getCabeza();
+
+    /** @return El número de elementos. */
+    int getTamanno();
+
+    /**
+     * Contador de modificaciones: cambia con cada inserción, eliminación, vaciado o
+     * reordenamiento, hágase por donde se haga.
+     * @return El valor actual del contador.
+     */
+    int getModificaciones();
+
+    /**
+     * Inserta {@code dato} justo después de {@code previo}. O(1).
+     *
+     * @param previo Un nodo de esta lista, o {@code null} para insertar al inicio.
+     * @param dato El dato a insertar.
+     * @return El nodo creado.
+     */
+    Nodo<T> insertarTrasNodo(Nodo<T> previo, T dato);
+
+    /**
+     * Elimina el nodo que sigue a {@code previo}. O(1).
+     *
+     * @param previo Un nodo de esta lista, o {@code null} para eliminar la cabeza.
+     * @return El dato eliminado.
+     * @throws java.util.NoSuchElementException si no hay nodo después de {@code previo}.
+     */
+    T eliminarTrasNodo(Nodo<T> previo);
+}
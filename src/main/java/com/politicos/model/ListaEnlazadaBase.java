@@ -1,8 +1,18 @@
 package com.politicos.model;
 
-public interface ListaEnlazadaBase<T> {
+public interface ListaEnlazadaBase<T> extends TopologiaLista<T> {
     void insertarAlFinal(T dato);
     void insertarAlInicio(T dato);  // Asegúrate de implementarlo en todas las listas
     void imprimir();
-    ListaEnlazadaBase clonarLista();
+    ListaEnlazadaBase<T> clonarLista();
+    int getTamanno();
+    boolean contiene(T dato);
+    String muestra(int elementos);  // Solo los primeros y últimos elementos, para listas grandes
+
+    /**
+     * Libera los recursos que la lista tenga fuera del heap. Las listas en heap no
+     * reservan nada y no hacen nada; después de llamarlo la lista no se debe usar.
+     */
+    default void liberar() {
+    }
 }
@@ -0,0 +1,621 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Implementación de una lista enlazada desenrollada (unrolled linked list).
+ * Cada bloque guarda entre {@link #CAPACIDAD_MINIMA} y {@link #CAPACIDAD_MAXIMA} elementos
+ * en un arreglo contiguo, así que los recorridos ({@link #contiene(Object)}, impresión,
+ * clonación) avanzan por memoria secuencial en lugar de saltar de nodo en nodo.
+ *
+ * <p>Al insertar en un bloque lleno se divide en dos mitades; al eliminar, un bloque que
+ * queda por debajo de la mitad de su capacidad se fusiona con el siguiente o le toma
+ * prestado un elemento.</p>
+ *
+ * <p>Se ordena como {@link CadenaIndices}: {@link #desenlazarIndices()} copia los datos,
+ * en orden, a un arreglo de trabajo cuyas posiciones enlaza un arreglo de siguientes, y
+ * {@link #setPrimero(int)} los vuelve a escribir en los mismos bloques siguiendo la cadena
+ * ordenada. Esas dos copias son O(n) y quedan dentro del tiempo medido; los arreglos de
+ * trabajo se reutilizan y se comparten con los clones, así que ordenar no crea objetos.</p>
+ *
+ * @param <T> El tipo de elementos almacenados en la lista.
+ * @see ListaEnlazadaSimple
+ * @author devapps
+ * @version 1.0
+ */
+public class ListaEnlazadaDesenrollada<T> implements ListaEnlazadaBase<T>, CadenaIndices {
+
+    /** Capacidad mínima admitida para un bloque. */
+    public static final int CAPACIDAD_MINIMA = 16;
+    /** Capacidad máxima admitida para un bloque. */
+    public static final int CAPACIDAD_MAXIMA = 64;
+    /** Capacidad por defecto: 32 referencias ocupan unas pocas líneas de caché. */
+    public static final int CAPACIDAD_POR_DEFECTO = 32;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
+
+    /**
+     * Bloque de la lista: un arreglo de datos con los primeros {@code cuenta} huecos ocupados.
+     */
+    private static final class Bloque {
+        final Object[] datos;
+        int cuenta;
+        Bloque siguiente;
+
+        Bloque(int capacidad) {
+            this.datos = new Object[capacidad];
+        }
+    }
+
+    /**
+     * Arreglos con los que se ordena la lista por posiciones. Crecen bajo demanda y los
+     * comparten la lista y sus clones, que no se ordenan a la vez.
+     */
+    private static final class Trabajo {
+        Object[] datos = new Object[0];
+        int[] siguientes = new int[0];
+    }
+
+    /** Primer bloque, o {@code null} si la lista está vacía. */
+    private Bloque cabeza;
+    /** Último bloque, o {@code null} si la lista está vacía. Optimiza la inserción al final. */
+    private Bloque cola;
+    /** Número actual de elementos en la lista. */
+    private int tamanno;
+    /** Número de bloques enlazados. */
+    private int bloques;
+    /** Capacidad de cada bloque. */
+    private final int capacidad;
+    /** Copia de trabajo para ordenar; compartida con los clones. */
+    private Trabajo trabajo = new Trabajo();
+    /** {@code true} entre {@link #desenlazarIndices()} y {@link #setPrimero(int)}. */
+    private boolean ordenando;
+
+    /**
+     * Construye una lista desenrollada vacía con bloques de {@link #CAPACIDAD_POR_DEFECTO} elementos.
+     */
+    public ListaEnlazadaDesenrollada() {
+        this(CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Construye una lista desenrollada vacía con la capacidad de bloque indicada.
+     *
+     * @param capacidad Elementos por bloque, entre {@link #CAPACIDAD_MINIMA} y {@link #CAPACIDAD_MAXIMA}.
+     * @throws IllegalArgumentException si la capacidad está fuera de rango.
+     */
+    public ListaEnlazadaDesenrollada(int capacidad) {
+        if (capacidad < CAPACIDAD_MINIMA || capacidad > CAPACIDAD_MAXIMA) {
+            throw new IllegalArgumentException("La capacidad del bloque debe estar entre "
+                + CAPACIDAD_MINIMA + " y " + CAPACIDAD_MAXIMA + ": " + capacidad);
+        }
+        this.capacidad = capacidad;
+    }
+
+    // --- Información Básica ---
+
+    /**
+     * Devuelve el número de elementos en la lista.
+     * @return El tamaño actual de la lista.
+     */
+    @Override
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    /**
+     * Comprueba si la lista está vacía.
+     * @return {@code true} si la lista no tiene elementos, {@code false} en caso contrario.
+     */
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    /**
+     * Devuelve la capacidad de cada bloque.
+     * @return Elementos por bloque.
+     */
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Devuelve el número de bloques enlazados.
+     * @return Bloques en uso.
+     */
+    public int getBloques() {
+        return bloques;
+    }
+
+    /**
+     * Devuelve el elemento en la posición {@code indice}, saltando bloques completos.
+     *
+     * @param indice Posición entre 0 y {@code getTamanno() - 1}.
+     * @return El dato en esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango.
+     */
+    public T obtener(int indice) {
+        Objects.checkIndex(indice, tamanno);
+        Bloque bloque = cabeza;
+        while (indice >= bloque.cuenta) {
+            indice -= bloque.cuenta;
+            bloque = bloque.siguiente;
+        }
+        return dato(bloque, indice);
+    }
+
+    // --- CadenaIndices ---
+
+    /**
+     * Las posiciones son las de la copia de trabajo, que sigue el orden de la lista.
+     * @return {@code 0}, o {@link #FIN} si la lista está vacía.
+     */
+    @Override
+    public int getPrimero() {
+        return (tamanno == 0) ? FIN : 0;
+    }
+
+    /**
+     * Copia los datos, en orden, al arreglo de trabajo y enlaza cada posición con la
+     * siguiente. No hace nada si ya estaba desenlazada.
+     */
+    @Override
+    public int desenlazarIndices() {
+        if (!ordenando) {
+            if (trabajo.datos.length < tamanno) {
+                trabajo.datos = new Object[tamanno];
+                trabajo.siguientes = new int[tamanno];
+            }
+            Object[] copia = trabajo.datos;
+            int[] siguientes = trabajo.siguientes;
+            int posicion = 0;
+            for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+                System.arraycopy(bloque.datos, 0, copia, posicion, bloque.cuenta);
+                posicion += bloque.cuenta;
+            }
+            for (int i = 0; i < tamanno; i++) {
+                siguientes[i] = i + 1;
+            }
+            if (tamanno > 0) {
+                siguientes[tamanno - 1] = FIN;
+            }
+            ordenando = true;
+        }
+        return getPrimero();
+    }
+
+    /**
+     * Escribe en los bloques, respetando la cuenta de cada uno, los datos de la copia de
+     * trabajo en el orden de la cadena que empieza en {@code primero}, y la vacía.
+     */
+    @Override
+    public void setPrimero(int primero) {
+        Object[] copia = trabajo.datos;
+        int[] siguientes = trabajo.siguientes;
+        int posicion = primero;
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            Object[] datos = bloque.datos;
+            for (int i = 0; i < bloque.cuenta; i++) {
+                datos[i] = copia[posicion];
+                posicion = siguientes[posicion];
+            }
+        }
+        Arrays.fill(copia, 0, tamanno, null); // Que la copia no retenga los datos
+        ordenando = false;
+    }
+
+    /**
+     * Devuelve los siguientes de la copia de trabajo (ver {@link #desenlazarIndices()}).
+     */
+    @Override
+    public EnlacesIndices getSiguientes() {
+        desenlazarIndices();
+        return new EnlacesIndices.Arreglo(trabajo.siguientes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // Ordenar exige elementos Comparable, como en las demás listas
+    public int comparar(int a, int b) {
+        Object[] copia = trabajo.datos;
+        return ((Comparable<Object>) copia[a]).compareTo(copia[b]);
+    }
+
+    @Override
+    public void intercambiar(int a, int b) {
+        Object[] copia = trabajo.datos;
+        Object dato = copia[a];
+        copia[a] = copia[b];
+        copia[b] = dato;
+    }
+
+    // --- Topología para estrategias por nodos ---
+
+    /**
+     * Copia los datos, en orden, a una cadena nueva de {@link Nodo}. Los bloques se conservan
+     * para que {@link #reenlazar(Nodo)} escriba en ellos el resultado sin reservar memoria.
+     * Solo se usa con estrategias que no ordenan por índices.
+     * @return La cabeza de la cadena, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<T> desenlazar() {
+        Nodo<T> primero = null;
+        Nodo<T> ultimo = null;
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            for (int i = 0; i < bloque.cuenta; i++) {
+                Nodo<T> nodo = new Nodo<>(dato(bloque, i));
+                if (ultimo == null) {
+                    primero = nodo;
+                } else {
+                    ultimo.setSiguiente(nodo);
+                }
+                ultimo = nodo;
+            }
+        }
+        return primero;
+    }
+
+    /**
+     * Vuelca los datos de la cadena ordenada en los bloques existentes, respetando la
+     * cuenta de cada uno. La cadena debe tener los mismos {@code getTamanno()} elementos.
+     * @param cabeza La cabeza de la cadena ordenada.
+     */
+    @Override
+    public void reenlazar(Nodo<T> cabeza) {
+        Nodo<T> actual = cabeza;
+        for (Bloque bloque = this.cabeza; bloque != null; bloque = bloque.siguiente) {
+            Object[] datos = bloque.datos;
+            for (int i = 0; i < bloque.cuenta; i++) {
+                datos[i] = actual.getDato();
+                actual = actual.getSiguiente();
+            }
+        }
+    }
+
+    // --- Métodos de Inserción ---
+
+    /**
+     * Inserta un elemento al principio de la lista. Si el primer bloque está lleno se
+     * antepone uno nuevo, que se irá llenando con las siguientes inserciones al inicio.
+     * @param dato El dato a insertar.
+     */
+    @Override
+    public void insertarAlInicio(T dato) {
+        if (cabeza == null || cabeza.cuenta == capacidad) {
+            Bloque nuevo = new Bloque(capacidad);
+            nuevo.siguiente = cabeza;
+            cabeza = nuevo;
+            if (cola == null) {
+                cola = nuevo;
+            }
+            bloques++;
+        }
+        insertarEnBloque(cabeza, 0, dato);
+    }
+
+    /**
+     * Inserta un elemento al final de la lista. Es O(1): si la cola está llena se enlaza
+     * un bloque nuevo en lugar de dividirla, para que las cargas secuenciales queden compactas.
+     * @param dato El dato a insertar.
+     */
+    @Override
+    public void insertarAlFinal(T dato) {
+        if (cola == null || cola.cuenta == capacidad) {
+            Bloque nuevo = new Bloque(capacidad);
+            if (cola == null) {
+                cabeza = nuevo;
+            } else {
+                cola.siguiente = nuevo;
+            }
+            cola = nuevo;
+            bloques++;
+        }
+        cola.datos[cola.cuenta++] = dato;
+        tamanno++;
+    }
+
+    /**
+     * Alias conveniente para {@link #insertarAlFinal(Object)}.
+     * @param dato El dato a agregar.
+     */
+    public void agregar(T dato) {
+        insertarAlFinal(dato);
+    }
+
+    /**
+     * Inserta {@code datoNuevo} inmediatamente después de la primera ocurrencia de {@code datoExistente}.
+     *
+     * @param datoExistente El dato tras el cual insertar. Se compara usando {@code equals()}.
+     * @param datoNuevo El dato a insertar.
+     * @return {@code true} si se insertó, {@code false} si {@code datoExistente} no se encontró.
+     */
+    public boolean insertarDespuesDe(T datoExistente, T datoNuevo) {
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            int i = indiceEn(bloque, datoExistente);
+            if (i >= 0) {
+                insertarEnBloque(bloque, i + 1, datoNuevo);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inserta {@code datoNuevo} inmediatamente antes de la primera ocurrencia de {@code datoExistente}.
+     *
+     * @param datoExistente El dato antes del cual insertar. Se compara usando {@code equals()}.
+     * @param datoNuevo El dato a insertar.
+     * @return {@code true} si se insertó, {@code false} si {@code datoExistente} no se encontró.
+     */
+    public boolean insertarAntesDe(T datoExistente, T datoNuevo) {
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            int i = indiceEn(bloque, datoExistente);
+            if (i >= 0) {
+                insertarEnBloque(bloque, i, datoNuevo);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- Métodos de Eliminación ---
+
+    /**
+     * Elimina y devuelve el primer elemento de la lista.
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public T eliminarAlInicio() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al inicio.");
+        }
+        return eliminarDeBloque(null, cabeza, 0);
+    }
+
+    /**
+     * Elimina y devuelve el último elemento de la lista. Localizar el bloque anterior a la
+     * cola es O(n / capacidad).
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public T eliminarAlFinal() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al final.");
+        }
+        Bloque anterior = null;
+        for (Bloque bloque = cabeza; bloque != cola; bloque = bloque.siguiente) {
+            anterior = bloque;
+        }
+        return eliminarDeBloque(anterior, cola, cola.cuenta - 1);
+    }
+
+    /**
+     * Elimina la primera ocurrencia de {@code dato}.
+     * @param dato El dato a eliminar. Se compara usando {@code equals()}.
+     * @return {@code true} si se eliminó, {@code false} si no estaba en la lista.
+     */
+    public boolean eliminar(T dato) {
+        Bloque anterior = null;
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            int i = indiceEn(bloque, dato);
+            if (i >= 0) {
+                eliminarDeBloque(anterior, bloque, i);
+                return true;
+            }
+            anterior = bloque;
+        }
+        return false;
+    }
+
+    /**
+     * Elimina todos los elementos de la lista.
+     */
+    public void borrarLista() {
+        cabeza = null;
+        cola = null;
+        tamanno = 0;
+        bloques = 0;
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene al menos una ocurrencia del elemento especificado.
+     * Recorre cada bloque de forma secuencial.
+     *
+     * @param dato El dato a buscar. Se compara usando {@code equals()}.
+     * @return {@code true} si el dato se encuentra en la lista.
+     */
+    @Override
+    public boolean contiene(T dato) {
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            if (indiceEn(bloque, dato) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- Otras Utilidades ---
+
+    /**
+     * Crea una copia superficial de la lista. Cada bloque se copia con un único
+     * {@link Arrays#copyOf}, sin recorrer los elementos uno a uno.
+     *
+     * @return Una nueva lista con los mismos datos y la misma distribución en bloques.
+     */
+    @Override
+    public ListaEnlazadaDesenrollada<T> clonarLista() {
+        ListaEnlazadaDesenrollada<T> clon = new ListaEnlazadaDesenrollada<>(capacidad);
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            Bloque copia = new Bloque(capacidad);
+            System.arraycopy(bloque.datos, 0, copia.datos, 0, bloque.cuenta);
+            copia.cuenta = bloque.cuenta;
+            if (clon.cola == null) {
+                clon.cabeza = copia;
+            } else {
+                clon.cola.siguiente = copia;
+            }
+            clon.cola = copia;
+        }
+        clon.tamanno = tamanno;
+        clon.bloques = bloques;
+        clon.trabajo = trabajo;
+        return clon;
+    }
+
+    /**
+     * Imprime la lista completa en la consola, desde la cabeza hasta el final.
+     */
+    @Override
+    public void imprimir() {
+        if (estaVacia()) {
+            System.out.println("Lista Desenrollada Vacía");
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("HEAD -> ");
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente) {
+            for (int i = 0; i < bloque.cuenta; i++) {
+                Formateable.anexar(sb, bloque.datos[i]);
+                sb.append(" -> ");
+                if (sb.length() > BLOQUE_IMPRESION) {
+                    System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                    sb.setLength(0);
+                }
+            }
+        }
+        sb.append("NULL (bloques: ").append(bloques).append(")");
+        System.out.println(sb);
+    }
+
+    /**
+     * Devuelve un resumen con el tamaño y solo los primeros y los últimos {@code elementos} datos.
+     *
+     * @param elementos Cuántos datos mostrar de cada extremo.
+     * @return El resumen en una sola línea.
+     */
+    @Override
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista Desenrollada Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(tamanno).append(" | HEAD -> ");
+        int primeros = Math.min(elementos, tamanno);
+        int ultimos = Math.min(elementos, tamanno - primeros);
+        for (int i = 0; i < primeros; i++) {
+            Formateable.anexar(sb, obtener(i));
+            sb.append(" -> ");
+        }
+        if (tamanno - primeros > ultimos) {
+            sb.append("... -> ");
+        }
+        for (int i = tamanno - ultimos; i < tamanno; i++) {
+            Formateable.anexar(sb, obtener(i));
+            sb.append(" -> ");
+        }
+        sb.append("NULL");
+        return sb.toString();
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    @SuppressWarnings("unchecked")
+    private static <T> T dato(Bloque bloque, int indice) {
+        return (T) bloque.datos[indice];
+    }
+
+    /**
+     * Devuelve la posición de la primera ocurrencia de {@code dato} en el bloque, o -1.
+     */
+    private static int indiceEn(Bloque bloque, Object dato) {
+        Object[] datos = bloque.datos;
+        for (int i = 0; i < bloque.cuenta; i++) {
+            if (Objects.equals(datos[i], dato)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserta {@code dato} en la posición {@code indice} del bloque. Si el bloque está lleno
+     * se divide primero: la mitad superior pasa a un bloque nuevo enlazado a continuación.
+     */
+    private void insertarEnBloque(Bloque bloque, int indice, T dato) {
+        if (bloque.cuenta == capacidad) {
+            Bloque nuevo = new Bloque(capacidad);
+            int mitad = capacidad / 2;
+            int mover = bloque.cuenta - mitad;
+            System.arraycopy(bloque.datos, mitad, nuevo.datos, 0, mover);
+            Arrays.fill(bloque.datos, mitad, bloque.cuenta, null);
+            nuevo.cuenta = mover;
+            bloque.cuenta = mitad;
+            nuevo.siguiente = bloque.siguiente;
+            bloque.siguiente = nuevo;
+            if (cola == bloque) {
+                cola = nuevo;
+            }
+            bloques++;
+            if (indice > mitad) {
+                bloque = nuevo;
+                indice -= mitad;
+            }
+        }
+        System.arraycopy(bloque.datos, indice, bloque.datos, indice + 1, bloque.cuenta - indice);
+        bloque.datos[indice] = dato;
+        bloque.cuenta++;
+        tamanno++;
+    }
+
+    /**
+     * Elimina el elemento {@code indice} del bloque y lo devuelve. Si el bloque queda por
+     * debajo de la mitad, se fusiona con el siguiente cuando caben juntos o le toma
+     * prestado su primer elemento; un bloque vacío se desenlaza.
+     */
+    private T eliminarDeBloque(Bloque anterior, Bloque bloque, int indice) {
+        T eliminado = dato(bloque, indice);
+        System.arraycopy(bloque.datos, indice + 1, bloque.datos, indice, bloque.cuenta - indice - 1);
+        bloque.datos[--bloque.cuenta] = null;
+        tamanno--;
+
+        Bloque siguiente = bloque.siguiente;
+        if (bloque.cuenta < capacidad / 2 && siguiente != null) {
+            if (bloque.cuenta + siguiente.cuenta <= capacidad) {
+                System.arraycopy(siguiente.datos, 0, bloque.datos, bloque.cuenta, siguiente.cuenta);
+                bloque.cuenta += siguiente.cuenta;
+                bloque.siguiente = siguiente.siguiente;
+                if (cola == siguiente) {
+                    cola = bloque;
+                }
+                bloques--;
+            } else {
+                bloque.datos[bloque.cuenta++] = siguiente.datos[0];
+                System.arraycopy(siguiente.datos, 1, siguiente.datos, 0, siguiente.cuenta - 1);
+                siguiente.datos[--siguiente.cuenta] = null;
+            }
+        }
+        if (bloque.cuenta == 0) {
+            desenlazarBloque(anterior, bloque);
+        }
+        return eliminado;
+    }
+
+    private void desenlazarBloque(Bloque anterior, Bloque bloque) {
+        if (anterior == null) {
+            cabeza = bloque.siguiente;
+        } else {
+            anterior.siguiente = bloque.siguiente;
+        }
+        if (cola == bloque) {
+            cola = anterior;
+        }
+        bloques--;
+    }
+}
@@ -18,7 +18,7 @@ import java.util.Objects;
  * @author devapps
  * @version 1.2
  */
-public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
+public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>, ListaDeNodos<T> {
 
     /** Referencia al primer nodo de la lista (cabeza). {@code null} si la lista está vacía. */
     public NodoDoble<T> cabeza;
@@ -26,14 +26,41 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
     public NodoDoble<T> cola;
     /** Número actual de elementos en la lista. */
     private int tamanno;
+    /** Cambios de estructura u orden desde la creación; lo consulta {@link IndiceSaltos}. */
+    private int modificaciones;
+    /** Reserva de la que se toman y a la que vuelven los nodos, o {@code null} para usar {@code new}. */
+    private final PoolNodos<T, NodoDoble<T>> pool;
+    /** Posición del cursor de la reserva al tomar el primer nodo de él, o -1 si aún no se tomó ninguno. */
+    private int marcaPool;
+    /** Generación de la reserva en la que se anotó {@code marcaPool}. */
+    private int generacionPool;
+    /** Si todos los nodos salieron seguidos del cursor desde {@code marcaPool}: entonces se pueden devolver rebobinando. */
+    private boolean nodosContiguos;
+    /** Índice hash de datos a nodos, o {@code null} si la lista no está indexada. */
+    private IndiceHash<T> indice;
+    /** Filtro de Bloom para descartar búsquedas de datos ausentes, o {@code null} si no está activo. */
+    private FiltroBloom<T> filtro;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
 
     /**
      * Construye una lista doblemente enlazada vacía.
      */
     public ListaEnlazadaDoble() {
+        this(null);
+    }
+
+    /**
+     * Construye una lista doble vacía que toma sus nodos de {@code pool} y se los
+     * devuelve al eliminarlos. Sus clones comparten la misma reserva.
+     * @param pool La reserva de nodos, o {@code null} para crear cada nodo con {@code new}.
+     */
+    public ListaEnlazadaDoble(PoolNodos<T, NodoDoble<T>> pool) {
         this.cabeza = null;
         this.cola = null;
         this.tamanno = 0;
+        this.pool = pool;
+        reiniciarMarca();
     }
 
     // --- Información Básica ---
@@ -46,6 +73,16 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
         return tamanno;
     }
 
+    /**
+     * Devuelve un contador que aumenta con cada inserción, eliminación, vaciado o
+     * reordenamiento de la lista.
+     * @return El número de modificaciones.
+     */
+    @Override
+    public int getModificaciones() {
+        return this.modificaciones;
+    }
+
     /**
      * Comprueba si la lista está vacía.
      * @return {@code true} si la lista no tiene elementos, {@code false} en caso contrario.
@@ -64,13 +101,57 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
     
     public void setCabeza(NodoDoble<T> nuevaCabeza) {
         this.cabeza = nuevaCabeza;
+        this.modificaciones++;
 
         // Si la nueva cabeza es null, la lista está vacía
         if (this.cabeza == null) {
             this.cola = null;
             this.tamanno = 0;
+            if (this.indice != null) {
+                this.indice.vaciar();
+            }
+            if (this.filtro != null) {
+                this.filtro.vaciar();
+            }
             return;
         }
+        if (this.indice != null) {
+            this.indice.invalidar();
+        }
+        if (this.filtro != null) {
+            this.filtro.reconstruir(this.tamanno); // La cadena nueva puede traer otros datos
+        }
+    }
+
+    /**
+     * Devuelve la cabeza; los algoritmos solo siguen los enlaces {@code siguiente} y
+     * los enlaces {@code anterior} se reconstruyen en {@link #reenlazar(Nodo)}.
+     * @return El primer nodo, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<T> desenlazar() {
+        return this.cabeza;
+    }
+
+    /**
+     * Recorre la cadena una vez fijando {@code anterior} en cada nodo y la cola al final.
+     * @param cabeza La cabeza de la cadena ordenada; todos sus nodos son {@link NodoDoble}.
+     */
+    @Override
+    public void reenlazar(Nodo<T> cabeza) {
+        NodoDoble<T> anterior = null;
+        NodoDoble<T> actual = (NodoDoble<T>) cabeza;
+        while (actual != null) {
+            actual.setAnterior(anterior);
+            anterior = actual;
+            actual = actual.getSiguienteDoble();
+        }
+        this.cabeza = (NodoDoble<T>) cabeza;
+        this.cola = anterior;
+        this.modificaciones++;
+        if (this.indice != null) {
+            this.indice.invalidar(); // Las primeras apariciones de los repetidos pueden cambiar
+        }
     }
 
     // --- Métodos de Inserción ---
@@ -81,7 +162,7 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
      * @param dato El dato a insertar.
      */
     public void insertarAlInicio(T dato) {
-        NodoDoble<T> nuevoNodo = new NodoDoble<>(dato, null, this.cabeza); // Ant: null, Sig: cabeza antigua
+        NodoDoble<T> nuevoNodo = crearNodo(dato, null, this.cabeza); // Ant: null, Sig: cabeza antigua
         if (estaVacia()) {
             // Si es el primer nodo, es cabeza y cola
             this.cabeza = nuevoNodo;
@@ -93,6 +174,8 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
             this.cabeza = nuevoNodo;
         }
         this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(nuevoNodo);
     }
 
     /**
@@ -106,12 +189,14 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
             return;
         }
         // El nuevo nodo apunta hacia atrás a la cola antigua, y no tiene siguiente
-        NodoDoble<T> nuevoNodo = new NodoDoble<>(dato, this.cola, null);
+        NodoDoble<T> nuevoNodo = crearNodo(dato, this.cola, null);
         // La cola antigua ahora apunta hacia adelante al nuevo nodo
         this.cola.setSiguiente(nuevoNodo);
         // El nuevo nodo se convierte en la nueva cola
         this.cola = nuevoNodo;
         this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(nuevoNodo);
     }
 
     /**
@@ -126,7 +211,7 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
      * Inserta un nuevo elemento {@code datoNuevo} inmediatamente después de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} no se encuentra, la lista no se modifica.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @param datoNuevo El dato a insertar.
@@ -143,14 +228,16 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
             insertarAlFinal(datoNuevo);
         } else {
             // El nodo que actualmente sigue a nodoExistente
-            NodoDoble<T> nodoSiguienteOriginal = nodoExistente.getSiguiente();
+            NodoDoble<T> nodoSiguienteOriginal = nodoExistente.getSiguienteDoble();
             // Crear el nuevo nodo, enlazándolo correctamente
-            NodoDoble<T> nuevoNodo = new NodoDoble<>(datoNuevo, nodoExistente, nodoSiguienteOriginal);
+            NodoDoble<T> nuevoNodo = crearNodo(datoNuevo, nodoExistente, nodoSiguienteOriginal);
             // Actualizar punteros de los vecinos
             nodoExistente.setSiguiente(nuevoNodo);
             // nodoSiguienteOriginal no puede ser null aquí porque nodoExistente no era la cola
             nodoSiguienteOriginal.setAnterior(nuevoNodo);
             this.tamanno++;
+            this.modificaciones++;
+            avisarEnlazado(nuevoNodo);
         }
         return true;
     }
@@ -160,7 +247,7 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} es la cabeza, equivale a {@link #insertarAlInicio(Object)}.
      * Si {@code datoExistente} no se encuentra, la lista no se modifica.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @param datoNuevo El dato a insertar.
@@ -179,12 +266,14 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
             // El nodo que actualmente precede a nodoExistente
             NodoDoble<T> nodoAnteriorOriginal = nodoExistente.getAnterior();
             // Crear el nuevo nodo, enlazándolo correctamente
-            NodoDoble<T> nuevoNodo = new NodoDoble<>(datoNuevo, nodoAnteriorOriginal, nodoExistente);
+            NodoDoble<T> nuevoNodo = crearNodo(datoNuevo, nodoAnteriorOriginal, nodoExistente);
             // Actualizar punteros de los vecinos
             // nodoAnteriorOriginal no puede ser null aquí porque nodoExistente no era la cabeza
             nodoAnteriorOriginal.setSiguiente(nuevoNodo);
             nodoExistente.setAnterior(nuevoNodo);
             this.tamanno++;
+            this.modificaciones++;
+            avisarEnlazado(nuevoNodo);
         }
         return true;
     }
@@ -205,8 +294,9 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
         T datoEliminado = this.cabeza.getDato();
         NodoDoble<T> antiguaCabeza = this.cabeza;
 
-        this.cabeza = this.cabeza.getSiguiente(); // Avanza la cabeza
+        this.cabeza = this.cabeza.getSiguienteDoble(); // Avanza la cabeza
         this.tamanno--;
+        this.modificaciones++;
 
         if (this.cabeza != null) {
             this.cabeza.setAnterior(null); // La nueva cabeza no tiene anterior
@@ -215,8 +305,10 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
             this.cola = null;
         }
 
-        // Opcional: limpiar punteros del nodo eliminado para ayudar al GC
+        avisarDesenlazado(null, antiguaCabeza, this.cabeza);
+        // Limpiar punteros del nodo eliminado para ayudar al GC, o devolverlo a la reserva
         antiguaCabeza.setSiguiente(null);
+        reciclar(antiguaCabeza);
 
         return datoEliminado;
     }
@@ -243,16 +335,20 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
         this.cola = this.cola.getAnterior(); // Retrocede la cola
         this.cola.setSiguiente(null);       // La nueva cola no tiene siguiente
         this.tamanno--;
+        this.modificaciones++;
 
-        // Opcional: limpiar punteros del nodo eliminado
+        avisarDesenlazado(this.cola, antiguaCola, null);
+        // Limpiar punteros del nodo eliminado, o devolverlo a la reserva
         antiguaCola.setAnterior(null);
+        reciclar(antiguaCola);
 
         return datoEliminado;
     }
 
     /**
      * Elimina la primera ocurrencia del elemento especificado {@code dato} de la lista.
-     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n).
+     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n), u O(1) en promedio
+     * con {@link #indexar()}.
      *
      * @param dato El dato del elemento a eliminar.
      * @return {@code true} si el elemento fue encontrado y eliminado, {@code false} en caso contrario.
@@ -271,7 +367,7 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
      * Elimina y devuelve el elemento que se encuentra inmediatamente después de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} no se encuentra, o si es la cola, no se elimina nada.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @return El dato del nodo eliminado, o {@code null} si no se pudo realizar la eliminación.
@@ -279,20 +375,21 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
     public T eliminarDespuesDe(T datoExistente) {
         NodoDoble<T> nodoExistente = buscarNodo(datoExistente);
         // No se puede eliminar si no se encuentra, o si es la cola, o si su siguiente es null (redundante con cola)
-        if (nodoExistente == null || nodoExistente.getSiguiente() == null) {
+        if (nodoExistente == null || nodoExistente.getSiguienteDoble() == null) {
             return null;
         }
         // El nodo a eliminar es el siguiente
-        NodoDoble<T> nodoAEliminar = nodoExistente.getSiguiente();
+        NodoDoble<T> nodoAEliminar = nodoExistente.getSiguienteDoble();
+        T datoEliminado = nodoAEliminar.getDato(); // Antes de que el nodo vuelva a la reserva
         eliminarNodo(nodoAEliminar); // Usa el auxiliar que maneja todos los casos
-        return nodoAEliminar.getDato();
+        return datoEliminado;
     }
 
     /**
      * Elimina y devuelve el elemento que se encuentra inmediatamente antes de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} no se encuentra, o si es la cabeza, no se elimina nada.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @return El dato del nodo eliminado, o {@code null} si no se pudo realizar la eliminación.
@@ -305,8 +402,57 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
         }
         // El nodo a eliminar es el anterior
         NodoDoble<T> nodoAEliminar = nodoExistente.getAnterior();
+        T datoEliminado = nodoAEliminar.getDato(); // Antes de que el nodo vuelva a la reserva
         eliminarNodo(nodoAEliminar); // Usa el auxiliar
-        return nodoAEliminar.getDato();
+        return datoEliminado;
+    }
+
+    // --- Operaciones sobre un nodo ya localizado ---
+
+    /**
+     * Inserta {@code datoNuevo} justo después de {@code previo}, sin buscarlo. O(1).
+     *
+     * @param previo Un nodo de esta lista, o {@code null} para insertar al inicio.
+     * @param datoNuevo El dato a insertar.
+     * @return El nodo creado.
+     */
+    @Override
+    public Nodo<T> insertarTrasNodo(Nodo<T> previo, T datoNuevo) {
+        if (previo == null) {
+            insertarAlInicio(datoNuevo);
+            return this.cabeza;
+        }
+        if (previo == this.cola) {
+            insertarAlFinal(datoNuevo);
+            return this.cola;
+        }
+        NodoDoble<T> nodoAnterior = (NodoDoble<T>) previo;
+        NodoDoble<T> nodoSiguiente = nodoAnterior.getSiguienteDoble();
+        NodoDoble<T> nuevoNodo = crearNodo(datoNuevo, nodoAnterior, nodoSiguiente);
+        nodoAnterior.setSiguiente(nuevoNodo);
+        nodoSiguiente.setAnterior(nuevoNodo);
+        this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(nuevoNodo);
+        return nuevoNodo;
+    }
+
+    /**
+     * Elimina el nodo que sigue a {@code previo}, sin buscarlo. O(1).
+     *
+     * @param previo Un nodo de esta lista, o {@code null} para eliminar la cabeza.
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si no hay nodo después de {@code previo}.
+     */
+    @Override
+    public T eliminarTrasNodo(Nodo<T> previo) {
+        NodoDoble<T> nodoAEliminar = (previo == null) ? this.cabeza : ((NodoDoble<T>) previo).getSiguienteDoble();
+        if (nodoAEliminar == null) {
+            throw new NoSuchElementException("No hay ningún nodo después del indicado.");
+        }
+        T datoEliminado = nodoAEliminar.getDato();
+        eliminarNodo(nodoAEliminar);
+        return datoEliminado;
     }
 
     // --- Otras Utilidades ---
@@ -316,27 +462,46 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
      * Anula las referencias cabeza y cola, y establece el tamaño a 0.
      */
     public void borrarLista() {
-        // Podríamos iterar y anular todos los punteros, pero para Java,
-        // simplemente perder la referencia a la cabeza y cola es suficiente
-        // para que el GC actúe eventualmente.
+        // Sin reserva basta con perder la referencia a la cabeza y la cola para que
+        // el GC actúe eventualmente; con reserva, los nodos vuelven a ella.
+        if (this.pool != null) {
+            if (!(this.nodosContiguos && this.pool.rebobinar(this.marcaPool, this.generacionPool, this.tamanno))) {
+                this.pool.devolverCadena(this.cabeza);
+            }
+        }
         this.cabeza = null;
         this.cola = null;
         this.tamanno = 0;
+        this.modificaciones++;
+        if (this.indice != null) {
+            this.indice.vaciar();
+        }
+        if (this.filtro != null) {
+            this.filtro.vaciar();
+        }
+        reiniciarMarca();
     }
 
     /**
      * Crea y devuelve una copia superficial (shallow copy) de esta lista.
      * Se crean nuevos nodos {@link NodoDoble}, pero contienen referencias a los mismos
-     * objetos de datos que la lista original.
+     * objetos de datos que la lista original. Si esta lista está indexada o tiene filtro, el
+     * clon también.
      *
      * @return Una nueva instancia de {@code ListaEnlazadaDoble} con los mismos datos.
      */
     public ListaEnlazadaDoble<T> clonarLista() {
-        ListaEnlazadaDoble<T> clon = new ListaEnlazadaDoble<>();
+        ListaEnlazadaDoble<T> clon = new ListaEnlazadaDoble<>(this.pool);
         NodoDoble<T> actual = this.cabeza;
         while (actual != null) {
             clon.insertarAlFinal(actual.getDato()); // Usar operación eficiente
-            actual = actual.getSiguiente();
+            actual = actual.getSiguienteDoble();
+        }
+        if (this.indice != null) {
+            clon.indexar(); // De una vez, con la tabla ya dimensionada
+        }
+        if (this.filtro != null) {
+            clon.activarFiltro(this.filtro.getBitsPorElemento());
         }
         return clon;
     }
@@ -355,14 +520,18 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
         sb.append("HEAD <-> ");
         NodoDoble<T> actual = this.cabeza;
         while (actual != null) {
-            sb.append(actual); // Usa NodoDoble.toString() -> dato.toString()
-            actual = actual.getSiguiente();
+            Formateable.anexar(sb, actual.getDato()); // Sin toString() por elemento
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
+            actual = actual.getSiguienteDoble();
             if (actual != null) {
                 sb.append(" <-> ");
             }
         }
         sb.append(" <-> TAIL");
-        System.out.println(sb.toString());
+        System.out.println(sb);
     }
 
     /**
@@ -379,34 +548,230 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
         sb.append("TAIL <-> ");
         NodoDoble<T> actual = this.cola;
         while (actual != null) {
-            sb.append(actual); // Usa NodoDoble.toString()
+            Formateable.anexar(sb, actual.getDato());
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb);
+                sb.setLength(0);
+            }
             actual = actual.getAnterior(); // Moverse hacia atrás
             if (actual != null) {
                 sb.append(" <-> ");
             }
         }
         sb.append(" <-> HEAD");
-        System.out.println(sb.toString());
+        System.out.println(sb);
+    }
+
+    /**
+     * Devuelve un resumen de la lista con su tamaño y solo los primeros y los últimos
+     * {@code elementos} datos. Los últimos se localizan retrocediendo desde la cola.
+     *
+     * @param elementos Cuántos datos mostrar de cada extremo.
+     * @return El resumen en una sola línea.
+     */
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista Doble Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(this.tamanno).append(" | HEAD <-> ");
+        int primeros = Math.min(elementos, this.tamanno);
+        int ultimos = Math.min(elementos, this.tamanno - primeros);
+        NodoDoble<T> actual = this.cabeza;
+        for (int i = 0; i < primeros; i++) {
+            Formateable.anexar(sb, actual.getDato());
+            sb.append(" <-> ");
+            actual = actual.getSiguienteDoble();
+        }
+        if (ultimos > 0) {
+            if (this.tamanno - primeros > ultimos) {
+                sb.append("... <-> ");
+            }
+            // Retroceder desde la cola hasta el primero de los últimos nodos
+            actual = this.cola;
+            for (int i = 1; i < ultimos; i++) {
+                actual = actual.getAnterior();
+            }
+            for (int i = 0; i < ultimos; i++) {
+                Formateable.anexar(sb, actual.getDato());
+                sb.append(" <-> ");
+                actual = actual.getSiguienteDoble();
+            }
+        }
+        sb.append("TAIL");
+        return sb.toString();
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene al menos una ocurrencia del elemento especificado.
+     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n), u O(1) en promedio
+     * con {@link #indexar()}. Con {@link #activarFiltro()}, casi todas las búsquedas de datos
+     * ausentes terminan en O(1) sin recorrer la lista.
+     *
+     * @param dato El dato a buscar en la lista.
+     * @return {@code true} si el dato se encuentra en la lista, {@code false} en caso contrario.
+     */
+    @Override
+    public boolean contiene(T dato) {
+        return buscarNodo(dato) != null;
+    }
+
+    /**
+     * Activa un índice hash de cada dato a su primer nodo, que se mantiene en cada
+     * inserción y eliminación. Con él, las operaciones que buscan un dato ({@code contiene},
+     * {@code eliminar}, {@code insertarDespuesDe}, {@code eliminarAntesDe}...) lo localizan
+     * en O(1) en promedio en lugar de recorrer la lista, a cambio de una entrada de tabla
+     * hash por dato distinto. Requiere que {@code hashCode()} sea coherente con
+     * {@code equals()}. Construirlo es O(n); si ya existe no hace nada.
+     */
+    public void indexar() {
+        if (this.indice == null) {
+            this.indice = new IndiceHash<>(this::getCabeza, this.tamanno, false);
+        }
+    }
+
+    /**
+     * Descarta el índice hash; las búsquedas vuelven a recorrer la lista.
+     */
+    public void desindexar() {
+        this.indice = null;
+    }
+
+    /**
+     * @return {@code true} si la lista mantiene un índice hash.
+     */
+    public boolean estaIndexada() {
+        return this.indice != null;
+    }
+
+    /**
+     * Activa un filtro de Bloom con {@link FiltroBloom#BITS_POR_ELEMENTO} bits por elemento
+     * (alrededor de un 1 % de falsos positivos).
+     * @see #activarFiltro(int)
+     */
+    public void activarFiltro() {
+        activarFiltro(FiltroBloom.BITS_POR_ELEMENTO);
+    }
+
+    /**
+     * Activa un filtro de Bloom que se alimenta en cada inserción. Las búsquedas
+     * ({@code contiene}, {@code eliminar}, {@code insertarDespuesDe}...) de un dato que el
+     * filtro descarta terminan sin recorrer la lista; el resto se resuelven como siempre. Ocupa
+     * {@code bitsPorElemento} bits por elemento, mucho menos que {@link #indexar()}, y se
+     * reconstruye tras muchas eliminaciones o si la lista lo desborda. Requiere que
+     * {@code hashCode()} sea coherente con {@code equals()}. Construirlo es O(n); si ya existe,
+     * se sustituye.
+     *
+     * @param bitsPorElemento Bits del filtro por elemento: más bits, menos falsos positivos.
+     */
+    public void activarFiltro(int bitsPorElemento) {
+        this.filtro = new FiltroBloom<>(this::getCabeza, this.tamanno, bitsPorElemento);
+    }
+
+    /**
+     * Descarta el filtro de Bloom; todas las búsquedas vuelven a recorrer la lista.
+     */
+    public void desactivarFiltro() {
+        this.filtro = null;
+    }
+
+    /**
+     * @return El filtro de Bloom, con su tamaño y su tasa de falsos positivos, o {@code null} si no está activo.
+     */
+    public FiltroBloom<T> getFiltro() {
+        return this.filtro;
+    }
+
+    /**
+     * Devuelve los nodos a la reserva, si la lista usa una; sin reserva no hace nada.
+     */
+    @Override
+    public void liberar() {
+        if (this.pool != null) {
+            borrarLista();
+        }
     }
 
     // --- Métodos Auxiliares Privados ---
 
+    private NodoDoble<T> crearNodo(T dato, NodoDoble<T> anterior, NodoDoble<T> siguiente) {
+        if (this.pool == null) {
+            return new NodoDoble<>(dato, anterior, siguiente);
+        }
+        if (this.pool.hayLibres()) {
+            this.nodosContiguos = false; // Saldrá de la pila de libres, no del cursor
+        } else if (this.marcaPool < 0) {
+            // Primer nodo del cursor: la marca se anota ahora y no antes, cuando otra lista
+            // aún podía mover el cursor
+            this.marcaPool = this.pool.getPosicion();
+            this.generacionPool = this.pool.getGeneracion();
+        }
+        NodoDoble<T> nodo = this.pool.obtener(dato);
+        nodo.setAnterior(anterior);
+        nodo.setSiguiente(siguiente);
+        return nodo;
+    }
+
+    private void reciclar(NodoDoble<T> nodo) {
+        if (this.pool != null) {
+            this.pool.devolver(nodo);
+            this.nodosContiguos = false;
+        }
+    }
+
+    private void reiniciarMarca() {
+        this.marcaPool = -1;
+        this.nodosContiguos = true;
+    }
+
+    /** Avisa al índice y al filtro, si los hay, de que {@code nodo} ya está enlazado entre sus vecinos. */
+    private void avisarEnlazado(NodoDoble<T> nodo) {
+        if (this.indice != null) {
+            this.indice.enlazado(nodo.getAnterior(), nodo, nodo.getSiguienteDoble());
+        }
+        if (this.filtro != null) {
+            this.filtro.agregar(nodo.getDato());
+        }
+    }
+
+    /** Avisa al índice y al filtro, si los hay, de que {@code nodo} se desenlazó; debe ser antes de reciclarlo. */
+    private void avisarDesenlazado(NodoDoble<T> anterior, NodoDoble<T> nodo, NodoDoble<T> siguiente) {
+        if (this.indice != null) {
+            this.indice.desenlazado(anterior, nodo, siguiente);
+        }
+        if (this.filtro != null) {
+            this.filtro.eliminado();
+        }
+    }
+
     /**
      * Busca el primer nodo en la lista que contiene el {@code datoBusqueda}.
      * Utiliza {@code Objects.equals()} para manejar {@code null} de forma segura.
+     * Si la lista está indexada, consulta el índice en lugar de recorrerla; si tiene filtro
+     * y este descarta el dato, ni siquiera eso.
      *
      * @param datoBusqueda El dato a buscar.
      * @return El {@link NodoDoble} que contiene el dato, o {@code null} si no se encuentra.
      */
     private NodoDoble<T> buscarNodo(T datoBusqueda) {
-        NodoDoble<T> actual = this.cabeza;
-        while (actual != null) {
-            if (Objects.equals(actual.getDato(), datoBusqueda)) {
-                return actual;
+        if (this.filtro != null && !this.filtro.puedeContener(datoBusqueda, this.tamanno)) {
+            return null;
+        }
+        NodoDoble<T> actual;
+        if (this.indice != null) {
+            actual = (NodoDoble<T>) this.indice.buscar(datoBusqueda); // El índice solo guarda nodos de esta lista
+        } else {
+            actual = this.cabeza;
+            while (actual != null && !Objects.equals(actual.getDato(), datoBusqueda)) {
+                actual = actual.getSiguienteDoble();
             }
-            actual = actual.getSiguiente();
         }
-        return null; // No encontrado
+        if (actual == null && this.filtro != null) {
+            this.filtro.falsoPositivo(); // El filtro lo dejó pasar y no estaba
+        }
+        return actual;
     }
 
     /**
@@ -422,7 +787,7 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
 
         // Identificar los vecinos
         NodoDoble<T> nodoAnterior = nodoAEliminar.getAnterior();
-        NodoDoble<T> nodoSiguiente = nodoAEliminar.getSiguiente();
+        NodoDoble<T> nodoSiguiente = nodoAEliminar.getSiguienteDoble();
 
         // --- Actualizar enlaces de los vecinos ---
         if (nodoAnterior == null) {
@@ -443,10 +808,12 @@ public class ListaEnlazadaDoble<T> implements ListaEnlazadaBase <T>{
 
         // --- Actualizar tamaño ---
         this.tamanno--;
+        this.modificaciones++;
+        avisarDesenlazado(nodoAnterior, nodoAEliminar, nodoSiguiente);
 
         // --- Opcional: limpiar punteros del nodo eliminado ---
         nodoAEliminar.setAnterior(null);
         nodoAEliminar.setSiguiente(null);
-        // nodoAEliminar.setDato(null); // No es estrictamente necesario
+        reciclar(nodoAEliminar);
     }
 }
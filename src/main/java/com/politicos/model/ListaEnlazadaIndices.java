@@ -0,0 +1,631 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Lista enlazada genérica sin objetos nodo ("lista de cursores"): los datos viven en un
+ * {@code Object[]} y los enlaces son posiciones en un {@code int[] siguiente} y, para la
+ * topología doble, un {@code int[] anterior}. Cada elemento cuesta una referencia y uno o
+ * dos enteros en arreglos contiguos, frente a la cabecera y las referencias de un
+ * {@link Nodo} repartido por el heap.
+ *
+ * <p>Las posiciones de los elementos eliminados forman una lista de libres, enlazada por el
+ * propio arreglo {@code siguiente}, que se reutiliza antes de crecer. La misma clase cubre
+ * las tres topologías de {@link Topologia}, con la semántica de {@link ListaEnlazadaSimple},
+ * {@link ListaEnlazadaDoble} y {@link ListaEnlazadaSimpleCircular}; en la circular el
+ * siguiente del último es el primero.</p>
+ *
+ * <p>Implementa {@link CadenaIndices}, así que las estrategias la ordenan reenlazando
+ * posiciones, sin crear nodos. Los elementos deben ser {@link Comparable} para ordenarla.</p>
+ *
+ * @param <T> Tipo de los elementos.
+ * @author devapps
+ * @version 1.0
+ */
+public class ListaEnlazadaIndices<T> implements ListaEnlazadaBase<T>, CadenaIndices {
+
+    /**
+     * Forma de los enlaces de una {@link ListaEnlazadaIndices}.
+     */
+    public enum Topologia {
+        /** Solo enlace al siguiente; el último termina en {@link CadenaIndices#FIN}. */
+        SIMPLE("Simple", " -> ", "NULL"),
+        /** Enlaces al siguiente y al anterior. */
+        DOBLE("Doble", " <-> ", "NULL"),
+        /** Solo enlace al siguiente; el último apunta al primero. */
+        CIRCULAR("Circular", " -> ", "(HEAD)");
+
+        private final String nombre;
+        private final String separador;
+        private final String cierre;
+
+        Topologia(String nombre, String separador, String cierre) {
+            this.nombre = nombre;
+            this.separador = separador;
+            this.cierre = cierre;
+        }
+    }
+
+    /** Capacidad inicial por defecto de los arreglos. */
+    private static final int CAPACIDAD_INICIAL = 16;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
+    /** Resultado de {@link #buscarAnterior(Object)} cuando el dato no está. */
+    private static final int NINGUNA = -2;
+
+    private final Topologia topologia;
+    /** Dato por posición; {@code null} en las posiciones libres. */
+    private Object[] datos;
+    /** Posición siguiente en orden de enlace; en las libres, la siguiente libre. */
+    private int[] siguiente;
+    /** Posición anterior en orden de enlace, solo en la topología doble ({@code null} en las demás). */
+    private int[] anterior;
+    /** Posición de la cabeza, o {@link #FIN} si la lista está vacía. */
+    private int primero = FIN;
+    /** Posición de la cola, o {@link #FIN} si la lista está vacía. */
+    private int ultimo = FIN;
+    /** Número de elementos enlazados. */
+    private int tamanno;
+    /** Posiciones usadas alguna vez: las de {@code 0..ocupadas-1} están enlazadas o libres. */
+    private int ocupadas;
+    /** Primera posición de la lista de libres, o {@link #FIN}. */
+    private int libre = FIN;
+
+    /**
+     * Construye una lista vacía de la topología indicada con la capacidad por defecto.
+     *
+     * @param topologia La forma de los enlaces.
+     */
+    public ListaEnlazadaIndices(Topologia topologia) {
+        this(topologia, CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Construye una lista vacía con espacio para {@code capacidadInicial} elementos antes
+     * de tener que crecer.
+     *
+     * @param topologia La forma de los enlaces.
+     * @param capacidadInicial Capacidad inicial de los arreglos (no negativa).
+     * @throws IllegalArgumentException si {@code capacidadInicial} es negativa.
+     */
+    public ListaEnlazadaIndices(Topologia topologia, int capacidadInicial) {
+        this.topologia = Objects.requireNonNull(topologia, "La topología no puede ser null.");
+        if (capacidadInicial < 0) {
+            throw new IllegalArgumentException("La capacidad inicial no puede ser negativa.");
+        }
+        datos = new Object[capacidadInicial];
+        siguiente = new int[capacidadInicial];
+        anterior = (topologia == Topologia.DOBLE) ? new int[capacidadInicial] : null;
+    }
+
+    // --- Información Básica ---
+
+    public Topologia getTopologia() {
+        return topologia;
+    }
+
+    @Override
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    /**
+     * Devuelve el elemento en la posición {@code indice} según el orden de enlace. En la
+     * topología doble recorre desde el extremo más cercano.
+     *
+     * @param indice Posición entre 0 y {@code getTamanno() - 1}.
+     * @return El dato en esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango.
+     */
+    public T obtener(int indice) {
+        Objects.checkIndex(indice, tamanno);
+        int posicion;
+        if (anterior != null && indice > tamanno / 2) {
+            posicion = ultimo;
+            for (int i = tamanno - 1; i > indice; i--) {
+                posicion = anterior[posicion];
+            }
+        } else {
+            posicion = primero;
+            for (int i = 0; i < indice; i++) {
+                posicion = siguiente[posicion];
+            }
+        }
+        return dato(posicion);
+    }
+
+    // --- Métodos de Inserción ---
+
+    @Override
+    public void insertarAlInicio(T dato) {
+        enlazarDespues(FIN, reservar(dato));
+    }
+
+    @Override
+    public void insertarAlFinal(T dato) {
+        enlazarDespues(ultimo, reservar(dato));
+    }
+
+    /**
+     * Alias conveniente para {@link #insertarAlFinal(Object)}.
+     * @param dato El dato a agregar.
+     */
+    public void agregar(T dato) {
+        insertarAlFinal(dato);
+    }
+
+    /**
+     * Inserta {@code datoNuevo} justo después de la primera ocurrencia de {@code datoExistente}.
+     *
+     * @param datoExistente El dato de referencia. Se compara usando {@code equals()}.
+     * @param datoNuevo El dato a insertar.
+     * @return {@code true} si se insertó, {@code false} si {@code datoExistente} no está.
+     */
+    public boolean insertarDespuesDe(T datoExistente, T datoNuevo) {
+        int previo = buscarAnterior(datoExistente);
+        if (previo == NINGUNA) {
+            return false;
+        }
+        int existente = posicionTras(previo);
+        enlazarDespues(existente, reservar(datoNuevo));
+        return true;
+    }
+
+    /**
+     * Inserta {@code datoNuevo} justo antes de la primera ocurrencia de {@code datoExistente}.
+     *
+     * @param datoExistente El dato de referencia. Se compara usando {@code equals()}.
+     * @param datoNuevo El dato a insertar.
+     * @return {@code true} si se insertó, {@code false} si {@code datoExistente} no está.
+     */
+    public boolean insertarAntesDe(T datoExistente, T datoNuevo) {
+        int previo = buscarAnterior(datoExistente);
+        if (previo == NINGUNA) {
+            return false;
+        }
+        enlazarDespues(previo, reservar(datoNuevo));
+        return true;
+    }
+
+    // --- Métodos de Eliminación ---
+
+    /**
+     * Elimina y devuelve el primer elemento. O(1).
+     *
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public T eliminarAlInicio() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al inicio.");
+        }
+        return desligar(FIN, primero);
+    }
+
+    /**
+     * Elimina y devuelve el último elemento. O(1) en la topología doble; en las demás hay
+     * que recorrer la lista para encontrar el penúltimo, como con nodos.
+     *
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public T eliminarAlFinal() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al final.");
+        }
+        return desligar(anteriorA(ultimo), ultimo);
+    }
+
+    /**
+     * Elimina la primera ocurrencia de {@code dato}.
+     *
+     * @param dato El dato a eliminar. Se compara usando {@code equals()}.
+     * @return {@code true} si se encontró y eliminó.
+     */
+    public boolean eliminar(T dato) {
+        int previo = buscarAnterior(dato);
+        if (previo == NINGUNA) {
+            return false;
+        }
+        desligar(previo, posicionTras(previo));
+        return true;
+    }
+
+    /**
+     * Elimina y devuelve el elemento que sigue a la primera ocurrencia de {@code datoExistente}.
+     * No elimina nada si es el último.
+     *
+     * @param datoExistente El dato de referencia. Se compara usando {@code equals()}.
+     * @return El dato eliminado, o {@code null} si no se pudo eliminar.
+     */
+    public T eliminarDespuesDe(T datoExistente) {
+        int previo = buscarAnterior(datoExistente);
+        if (previo == NINGUNA) {
+            return null;
+        }
+        int existente = posicionTras(previo);
+        if (existente == ultimo) {
+            return null;
+        }
+        return desligar(existente, siguiente[existente]);
+    }
+
+    /**
+     * Elimina y devuelve el elemento anterior a la primera ocurrencia de {@code datoExistente}.
+     * No elimina nada si es el primero.
+     *
+     * @param datoExistente El dato de referencia. Se compara usando {@code equals()}.
+     * @return El dato eliminado, o {@code null} si no se pudo eliminar.
+     */
+    public T eliminarAntesDe(T datoExistente) {
+        int previo = buscarAnterior(datoExistente);
+        if (previo == NINGUNA || previo == FIN) {
+            return null;
+        }
+        return desligar(anteriorA(previo), previo);
+    }
+
+    /**
+     * Elimina todos los elementos. Los arreglos conservan su capacidad.
+     */
+    public void borrarLista() {
+        Arrays.fill(datos, 0, ocupadas, null); // No retener los datos eliminados
+        primero = FIN;
+        ultimo = FIN;
+        libre = FIN;
+        tamanno = 0;
+        ocupadas = 0;
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene {@code dato} usando {@code equals()}. Si no hay
+     * posiciones libres, recorre el arreglo de datos de forma secuencial en lugar de
+     * seguir los enlaces.
+     *
+     * @param dato El dato a buscar.
+     * @return {@code true} si está en la lista.
+     */
+    @Override
+    public boolean contiene(T dato) {
+        if (ocupadas == tamanno) {
+            Object[] valores = datos;
+            for (int i = 0; i < tamanno; i++) {
+                if (Objects.equals(valores[i], dato)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return buscarAnterior(dato) != NINGUNA;
+    }
+
+    // --- CadenaIndices ---
+
+    @Override
+    public int getPrimero() {
+        return primero;
+    }
+
+    /**
+     * En la topología circular rompe el ciclo para que los enlaces formen una cadena
+     * terminada en {@link #FIN}; {@link #setPrimero(int)} lo cierra de nuevo.
+     */
+    @Override
+    public int desenlazarIndices() {
+        if (topologia == Topologia.CIRCULAR && ultimo != FIN) {
+            siguiente[ultimo] = FIN;
+        }
+        return primero;
+    }
+
+    /**
+     * Fija la cabeza y recorre la cadena para encontrar la cola, reconstruir los enlaces
+     * anteriores (topología doble) y cerrar el ciclo (topología circular).
+     */
+    @Override
+    public void setPrimero(int primero) {
+        this.primero = primero;
+        int previo = FIN;
+        int posicion = primero;
+        while (posicion != FIN) {
+            if (anterior != null) {
+                anterior[posicion] = previo;
+            }
+            previo = posicion;
+            posicion = siguiente[posicion];
+        }
+        this.ultimo = previo;
+        cerrarCiclo();
+    }
+
+    @Override
+    public EnlacesIndices getSiguientes() {
+        return new EnlacesIndices.Arreglo(siguiente);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // Ordenar exige elementos Comparable, como en las demás listas
+    public int comparar(int a, int b) {
+        return ((Comparable<Object>) datos[a]).compareTo(datos[b]);
+    }
+
+    @Override
+    public void intercambiar(int a, int b) {
+        Object dato = datos[a];
+        datos[a] = datos[b];
+        datos[b] = dato;
+    }
+
+    // --- Topología para estrategias por nodos ---
+
+    /**
+     * Materializa los elementos, en orden de enlace, como una cadena de {@link Nodo}.
+     * Solo se usa con estrategias que no ordenan por índices.
+     * @return La cabeza de la cadena, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<T> desenlazar() {
+        Nodo<T> cabeza = null;
+        Nodo<T> cola = null;
+        int posicion = primero;
+        for (int i = 0; i < tamanno; i++) {
+            Nodo<T> nodo = new Nodo<>(dato(posicion));
+            if (cola == null) {
+                cabeza = nodo;
+            } else {
+                cola.setSiguiente(nodo);
+            }
+            cola = nodo;
+            posicion = siguiente[posicion];
+        }
+        return cabeza;
+    }
+
+    /**
+     * Vuelve a escribir los datos en el orden de la cadena, en posiciones consecutivas;
+     * la lista de libres queda vacía.
+     * @param cabeza La cabeza de la cadena ordenada, con {@code getTamanno()} elementos.
+     */
+    @Override
+    public void reenlazar(Nodo<T> cabeza) {
+        int posicion = 0;
+        for (Nodo<T> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            datos[posicion++] = nodo.getDato();
+        }
+        Arrays.fill(datos, posicion, ocupadas, null);
+        compactado(posicion);
+    }
+
+    // --- Otras Utilidades ---
+
+    /**
+     * Crea una copia con arreglos del tamaño justo y los elementos en posiciones
+     * consecutivas según el orden de enlace, de modo que recorrer el clon es secuencial
+     * en memoria aunque el original tenga huecos o esté ordenado.
+     * @return Una nueva lista con los mismos datos, en el mismo orden y la misma topología.
+     */
+    @Override
+    public ListaEnlazadaIndices<T> clonarLista() {
+        ListaEnlazadaIndices<T> clon = new ListaEnlazadaIndices<>(topologia, tamanno);
+        int posicion = primero;
+        for (int i = 0; i < tamanno; i++) {
+            clon.datos[i] = datos[posicion];
+            posicion = siguiente[posicion];
+        }
+        clon.compactado(tamanno);
+        return clon;
+    }
+
+    @Override
+    public void imprimir() {
+        if (estaVacia()) {
+            System.out.println("Lista " + topologia.nombre + " Vacía");
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("HEAD").append(topologia.separador);
+        int posicion = primero;
+        for (int i = 0; i < tamanno; i++) {
+            Formateable.anexar(sb, datos[posicion]); // Sin toString() por elemento
+            sb.append(topologia.separador);
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
+            posicion = siguiente[posicion];
+        }
+        sb.append(topologia.cierre);
+        System.out.println(sb);
+    }
+
+    @Override
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista " + topologia.nombre + " Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(tamanno).append(" | HEAD").append(topologia.separador);
+        int primeros = Math.min(elementos, tamanno);
+        int ultimos = Math.min(elementos, tamanno - primeros);
+        int posicion = primero;
+        for (int i = 0; i < tamanno; i++) {
+            if (i < primeros || i >= tamanno - ultimos) {
+                Formateable.anexar(sb, datos[posicion]);
+                sb.append(topologia.separador);
+            } else if (i == primeros) {
+                sb.append("...").append(topologia.separador);
+            }
+            posicion = siguiente[posicion];
+        }
+        sb.append(topologia.cierre);
+        return sb.toString();
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    @SuppressWarnings("unchecked") // En datos solo se guardan elementos de tipo T
+    private T dato(int posicion) {
+        return (T) datos[posicion];
+    }
+
+    /**
+     * Toma una posición de la lista de libres, o la siguiente sin usar si no hay, y guarda
+     * en ella {@code dato}. La posición aún no está enlazada.
+     */
+    private int reservar(T dato) {
+        int posicion;
+        if (libre != FIN) {
+            posicion = libre;
+            libre = siguiente[posicion];
+        } else {
+            if (ocupadas == datos.length) {
+                redimensionar(Math.max(CAPACIDAD_INICIAL, ocupadas + (ocupadas >> 1)));
+            }
+            posicion = ocupadas++;
+        }
+        datos[posicion] = dato;
+        return posicion;
+    }
+
+    /**
+     * Enlaza {@code posicion} tras {@code previo}, o como cabeza si {@code previo} es
+     * {@link #FIN}, manteniendo la cola, los anteriores y el ciclo.
+     */
+    private void enlazarDespues(int previo, int posicion) {
+        int sucesor = (previo == FIN) ? primero : (previo == ultimo) ? FIN : siguiente[previo];
+        siguiente[posicion] = sucesor;
+        if (previo == FIN) {
+            primero = posicion;
+        } else {
+            siguiente[previo] = posicion;
+        }
+        if (anterior != null) {
+            anterior[posicion] = previo;
+            if (sucesor != FIN) {
+                anterior[sucesor] = posicion;
+            }
+        }
+        if (sucesor == FIN) {
+            ultimo = posicion;
+        }
+        tamanno++;
+        cerrarCiclo();
+    }
+
+    /**
+     * Quita {@code posicion} de la cadena, sabiendo que le precede {@code previo} (o
+     * {@link #FIN} si es la cabeza), la pasa a la lista de libres y devuelve su dato.
+     */
+    private T desligar(int previo, int posicion) {
+        int sucesor = (posicion == ultimo) ? FIN : siguiente[posicion];
+        if (previo == FIN) {
+            primero = sucesor;
+        } else {
+            siguiente[previo] = sucesor;
+        }
+        if (anterior != null && sucesor != FIN) {
+            anterior[sucesor] = previo;
+        }
+        if (posicion == ultimo) {
+            ultimo = previo;
+        }
+        tamanno--;
+        cerrarCiclo();
+        T dato = dato(posicion);
+        datos[posicion] = null;
+        siguiente[posicion] = libre;
+        libre = posicion;
+        return dato;
+    }
+
+    /** En la topología circular, enlaza la cola con la cabeza. */
+    private void cerrarCiclo() {
+        if (topologia == Topologia.CIRCULAR && ultimo != FIN) {
+            siguiente[ultimo] = primero;
+        }
+    }
+
+    /**
+     * Devuelve la posición que sigue a {@code previo}, o la cabeza si {@code previo} es
+     * {@link #FIN} (el convenio de {@link #buscarAnterior(Object)}).
+     */
+    private int posicionTras(int previo) {
+        return (previo == FIN) ? primero : siguiente[previo];
+    }
+
+    /**
+     * Devuelve la posición anterior a la primera que contiene {@code dato}, {@link #FIN}
+     * si es la cabeza, o {@link #NINGUNA} si no está.
+     */
+    private int buscarAnterior(T dato) {
+        int previo = FIN;
+        int posicion = primero;
+        for (int i = 0; i < tamanno; i++) {
+            if (Objects.equals(datos[posicion], dato)) {
+                return previo;
+            }
+            previo = posicion;
+            posicion = siguiente[posicion];
+        }
+        return NINGUNA;
+    }
+
+    /**
+     * Devuelve la posición que precede a {@code posicion} (enlazada), o {@link #FIN} si es
+     * la cabeza. O(1) en la topología doble; en las demás recorre desde la cabeza.
+     */
+    private int anteriorA(int posicion) {
+        if (anterior != null || posicion == primero) {
+            return (posicion == primero) ? FIN : anterior[posicion];
+        }
+        int previo = primero;
+        while (siguiente[previo] != posicion) {
+            previo = siguiente[previo];
+        }
+        return previo;
+    }
+
+    /**
+     * Enlaza en orden las posiciones {@code 0..cantidad-1}, que ya contienen los datos, y
+     * deja la lista sin posiciones libres.
+     */
+    private void compactado(int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            siguiente[i] = i + 1;
+        }
+        if (anterior != null) {
+            for (int i = 0; i < cantidad; i++) {
+                anterior[i] = i - 1; // La cabeza queda con FIN
+            }
+        }
+        tamanno = cantidad;
+        ocupadas = cantidad;
+        libre = FIN;
+        primero = (cantidad == 0) ? FIN : 0;
+        ultimo = cantidad - 1; // FIN si está vacía
+        if (cantidad > 0) {
+            siguiente[ultimo] = FIN;
+            cerrarCiclo();
+        }
+    }
+
+    private void redimensionar(int capacidad) {
+        datos = Arrays.copyOf(datos, capacidad);
+        siguiente = Arrays.copyOf(siguiente, capacidad);
+        if (anterior != null) {
+            anterior = Arrays.copyOf(anterior, capacidad);
+        }
+    }
+}
@@ -20,7 +20,7 @@ import java.util.Objects;
  * @author devapps
  * @version 1.2
  */
-public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
+public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>, ListaDeNodos<T> {
 
     /** Referencia al primer nodo de la lista (cabeza). {@code null} si la lista está vacía. */
     private Nodo<T> cabeza;
@@ -28,15 +28,42 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
     private Nodo<T> cola;
     /** Número actual de elementos en la lista. */
     private int tamanno;
+    /** Cambios de estructura u orden desde la creación; lo consulta {@link IndiceSaltos}. */
+    private int modificaciones;
+    /** Reserva de la que se toman y a la que vuelven los nodos, o {@code null} para usar {@code new}. */
+    private final PoolNodos<T, Nodo<T>> pool;
+    /** Posición del cursor de la reserva al tomar el primer nodo de él, o -1 si aún no se tomó ninguno. */
+    private int marcaPool;
+    /** Generación de la reserva en la que se anotó {@code marcaPool}. */
+    private int generacionPool;
+    /** Si todos los nodos salieron seguidos del cursor desde {@code marcaPool}: entonces se pueden devolver rebobinando. */
+    private boolean nodosContiguos;
+    /** Índice hash de datos a nodos, o {@code null} si la lista no está indexada. */
+    private IndiceHash<T> indice;
+    /** Filtro de Bloom para descartar búsquedas de datos ausentes, o {@code null} si no está activo. */
+    private FiltroBloom<T> filtro;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
 
     /**
      * Construye una lista enlazada simple vacía.
      * La cabeza, la cola y el tamaño se inicializan adecuadamente.
      */
     public ListaEnlazadaSimple() {
+        this(null);
+    }
+
+    /**
+     * Construye una lista vacía que toma sus nodos de {@code pool} y se los devuelve al
+     * eliminarlos. Sus clones comparten la misma reserva.
+     * @param pool La reserva de nodos, o {@code null} para crear cada nodo con {@code new}.
+     */
+    public ListaEnlazadaSimple(PoolNodos<T, Nodo<T>> pool) {
         this.cabeza = null;
         this.cola = null;
         this.tamanno = 0;
+        this.pool = pool;
+        reiniciarMarca();
     }
 
     // --- Información Básica y Acceso Interno ---
@@ -57,6 +84,16 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         return this.tamanno;
     }
 
+    /**
+     * Devuelve un contador que aumenta con cada inserción, eliminación, vaciado o
+     * reordenamiento de la lista.
+     * @return El número de modificaciones.
+     */
+    @Override
+    public int getModificaciones() {
+        return this.modificaciones;
+    }
+
     /**
      * Obtiene el nodo cabeza de la lista.
      * Utilizado internamente por algunas estrategias de ordenación.
@@ -74,7 +111,19 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * @param cabeza El nuevo nodo que será la cabeza de la lista.
      */
     public void setCabeza(Nodo<T> cabeza) {
+        fijarCabeza(cabeza);
+        if (this.filtro != null) {
+            this.filtro.reconstruir(this.tamanno); // La cadena nueva puede traer otros datos
+        }
+    }
+
+    /**
+     * Parte común de {@link #setCabeza(Nodo)} y {@link #reenlazar(Nodo)}: fija la cabeza,
+     * recalcula la cola y reconstruye el índice, pero no el filtro.
+     */
+    private void fijarCabeza(Nodo<T> cabeza) {
         this.cabeza = cabeza;
+        this.modificaciones++;
         // Si la nueva cabeza es null, la lista está vacía, cola también es null.
         if (this.cabeza == null) {
             this.cola = null;
@@ -86,10 +135,32 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
             }
             this.cola = actual; // El último nodo encontrado es la nueva cola.
         }
+        if (this.indice != null) {
+            this.indice.invalidar(); // Los anteriores cambian al reordenar
+        }
         // Nota: El tamaño no se modifica aquí, se asume que la estrategia
         // de ordenación no cambia el número de elementos.
     }
 
+    /**
+     * La lista simple ya es lineal: devuelve la cabeza tal cual.
+     * @return El primer {@link Nodo}, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<T> desenlazar() {
+        return this.cabeza;
+    }
+
+    /**
+     * Fija la nueva cabeza y recalcula la cola recorriendo la cadena. Ordenar no cambia
+     * los datos, así que el filtro sigue valiendo y no se reconstruye.
+     * @param cabeza La cabeza de la cadena ordenada.
+     */
+    @Override
+    public void reenlazar(Nodo<T> cabeza) {
+        fijarCabeza(cabeza);
+    }
+
     // --- Métodos de Inserción ---
 
     /**
@@ -98,12 +169,14 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * @param dato El dato a insertar.
      */
     public void insertarAlInicio(T dato) {
-        Nodo<T> nuevoNodo = new Nodo<>(dato, this.cabeza);
+        Nodo<T> nuevoNodo = crearNodo(dato, this.cabeza);
         this.cabeza = nuevoNodo;
         if (this.cola == null) { // Si la lista estaba vacía
             this.cola = this.cabeza; // El nuevo nodo es también la cola
         }
         this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(null, nuevoNodo);
     }
 
     /**
@@ -112,7 +185,8 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * @param dato El dato a insertar.
      */
     public void insertarAlFinal(T dato) {
-        Nodo<T> nuevoNodo = new Nodo<>(dato);
+        Nodo<T> nuevoNodo = crearNodo(dato, null);
+        Nodo<T> anteriorCola = this.cola;
         if (estaVacia()) {
             this.cabeza = nuevoNodo;
             this.cola = nuevoNodo;
@@ -121,6 +195,8 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
             this.cola = nuevoNodo;            // Actualizar la referencia de la cola
         }
         this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(anteriorCola, nuevoNodo);
     }
 
     /**
@@ -136,7 +212,8 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * Inserta un nuevo elemento {@code datoNuevo} inmediatamente después de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} no se encuentra, la lista no se modifica.
-     * La búsqueda es O(n), la inserción es O(1) una vez encontrado el nodo.
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}; la inserción es O(1)
+     * una vez encontrado el nodo.
      *
      * @param datoExistente El dato del nodo después del cual se realizará la inserción. Se compara usando {@code equals()}.
      * @param datoNuevo El dato del nuevo nodo a insertar.
@@ -148,7 +225,7 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
             return false; // No se encontró el nodo de referencia
         }
 
-        Nodo<T> nuevoNodo = new Nodo<>(datoNuevo, nodoExistente.getSiguiente());
+        Nodo<T> nuevoNodo = crearNodo(datoNuevo, nodoExistente.getSiguiente());
         nodoExistente.setSiguiente(nuevoNodo);
 
         // Si se insertó después de la que era la cola, el nuevo nodo es la nueva cola.
@@ -156,6 +233,8 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
             this.cola = nuevoNodo;
         }
         this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(nodoExistente, nuevoNodo);
         return true;
     }
 
@@ -164,7 +243,7 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} es la cabeza, equivale a {@link #insertarAlInicio(Object)}.
      * Si {@code datoExistente} no se encuentra (y no es la cabeza), la lista no se modifica.
-     * La búsqueda es O(n), la inserción es O(1).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}; la inserción es O(1).
      *
      * @param datoExistente El dato del nodo antes del cual se realizará la inserción. Se compara usando {@code equals()}.
      * @param datoNuevo El dato del nuevo nodo a insertar.
@@ -189,9 +268,11 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         }
 
         // Insertar el nuevo nodo entre nodoAnterior y su siguiente original
-        Nodo<T> nuevoNodo = new Nodo<>(datoNuevo, nodoAnterior.getSiguiente());
+        Nodo<T> nuevoNodo = crearNodo(datoNuevo, nodoAnterior.getSiguiente());
         nodoAnterior.setSiguiente(nuevoNodo);
         this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(nodoAnterior, nuevoNodo);
         return true;
     }
 
@@ -208,9 +289,13 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         if (estaVacia()) {
             throw new NoSuchElementException("La lista está vacía, no se puede eliminar al inicio.");
         }
-        T datoEliminado = this.cabeza.getDato();
-        this.cabeza = this.cabeza.getSiguiente();
+        Nodo<T> nodoAEliminar = this.cabeza;
+        T datoEliminado = nodoAEliminar.getDato();
+        this.cabeza = nodoAEliminar.getSiguiente();
+        avisarDesenlazado(null, nodoAEliminar);
+        reciclar(nodoAEliminar);
         this.tamanno--;
+        this.modificaciones++;
         // Si la lista quedó vacía después de eliminar
         if (estaVacia()) {
             this.cola = null; // La cola también debe ser null
@@ -242,15 +327,19 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         }
 
         T datoEliminado = this.cola.getDato();
+        avisarDesenlazado(penultimo, this.cola);
+        reciclar(this.cola);
         penultimo.setSiguiente(null); // El penúltimo ahora es el último
         this.cola = penultimo;       // Actualizar la referencia de la cola
         this.tamanno--;
+        this.modificaciones++;
         return datoEliminado;
     }
 
     /**
      * Elimina la primera ocurrencia del elemento especificado {@code dato} de la lista.
-     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n).
+     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n), u O(1) en promedio
+     * con {@link #indexar()}.
      *
      * @param dato El dato del elemento a eliminar.
      * @return {@code true} si el elemento fue encontrado y eliminado, {@code false} en caso contrario.
@@ -284,7 +373,10 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         }
 
         this.tamanno--;
-        // nodoAEliminar queda desconectado y será eliminado por el GC.
+        this.modificaciones++;
+        avisarDesenlazado(nodoAnterior, nodoAEliminar);
+        // nodoAEliminar queda desconectado: vuelve a la reserva o lo reclamará el GC.
+        reciclar(nodoAEliminar);
         return true;
     }
 
@@ -292,7 +384,7 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * Elimina y devuelve el elemento que se encuentra inmediatamente después de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} no se encuentra, o si es la cola, no se elimina nada.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo después del cual se eliminará. Se compara usando {@code equals()}.
      * @return El dato del nodo eliminado, o {@code null} si no se pudo realizar la eliminación.
@@ -315,8 +407,11 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         if (nodoAEliminar == this.cola) {
             this.cola = nodoExistente;
         }
+        avisarDesenlazado(nodoExistente, nodoAEliminar);
+        reciclar(nodoAEliminar);
 
         this.tamanno--;
+        this.modificaciones++;
         return datoEliminado;
     }
 
@@ -325,7 +420,8 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * No se puede eliminar antes de la cabeza. Requiere al menos dos nodos en la lista
      * para poder eliminar algo "antes" de un nodo que no sea la cabeza.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n). Con {@link #indexar()} es O(1) en promedio si el dato del nodo
+     * a eliminar no está repetido antes en la lista.
      *
      * @param datoExistente El dato del nodo antes del cual se eliminará. Se compara usando {@code equals()}.
      * @return El dato del nodo eliminado, o {@code null} si no se pudo realizar la eliminación.
@@ -341,6 +437,29 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
             return eliminarAlInicio();
         }
 
+        if (descartado(datoExistente)) {
+            return null;
+        }
+
+        if (this.indice != null) {
+            // El índice da el nodo a eliminar y, si es la primera aparición de su dato, también su anterior
+            Nodo<T> nodoAEliminar = this.indice.anterior(datoExistente);
+            if (nodoAEliminar == null) {
+                return null; // No está: la cabeza y el segundo nodo ya se comprobaron
+            }
+            Nodo<T> nodoAnteriorAlPrevio = this.indice.anteriorDe(nodoAEliminar);
+            if (nodoAnteriorAlPrevio != null) {
+                T datoEliminado = nodoAEliminar.getDato();
+                nodoAnteriorAlPrevio.setSiguiente(nodoAEliminar.getSiguiente());
+                avisarDesenlazado(nodoAnteriorAlPrevio, nodoAEliminar);
+                reciclar(nodoAEliminar);
+                this.tamanno--;
+                this.modificaciones++;
+                return datoEliminado;
+            }
+            // Si no, se busca recorriendo la lista
+        }
+
         // Buscar el nodo X tal que: X -> (nodo_a_eliminar) -> (nodo_con_datoExistente)
         Nodo<T> nodoAnteriorAlPrevio = this.cabeza;
         while (nodoAnteriorAlPrevio.getSiguiente() != null && nodoAnteriorAlPrevio.getSiguiente().getSiguiente() != null) {
@@ -351,7 +470,10 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
                 T datoEliminado = nodoAEliminar.getDato();
                 // Hacer que nodoAnteriorAlPrevio salte sobre nodoAEliminar
                 nodoAnteriorAlPrevio.setSiguiente(nodoAEliminar.getSiguiente());
+                avisarDesenlazado(nodoAnteriorAlPrevio, nodoAEliminar);
+                reciclar(nodoAEliminar);
                 this.tamanno--;
+                this.modificaciones++;
                 // La cola no puede ser el nodo eliminado en este caso, no hace falta verificarla.
                 return datoEliminado;
             }
@@ -362,17 +484,85 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         return null;
     }
 
+    // --- Operaciones sobre un nodo ya localizado ---
+
+    /**
+     * Inserta {@code datoNuevo} justo después de {@code previo}, sin buscarlo. O(1).
+     *
+     * @param previo Un nodo de esta lista, o {@code null} para insertar al inicio.
+     * @param datoNuevo El dato a insertar.
+     * @return El nodo creado.
+     */
+    @Override
+    public Nodo<T> insertarTrasNodo(Nodo<T> previo, T datoNuevo) {
+        if (previo == null) {
+            insertarAlInicio(datoNuevo);
+            return this.cabeza;
+        }
+        Nodo<T> nuevoNodo = crearNodo(datoNuevo, previo.getSiguiente());
+        previo.setSiguiente(nuevoNodo);
+        if (previo == this.cola) {
+            this.cola = nuevoNodo;
+        }
+        this.tamanno++;
+        this.modificaciones++;
+        avisarEnlazado(previo, nuevoNodo);
+        return nuevoNodo;
+    }
+
+    /**
+     * Elimina el nodo que sigue a {@code previo}, sin buscarlo. O(1).
+     *
+     * @param previo Un nodo de esta lista, o {@code null} para eliminar la cabeza.
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si no hay nodo después de {@code previo}.
+     */
+    @Override
+    public T eliminarTrasNodo(Nodo<T> previo) {
+        if (previo == null) {
+            return eliminarAlInicio();
+        }
+        Nodo<T> nodoAEliminar = previo.getSiguiente();
+        if (nodoAEliminar == null) {
+            throw new NoSuchElementException("No hay ningún nodo después del indicado.");
+        }
+        T datoEliminado = nodoAEliminar.getDato();
+        previo.setSiguiente(nodoAEliminar.getSiguiente());
+        if (nodoAEliminar == this.cola) {
+            this.cola = previo;
+        }
+        avisarDesenlazado(previo, nodoAEliminar);
+        reciclar(nodoAEliminar);
+        this.tamanno--;
+        this.modificaciones++;
+        return datoEliminado;
+    }
+
     // --- Otras Utilidades ---
 
     /**
      * Elimina todos los elementos de la lista, dejándola en su estado inicial (vacía).
      * Las referencias a cabeza y cola se anulan, y el tamaño se pone a 0.
-     * Los nodos anteriores serán elegibles para recolección de basura.
+     * Los nodos anteriores vuelven a la reserva, si la hay, o serán elegibles para
+     * recolección de basura.
      */
     public void borrarLista() {
+        if (this.pool != null) {
+            if (!(this.nodosContiguos && this.pool.rebobinar(this.marcaPool, this.generacionPool, this.tamanno))) {
+                this.pool.devolverCadena(this.cabeza);
+            }
+        }
         this.cabeza = null;
         this.cola = null;
         this.tamanno = 0;
+        this.modificaciones++;
+        if (this.indice != null) {
+            this.indice.vaciar();
+        }
+        if (this.filtro != null) {
+            this.filtro.vaciar();
+        }
+        reiniciarMarca();
     }
 
     /**
@@ -380,17 +570,24 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
      * Se crean nuevos nodos, pero estos contienen referencias a los mismos
      * objetos de datos que la lista original. Las modificaciones a los objetos
      * de datos se reflejarán en ambas listas. Modificaciones a la estructura
-     * de una lista (añadir/quitar nodos) no afectan a la otra.
+     * de una lista (añadir/quitar nodos) no afectan a la otra. Si esta lista está
+     * indexada o tiene filtro, el clon también.
      *
      * @return Una nueva instancia de {@code ListaEnlazadaSimple} con los mismos datos.
      */
     public ListaEnlazadaSimple<T> clonarLista() {
-        ListaEnlazadaSimple<T> clon = new ListaEnlazadaSimple<>();
+        ListaEnlazadaSimple<T> clon = new ListaEnlazadaSimple<>(this.pool);
         Nodo<T> actual = this.cabeza;
         while (actual != null) {
             clon.insertarAlFinal(actual.getDato()); // Más eficiente usar add/insertarAlFinal
             actual = actual.getSiguiente();
         }
+        if (this.indice != null) {
+            clon.indexar(); // De una vez, con la tabla ya dimensionada
+        }
+        if (this.filtro != null) {
+            clon.activarFiltro(this.filtro.getBitsPorElemento());
+        }
         return clon;
     }
 
@@ -408,7 +605,11 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         sb.append("HEAD -> ");
         Nodo<T> actual = this.cabeza;
         while (actual != null) {
-            sb.append(actual); // Usa Nodo.toString() -> dato.toString()
+            Formateable.anexar(sb, actual.getDato()); // Sin toString() por elemento
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
             actual = actual.getSiguiente();
             if (actual != null) {
                 sb.append(" -> ");
@@ -418,22 +619,129 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         }
         // Añadir información de la cola para depuración/verificación
         sb.append(" (TAIL: ").append(this.cola != null ? this.cola : "null").append(")");
-        System.out.println(sb.toString());
+        System.out.println(sb);
+    }
+
+    /**
+     * Devuelve un resumen de la lista con su tamaño y solo los primeros y los últimos
+     * {@code elementos} datos. Pensado para listas muy grandes, donde {@link #imprimir()}
+     * construiría una cadena enorme.
+     *
+     * @param elementos Cuántos datos mostrar de cada extremo.
+     * @return El resumen en una sola línea.
+     */
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista Simple Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(this.tamanno).append(" | HEAD -> ");
+        int primeros = Math.min(elementos, this.tamanno);
+        int ultimos = Math.min(elementos, this.tamanno - primeros);
+        Nodo<T> actual = this.cabeza;
+        for (int i = 0; i < primeros; i++) {
+            Formateable.anexar(sb, actual.getDato());
+            sb.append(" -> ");
+            actual = actual.getSiguiente();
+        }
+        if (this.tamanno - primeros > ultimos) {
+            sb.append("... -> ");
+            // Avanzar sin formatear hasta los últimos nodos
+            for (int i = primeros; i < this.tamanno - ultimos; i++) {
+                actual = actual.getSiguiente();
+            }
+        }
+        for (int i = 0; i < ultimos; i++) {
+            Formateable.anexar(sb, actual.getDato());
+            sb.append(" -> ");
+            actual = actual.getSiguiente();
+        }
+        sb.append("NULL");
+        return sb.toString();
     }
 
     // --- Búsqueda ---
 
     /**
      * Comprueba si la lista contiene al menos una ocurrencia del elemento especificado.
-     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n).
+     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n), u O(1) en promedio
+     * con {@link #indexar()}. Con {@link #activarFiltro()}, casi todas las búsquedas de datos
+     * ausentes terminan en O(1) sin recorrer la lista.
      *
      * @param dato El dato a buscar en la lista.
      * @return {@code true} si el dato se encuentra en la lista, {@code false} en caso contrario.
      */
+    @Override
     public boolean contiene(T dato) {
         return buscarNodo(dato) != null;
     }
 
+    /**
+     * Activa un índice hash de cada dato a su primer nodo y al anterior a este, que se
+     * mantiene en cada inserción y eliminación. Con él, las operaciones que buscan un dato
+     * ({@code contiene}, {@code eliminar}, {@code insertarDespuesDe}, {@code eliminarAntesDe}...)
+     * lo localizan en O(1) en promedio en lugar de recorrer la lista, a cambio de una
+     * entrada de tabla hash por dato distinto. Requiere que {@code hashCode()} sea coherente
+     * con {@code equals()}. Construirlo es O(n); si ya existe no hace nada.
+     */
+    public void indexar() {
+        if (this.indice == null) {
+            this.indice = new IndiceHash<>(this::getCabeza, this.tamanno, true);
+        }
+    }
+
+    /**
+     * Descarta el índice hash; las búsquedas vuelven a recorrer la lista.
+     */
+    public void desindexar() {
+        this.indice = null;
+    }
+
+    /**
+     * @return {@code true} si la lista mantiene un índice hash.
+     */
+    public boolean estaIndexada() {
+        return this.indice != null;
+    }
+
+    /**
+     * Activa un filtro de Bloom con {@link FiltroBloom#BITS_POR_ELEMENTO} bits por elemento
+     * (alrededor de un 1 % de falsos positivos).
+     * @see #activarFiltro(int)
+     */
+    public void activarFiltro() {
+        activarFiltro(FiltroBloom.BITS_POR_ELEMENTO);
+    }
+
+    /**
+     * Activa un filtro de Bloom que se alimenta en cada inserción. Las búsquedas
+     * ({@code contiene}, {@code eliminar}, {@code insertarDespuesDe}...) de un dato que el
+     * filtro descarta terminan sin recorrer la lista; el resto se resuelven como siempre. Ocupa
+     * {@code bitsPorElemento} bits por elemento, mucho menos que {@link #indexar()}, y se
+     * reconstruye tras muchas eliminaciones o si la lista lo desborda. Requiere que
+     * {@code hashCode()} sea coherente con {@code equals()}. Construirlo es O(n); si ya existe,
+     * se sustituye.
+     *
+     * @param bitsPorElemento Bits del filtro por elemento: más bits, menos falsos positivos.
+     */
+    public void activarFiltro(int bitsPorElemento) {
+        this.filtro = new FiltroBloom<>(this::getCabeza, this.tamanno, bitsPorElemento);
+    }
+
+    /**
+     * Descarta el filtro de Bloom; todas las búsquedas vuelven a recorrer la lista.
+     */
+    public void desactivarFiltro() {
+        this.filtro = null;
+    }
+
+    /**
+     * @return El filtro de Bloom, con su tamaño y su tasa de falsos positivos, o {@code null} si no está activo.
+     */
+    public FiltroBloom<T> getFiltro() {
+        return this.filtro;
+    }
+
 
     // --- Ordenación ---
 
@@ -523,30 +831,105 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         }
     }
 
+    /**
+     * Devuelve los nodos a la reserva, si la lista usa una; sin reserva no hace nada.
+     */
+    @Override
+    public void liberar() {
+        if (this.pool != null) {
+            borrarLista();
+        }
+    }
+
     // --- Métodos Auxiliares Privados ---
 
+    private Nodo<T> crearNodo(T dato, Nodo<T> siguiente) {
+        if (this.pool == null) {
+            return new Nodo<>(dato, siguiente);
+        }
+        if (this.pool.hayLibres()) {
+            this.nodosContiguos = false; // Saldrá de la pila de libres, no del cursor
+        } else if (this.marcaPool < 0) {
+            // Primer nodo del cursor: la marca se anota ahora y no antes, cuando otra lista
+            // aún podía mover el cursor
+            this.marcaPool = this.pool.getPosicion();
+            this.generacionPool = this.pool.getGeneracion();
+        }
+        Nodo<T> nodo = this.pool.obtener(dato);
+        nodo.setSiguiente(siguiente);
+        return nodo;
+    }
+
+    private void reciclar(Nodo<T> nodo) {
+        if (this.pool != null) {
+            this.pool.devolver(nodo);
+            this.nodosContiguos = false;
+        }
+    }
+
+    private void reiniciarMarca() {
+        this.marcaPool = -1;
+        this.nodosContiguos = true;
+    }
+
+    /** Avisa al índice y al filtro, si los hay, de que {@code nodo} se enlazó tras {@code anterior}. */
+    private void avisarEnlazado(Nodo<T> anterior, Nodo<T> nodo) {
+        if (this.indice != null) {
+            this.indice.enlazado(anterior, nodo, nodo.getSiguiente());
+        }
+        if (this.filtro != null) {
+            this.filtro.agregar(nodo.getDato());
+        }
+    }
+
+    /** Avisa al índice y al filtro, si los hay, de que {@code nodo} se desenlazó; debe ser antes de reciclarlo. */
+    private void avisarDesenlazado(Nodo<T> anterior, Nodo<T> nodo) {
+        if (this.indice != null) {
+            this.indice.desenlazado(anterior, nodo, nodo.getSiguiente());
+        }
+        if (this.filtro != null) {
+            this.filtro.eliminado();
+        }
+    }
+
+    /** @return {@code true} si el filtro, si lo hay, asegura que {@code dato} no está en la lista. */
+    private boolean descartado(T dato) {
+        return this.filtro != null && !this.filtro.puedeContener(dato, this.tamanno);
+    }
+
     /**
      * Busca el primer nodo en la lista que contiene el {@code datoBusqueda}.
      * Utiliza {@code Objects.equals()} para manejar {@code null} de forma segura.
+     * Si la lista está indexada, consulta el índice en lugar de recorrerla; si tiene filtro
+     * y este descarta el dato, ni siquiera eso.
      *
      * @param datoBusqueda El dato a buscar.
      * @return El {@link Nodo} que contiene el dato, o {@code null} si no se encuentra.
      */
     private Nodo<T> buscarNodo(T datoBusqueda) {
-        Nodo<T> actual = this.cabeza;
-        while (actual != null) {
-            if (Objects.equals(actual.getDato(), datoBusqueda)) {
-                return actual;
+        if (descartado(datoBusqueda)) {
+            return null;
+        }
+        Nodo<T> actual;
+        if (this.indice != null) {
+            actual = this.indice.buscar(datoBusqueda);
+        } else {
+            actual = this.cabeza;
+            while (actual != null && !Objects.equals(actual.getDato(), datoBusqueda)) {
+                actual = actual.getSiguiente();
             }
-            actual = actual.getSiguiente();
         }
-        return null; // No encontrado
+        if (actual == null && this.filtro != null) {
+            this.filtro.falsoPositivo(); // El filtro lo dejó pasar y no estaba
+        }
+        return actual;
     }
 
     /**
      * Busca el nodo que se encuentra inmediatamente *antes* del primer nodo
      * que contiene {@code datoBusqueda}.
      * Utiliza {@code Objects.equals()} para manejar {@code null} de forma segura.
+     * Si la lista está indexada, consulta el índice en lugar de recorrerla.
      *
      * @param datoBusqueda El dato contenido en el nodo objetivo (el nodo *después* del que buscamos).
      * @return El nodo predecesor al nodo que contiene {@code datoBusqueda},
@@ -557,6 +940,12 @@ public class ListaEnlazadaSimple<T> implements ListaEnlazadaBase <T>{
         if (estaVacia() || this.tamanno == 1 || Objects.equals(this.cabeza.getDato(), datoBusqueda)) {
             return null;
         }
+        if (descartado(datoBusqueda)) {
+            return null;
+        }
+        if (this.indice != null) {
+            return this.indice.anterior(datoBusqueda);
+        }
 
         Nodo<T> actual = this.cabeza;
         // Recorre mientras haya un nodo siguiente para comprobar
@@ -32,13 +32,38 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
     public Nodo<T> ultimo;
     /** Número actual de elementos en la lista. */
     private int tamanno;
+    /** Reserva de la que se toman y a la que vuelven los nodos, o {@code null} para usar {@code new}. */
+    private final PoolNodos<T, Nodo<T>> pool;
+    /** Posición del cursor de la reserva al tomar el primer nodo de él, o -1 si aún no se tomó ninguno. */
+    private int marcaPool;
+    /** Generación de la reserva en la que se anotó {@code marcaPool}. */
+    private int generacionPool;
+    /** Si todos los nodos salieron seguidos del cursor desde {@code marcaPool}: entonces se pueden devolver rebobinando. */
+    private boolean nodosContiguos;
+    /** Índice hash de datos a nodos, o {@code null} si la lista no está indexada. */
+    private IndiceHash<T> indice;
+    /** Filtro de Bloom para descartar búsquedas de datos ausentes, o {@code null} si no está activo. */
+    private FiltroBloom<T> filtro;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
 
     /**
      * Construye una lista enlazada simple circular vacía.
      */
     public ListaEnlazadaSimpleCircular() {
+        this(null);
+    }
+
+    /**
+     * Construye una lista circular vacía que toma sus nodos de {@code pool} y se los
+     * devuelve al eliminarlos. Sus clones comparten la misma reserva.
+     * @param pool La reserva de nodos, o {@code null} para crear cada nodo con {@code new}.
+     */
+    public ListaEnlazadaSimpleCircular(PoolNodos<T, Nodo<T>> pool) {
         this.ultimo = null;
         this.tamanno = 0;
+        this.pool = pool;
+        reiniciarMarca();
     }
 
     // --- Información Básica y Acceso Interno ---
@@ -81,6 +106,12 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
             this.ultimo.setSiguiente(nuevaCabeza);
         }
         recalcularUltimo();
+        if (this.indice != null) {
+            this.indice.invalidar();
+        }
+        if (this.filtro != null) {
+            this.filtro.reconstruir(this.tamanno); // La cadena enlazada puede traer otros datos, no solo la cabeza
+        }
     }
     
     public void recalcularUltimo() {
@@ -93,6 +124,47 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
         this.ultimo = actual;
     }
 
+    /**
+     * Rompe el ciclo ({@code ultimo} deja de apuntar a la cabeza) y devuelve la cabeza.
+     * @return El primer nodo, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<T> desenlazar() {
+        if (estaVacia()) {
+            return null;
+        }
+        Nodo<T> cabeza = this.ultimo.getSiguiente();
+        this.ultimo.setSiguiente(null);
+        return cabeza;
+    }
+
+    /**
+     * Busca el último nodo de la cadena, cierra el ciclo sobre {@code cabeza} y actualiza {@code ultimo}.
+     * @param cabeza La cabeza de la cadena ordenada.
+     */
+    @Override
+    public void reenlazar(Nodo<T> cabeza) {
+        if (cabeza == null) {
+            this.ultimo = null;
+            if (this.indice != null) {
+                this.indice.vaciar();
+            }
+            if (this.filtro != null) {
+                this.filtro.vaciar();
+            }
+            return;
+        }
+        Nodo<T> actual = cabeza;
+        while (actual.getSiguiente() != null) {
+            actual = actual.getSiguiente();
+        }
+        actual.setSiguiente(cabeza);
+        this.ultimo = actual;
+        if (this.indice != null) {
+            this.indice.invalidar(); // Los anteriores cambian al reordenar
+        }
+    }
+
     // --- Métodos de Inserción ---
 
     /**
@@ -101,18 +173,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
      * @param dato El dato a insertar.
      */
     public void insertarAlInicio(T dato) {
-        Nodo<T> nuevoNodo = new Nodo<>(dato);
-        if (estaVacia()) {
-            // Primer nodo: es el último y apunta a sí mismo
-            this.ultimo = nuevoNodo;
-            this.ultimo.setSiguiente(this.ultimo);
-        } else {
-            // Nuevo nodo apunta a la antigua cabeza
-            nuevoNodo.setSiguiente(this.ultimo.getSiguiente());
-            // El último nodo existente ahora apunta al nuevo nodo (que es la nueva cabeza)
-            this.ultimo.setSiguiente(nuevoNodo);
-        }
-        this.tamanno++;
+        avisarEnlazado(null, enlazarAlInicio(dato));
     }
 
     /**
@@ -122,7 +183,8 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
      */
     public void insertarAlFinal(T dato) {
         // Estrategia: insertar al inicio y luego hacer que el nuevo nodo sea el 'ultimo'.
-        insertarAlInicio(dato);
+        Nodo<T> anteriorUltimo = this.ultimo;
+        Nodo<T> nuevoNodo = enlazarAlInicio(dato);
         // Después de insertarAlInicio, el nuevo nodo es la cabeza (ultimo.getSiguiente()).
         // Si la lista ahora tiene más de un elemento, debemos actualizar 'ultimo'
         // para que apunte a este nuevo nodo que acabamos de insertar.
@@ -130,6 +192,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
             this.ultimo = this.ultimo.getSiguiente();
         }
         // Si era el primer nodo, 'ultimo' ya apuntaba a él desde insertarAlInicio.
+        avisarEnlazado(anteriorUltimo, nuevoNodo);
     }
 
     /**
@@ -144,7 +207,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
      * Inserta un nuevo elemento {@code datoNuevo} inmediatamente después de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} no se encuentra, la lista no se modifica.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @param datoNuevo El dato a insertar.
@@ -156,7 +219,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
             return false; // Nodo referencia no encontrado
         }
 
-        Nodo<T> nuevoNodo = new Nodo<>(datoNuevo);
+        Nodo<T> nuevoNodo = crearNodo(datoNuevo, null);
         // Enlazar el nuevo nodo después del existente
         nuevoNodo.setSiguiente(nodoExistente.getSiguiente());
         nodoExistente.setSiguiente(nuevoNodo);
@@ -166,6 +229,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
             this.ultimo = nuevoNodo;
         }
         this.tamanno++;
+        avisarEnlazado(nodoExistente, nuevoNodo);
         return true;
     }
 
@@ -174,7 +238,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} es la cabeza, equivale a {@link #insertarAlInicio(Object)}.
      * Si {@code datoExistente} no se encuentra, la lista no se modifica.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @param datoNuevo El dato a insertar.
@@ -200,9 +264,10 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
         }
 
         // Insertar después de nodoAnterior
-        Nodo<T> nuevoNodo = new Nodo<>(datoNuevo, nodoAnterior.getSiguiente());
+        Nodo<T> nuevoNodo = crearNodo(datoNuevo, nodoAnterior.getSiguiente());
         nodoAnterior.setSiguiente(nuevoNodo);
         this.tamanno++;
+        avisarEnlazado(nodoAnterior, nuevoNodo);
         return true;
     }
 
@@ -230,7 +295,8 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
             this.ultimo.setSiguiente(cabeza.getSiguiente());
         }
         this.tamanno--;
-        // cabeza.setSiguiente(null); // Opcional: ayudar GC
+        avisarDesenlazado(null, cabeza, (this.ultimo == null) ? null : this.ultimo.getSiguiente());
+        reciclar(cabeza);
         return datoEliminado;
     }
 
@@ -249,22 +315,29 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
             return eliminarAlInicio();
         }
 
-        // Encontrar el nodo penúltimo (el que apunta al 'ultimo')
-        Nodo<T> penultimo = buscarNodoAnterior(this.ultimo.getDato());
-        // Este penultimo no debería ser null si tamanno > 1
+        // Encontrar el nodo penúltimo (el que apunta al 'ultimo'). Se busca por identidad:
+        // buscar por el dato daría el anterior de su primera aparición si está repetido.
+        Nodo<T> penultimo = this.ultimo.getSiguiente();
+        while (penultimo.getSiguiente() != this.ultimo) {
+            penultimo = penultimo.getSiguiente();
+        }
 
         T datoEliminado = this.ultimo.getDato();
+        Nodo<T> nodoAEliminar = this.ultimo;
         // El penúltimo ahora apunta a la cabeza (saltando el antiguo 'ultimo')
         penultimo.setSiguiente(this.ultimo.getSiguiente());
         // El penúltimo se convierte en el nuevo 'ultimo'
         this.ultimo = penultimo;
+        avisarDesenlazado(penultimo, nodoAEliminar, null);
+        reciclar(nodoAEliminar);
         this.tamanno--;
         return datoEliminado;
     }
 
     /**
      * Elimina la primera ocurrencia del elemento especificado {@code dato} de la lista.
-     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n).
+     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n), u O(1) en promedio
+     * con {@link #indexar()}.
      *
      * @param dato El dato del elemento a eliminar.
      * @return {@code true} si el elemento fue encontrado y eliminado, {@code false} en caso contrario.
@@ -290,6 +363,8 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
 
         // Si se encontró el anterior, su siguiente es el nodo a eliminar
         Nodo<T> nodoAEliminar = nodoAnterior.getSiguiente();
+        avisarDesenlazado(nodoAnterior, nodoAEliminar,
+            (nodoAEliminar == this.ultimo) ? null : nodoAEliminar.getSiguiente());
         // Hacer que el anterior salte sobre el nodo a eliminar
         nodoAnterior.setSiguiente(nodoAEliminar.getSiguiente());
 
@@ -297,6 +372,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
         if (nodoAEliminar == this.ultimo) {
             this.ultimo = nodoAnterior;
         }
+        reciclar(nodoAEliminar);
         this.tamanno--;
         return true;
     }
@@ -305,7 +381,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
      * Elimina y devuelve el elemento que se encuentra inmediatamente después de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Si {@code datoExistente} no se encuentra, o si es el único nodo, no se elimina nada.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n), u O(1) en promedio con {@link #indexar()}.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @return El dato del nodo eliminado, o {@code null} si no se pudo realizar la eliminación.
@@ -320,6 +396,9 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
 
         Nodo<T> nodoAEliminar = nodoExistente.getSiguiente();
         T datoEliminado = nodoAEliminar.getDato();
+        // Tras el último va la cabeza, que para el índice no tiene anterior
+        avisarDesenlazado((nodoExistente == this.ultimo) ? null : nodoExistente, nodoAEliminar,
+            (nodoAEliminar == this.ultimo) ? null : nodoAEliminar.getSiguiente());
 
         // Hacer que nodoExistente salte sobre nodoAEliminar
         nodoExistente.setSiguiente(nodoAEliminar.getSiguiente());
@@ -328,6 +407,7 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
         if (nodoAEliminar == this.ultimo) {
             this.ultimo = nodoExistente;
         }
+        reciclar(nodoAEliminar);
         this.tamanno--;
         return datoEliminado;
     }
@@ -336,7 +416,8 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
      * Elimina y devuelve el elemento que se encuentra inmediatamente antes de la primera
      * ocurrencia del nodo que contiene {@code datoExistente}.
      * Requiere al menos dos nodos. Si {@code datoExistente} es la cabeza, se elimina el último nodo.
-     * La búsqueda es O(n).
+     * La búsqueda es O(n). Con {@link #indexar()} es O(1) en promedio si el dato del nodo a
+     * eliminar no está repetido antes en la lista.
      *
      * @param datoExistente El dato del nodo referencia. Se compara usando {@code equals()}.
      * @return El dato del nodo eliminado, o {@code null} si no se pudo realizar la eliminación.
@@ -351,6 +432,31 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
             return eliminarAlFinal();
         }
 
+        if (descartado(datoExistente)) {
+            return null;
+        }
+
+        if (this.indice != null) {
+            // El índice da el nodo a eliminar y, si es la primera aparición de su dato, también su anterior
+            Nodo<T> nodoPrevio = this.indice.anterior(datoExistente);
+            if (nodoPrevio == null) {
+                return null; // No está: la cabeza ya se comprobó
+            }
+            if (nodoPrevio == getCabeza()) {
+                return eliminarAlInicio();
+            }
+            Nodo<T> nodoAnteriorAlPrevio = this.indice.anteriorDe(nodoPrevio);
+            if (nodoAnteriorAlPrevio != null) {
+                T datoEliminado = nodoPrevio.getDato();
+                avisarDesenlazado(nodoAnteriorAlPrevio, nodoPrevio, nodoPrevio.getSiguiente());
+                nodoAnteriorAlPrevio.setSiguiente(nodoPrevio.getSiguiente()); // Bypass
+                reciclar(nodoPrevio);
+                this.tamanno--;
+                return datoEliminado;
+            }
+            // Si no, se busca recorriendo la lista
+        }
+
         // Buscar el nodo X tal que X -> (nodo_a_eliminar) -> (nodo_con_datoExistente)
         // Empezamos desde la cabeza, buscando la secuencia.
         Nodo<T> nodoAnteriorAlPrevio = this.ultimo; // Empezar en el que precede a la cabeza
@@ -367,7 +473,9 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
                 } else {
                     // Eliminar nodoPrevio (que está en medio)
                     T datoEliminado = nodoPrevio.getDato();
+                    avisarDesenlazado(nodoAnteriorAlPrevio, nodoPrevio, nodoActual);
                     nodoAnteriorAlPrevio.setSiguiente(nodoActual); // Bypass
+                    reciclar(nodoPrevio);
                     this.tamanno--;
                     // Si nodoPrevio era 'ultimo', ya fue manejado arriba.
                     // Si nodoPrevio era cabeza, ya fue manejado.
@@ -386,30 +494,48 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
 
     /**
      * Elimina todos los elementos de la lista, dejándola vacía.
-     * Anula la referencia {@code ultimo} y establece el tamaño a 0.
+     * Anula la referencia {@code ultimo} y establece el tamaño a 0. Si la lista usa una
+     * reserva, sus nodos vuelven a ella.
      */
     public void borrarLista() {
+        if (this.pool != null && this.ultimo != null
+                && !(this.nodosContiguos && this.pool.rebobinar(this.marcaPool, this.generacionPool, this.tamanno))) {
+            Nodo<T> cabeza = this.ultimo.getSiguiente();
+            this.ultimo.setSiguiente(null); // Romper el ciclo para devolver la cadena
+            this.pool.devolverCadena(cabeza);
+        }
         this.ultimo = null;
         this.tamanno = 0;
+        if (this.indice != null) {
+            this.indice.vaciar();
+        }
+        if (this.filtro != null) {
+            this.filtro.vaciar();
+        }
+        reiniciarMarca();
     }
 
     /**
      * Crea y devuelve una copia superficial (shallow copy) de esta lista circular.
      * Se crean nuevos nodos {@link Nodo}, pero contienen referencias a los mismos
-     * objetos de datos que la lista original.
+     * objetos de datos que la lista original. Si esta lista está indexada o tiene filtro, el
+     * clon también.
      *
      * @return Una nueva instancia de {@code ListaEnlazadaSimpleCircular} con los mismos datos.
      */
     public ListaEnlazadaSimpleCircular<T> clonarLista() {
-        ListaEnlazadaSimpleCircular<T> clon = new ListaEnlazadaSimpleCircular<>();
-        if (estaVacia()) {
-            return clon;
-        }
+        ListaEnlazadaSimpleCircular<T> clon = new ListaEnlazadaSimpleCircular<>(this.pool);
         Nodo<T> actual = getCabeza();
-        for (int i = 0; i < this.tamanno; i++) {
+        for (int i = 0; i < this.tamanno; i++) { // Con la lista vacía no entra
             clon.insertarAlFinal(actual.getDato()); // Usar la inserción eficiente
             actual = actual.getSiguiente();
         }
+        if (this.indice != null) {
+            clon.indexar(); // De una vez, con la tabla ya dimensionada
+        }
+        if (this.filtro != null) {
+            clon.activarFiltro(this.filtro.getBitsPorElemento());
+        }
         return clon;
     }
 
@@ -426,44 +552,266 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
         sb.append("HEAD -> ");
         Nodo<T> actual = getCabeza();
         for (int i = 0; i < this.tamanno; i++) {
-            sb.append(actual); // Usa Nodo.toString()
+            Formateable.anexar(sb, actual.getDato()); // Sin toString() por elemento
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
             actual = actual.getSiguiente();
             if (i < this.tamanno - 1) {
                 sb.append(" -> ");
             }
         }
         sb.append(" -> (HEAD)"); // Indica circularidad
-        System.out.println(sb.toString());
+        System.out.println(sb);
+    }
+
+    /**
+     * Devuelve un resumen de la lista circular con su tamaño y solo los primeros y los
+     * últimos {@code elementos} datos.
+     *
+     * @param elementos Cuántos datos mostrar de cada extremo.
+     * @return El resumen en una sola línea.
+     */
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista Circular Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(this.tamanno).append(" | HEAD -> ");
+        int primeros = Math.min(elementos, this.tamanno);
+        int ultimos = Math.min(elementos, this.tamanno - primeros);
+        Nodo<T> actual = getCabeza();
+        for (int i = 0; i < primeros; i++) {
+            Formateable.anexar(sb, actual.getDato());
+            sb.append(" -> ");
+            actual = actual.getSiguiente();
+        }
+        if (this.tamanno - primeros > ultimos) {
+            sb.append("... -> ");
+            for (int i = primeros; i < this.tamanno - ultimos; i++) {
+                actual = actual.getSiguiente();
+            }
+        }
+        for (int i = 0; i < ultimos; i++) {
+            Formateable.anexar(sb, actual.getDato());
+            sb.append(" -> ");
+            actual = actual.getSiguiente();
+        }
+        sb.append("(HEAD)");
+        return sb.toString();
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene al menos una ocurrencia del elemento especificado.
+     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n), u O(1) en promedio
+     * con {@link #indexar()}. Con {@link #activarFiltro()}, casi todas las búsquedas de datos
+     * ausentes terminan en O(1) sin dar la vuelta a la lista.
+     *
+     * @param dato El dato a buscar en la lista.
+     * @return {@code true} si el dato se encuentra en la lista, {@code false} en caso contrario.
+     */
+    @Override
+    public boolean contiene(T dato) {
+        return buscarNodo(dato) != null;
+    }
+
+    /**
+     * Activa un índice hash de cada dato a su primer nodo y al anterior a este, que se
+     * mantiene en cada inserción y eliminación. Con él, las operaciones que buscan un dato
+     * ({@code contiene}, {@code eliminar}, {@code insertarDespuesDe}, {@code eliminarAntesDe}...)
+     * lo localizan en O(1) en promedio en lugar de dar la vuelta a la lista, a cambio de
+     * una entrada de tabla hash por dato distinto. Requiere que {@code hashCode()} sea
+     * coherente con {@code equals()}. Construirlo es O(n); si ya existe no hace nada.
+     */
+    public void indexar() {
+        if (this.indice == null) {
+            this.indice = new IndiceHash<>(this::getCabeza, this.tamanno, true);
+        }
+    }
+
+    /**
+     * Descarta el índice hash; las búsquedas vuelven a recorrer la lista.
+     */
+    public void desindexar() {
+        this.indice = null;
+    }
+
+    /**
+     * @return {@code true} si la lista mantiene un índice hash.
+     */
+    public boolean estaIndexada() {
+        return this.indice != null;
+    }
+
+    /**
+     * Activa un filtro de Bloom con {@link FiltroBloom#BITS_POR_ELEMENTO} bits por elemento
+     * (alrededor de un 1 % de falsos positivos).
+     * @see #activarFiltro(int)
+     */
+    public void activarFiltro() {
+        activarFiltro(FiltroBloom.BITS_POR_ELEMENTO);
+    }
+
+    /**
+     * Activa un filtro de Bloom que se alimenta en cada inserción. Las búsquedas
+     * ({@code contiene}, {@code eliminar}, {@code insertarDespuesDe}...) de un dato que el
+     * filtro descarta terminan sin dar la vuelta a la lista; el resto se resuelven como
+     * siempre. Ocupa {@code bitsPorElemento} bits por elemento, mucho menos que
+     * {@link #indexar()}, y se reconstruye tras muchas eliminaciones o si la lista lo desborda.
+     * Requiere que {@code hashCode()} sea coherente con {@code equals()}. Construirlo es O(n);
+     * si ya existe, se sustituye.
+     *
+     * @param bitsPorElemento Bits del filtro por elemento: más bits, menos falsos positivos.
+     */
+    public void activarFiltro(int bitsPorElemento) {
+        this.filtro = new FiltroBloom<>(this::getCabeza, this.tamanno, bitsPorElemento);
+    }
+
+    /**
+     * Descarta el filtro de Bloom; todas las búsquedas vuelven a recorrer la lista.
+     */
+    public void desactivarFiltro() {
+        this.filtro = null;
+    }
+
+    /**
+     * @return El filtro de Bloom, con su tamaño y su tasa de falsos positivos, o {@code null} si no está activo.
+     */
+    public FiltroBloom<T> getFiltro() {
+        return this.filtro;
+    }
+
+    /**
+     * Devuelve los nodos a la reserva, si la lista usa una; sin reserva no hace nada.
+     */
+    @Override
+    public void liberar() {
+        if (this.pool != null) {
+            borrarLista();
+        }
     }
 
     // --- Métodos Auxiliares Privados ---
 
+    private Nodo<T> crearNodo(T dato, Nodo<T> siguiente) {
+        if (this.pool == null) {
+            return new Nodo<>(dato, siguiente);
+        }
+        if (this.pool.hayLibres()) {
+            this.nodosContiguos = false; // Saldrá de la pila de libres, no del cursor
+        } else if (this.marcaPool < 0) {
+            // Primer nodo del cursor: la marca se anota ahora y no antes, cuando otra lista
+            // aún podía mover el cursor
+            this.marcaPool = this.pool.getPosicion();
+            this.generacionPool = this.pool.getGeneracion();
+        }
+        Nodo<T> nodo = this.pool.obtener(dato);
+        nodo.setSiguiente(siguiente);
+        return nodo;
+    }
+
+    private void reciclar(Nodo<T> nodo) {
+        if (this.pool != null) {
+            this.pool.devolver(nodo);
+            this.nodosContiguos = false;
+        }
+    }
+
+    private void reiniciarMarca() {
+        this.marcaPool = -1;
+        this.nodosContiguos = true;
+    }
+
+    /**
+     * Enlaza un nodo nuevo como cabeza, sin avisar al índice. Lo comparten
+     * {@link #insertarAlInicio(Object)} e {@link #insertarAlFinal(Object)}.
+     */
+    private Nodo<T> enlazarAlInicio(T dato) {
+        Nodo<T> nuevoNodo = crearNodo(dato, null);
+        if (estaVacia()) {
+            // Primer nodo: es el último y apunta a sí mismo
+            this.ultimo = nuevoNodo;
+            this.ultimo.setSiguiente(this.ultimo);
+        } else {
+            // Nuevo nodo apunta a la antigua cabeza
+            nuevoNodo.setSiguiente(this.ultimo.getSiguiente());
+            // El último nodo existente ahora apunta al nuevo nodo (que es la nueva cabeza)
+            this.ultimo.setSiguiente(nuevoNodo);
+        }
+        this.tamanno++;
+        return nuevoNodo;
+    }
+
+    /**
+     * Avisa al índice y al filtro, si los hay, de que {@code nodo} se enlazó tras
+     * {@code anterior} ({@code null} si es la nueva cabeza).
+     */
+    private void avisarEnlazado(Nodo<T> anterior, Nodo<T> nodo) {
+        if (this.indice != null) {
+            this.indice.enlazado(anterior, nodo, (nodo == this.ultimo) ? null : nodo.getSiguiente());
+        }
+        if (this.filtro != null) {
+            this.filtro.agregar(nodo.getDato());
+        }
+    }
+
+    /**
+     * Avisa al índice y al filtro, si los hay, de que {@code nodo} se desenlazó; debe ser
+     * antes de reciclarlo. {@code anterior} es {@code null} si era la cabeza y
+     * {@code siguiente} si era el último.
+     */
+    private void avisarDesenlazado(Nodo<T> anterior, Nodo<T> nodo, Nodo<T> siguiente) {
+        if (this.indice != null) {
+            this.indice.desenlazado(anterior, nodo, siguiente);
+        }
+        if (this.filtro != null) {
+            this.filtro.eliminado();
+        }
+    }
+
+    /** @return {@code true} si el filtro, si lo hay, asegura que {@code dato} no está en la lista. */
+    private boolean descartado(T dato) {
+        return this.filtro != null && !this.filtro.puedeContener(dato, this.tamanno);
+    }
+
     /**
      * Busca el primer nodo en la lista que contiene el {@code datoBusqueda}.
      * Utiliza {@code Objects.equals()} para manejar {@code null}.
-     * Recorre la lista circular una vez.
+     * Recorre la lista circular una vez, o consulta el índice si la lista está indexada;
+     * si tiene filtro y este descarta el dato, ni siquiera eso.
      *
      * @param datoBusqueda El dato a buscar.
      * @return El {@link Nodo} que contiene el dato, o {@code null} si no se encuentra.
      */
     private Nodo<T> buscarNodo(T datoBusqueda) {
-        if (estaVacia()) {
+        if (estaVacia() || descartado(datoBusqueda)) {
             return null;
         }
-        Nodo<T> actual = getCabeza();
-        for (int i = 0; i < this.tamanno; i++) {
-            if (Objects.equals(actual.getDato(), datoBusqueda)) {
-                return actual; // Encontrado
+        Nodo<T> encontrado = null;
+        if (this.indice != null) {
+            encontrado = this.indice.buscar(datoBusqueda);
+        } else {
+            Nodo<T> actual = getCabeza();
+            for (int i = 0; i < this.tamanno && encontrado == null; i++) {
+                if (Objects.equals(actual.getDato(), datoBusqueda)) {
+                    encontrado = actual;
+                }
+                actual = actual.getSiguiente(); // Avanza
             }
-            actual = actual.getSiguiente(); // Avanza
         }
-        return null; // No encontrado después de una vuelta completa
+        if (encontrado == null && this.filtro != null) {
+            this.filtro.falsoPositivo(); // El filtro lo dejó pasar y no estaba tras una vuelta completa
+        }
+        return encontrado;
     }
 
     /**
      * Busca el nodo que precede inmediatamente al primer nodo que contiene {@code datoBusqueda}.
      * Utiliza {@code Objects.equals()} para manejar {@code null}.
-     * Recorre la lista circular una vez.
+     * Recorre la lista circular una vez, o consulta el índice si la lista está indexada.
      *
      * @param datoBusqueda El dato contenido en el nodo objetivo (el nodo *después* del que buscamos).
      * @return El nodo predecesor, o {@code null} si {@code datoBusqueda} no se encuentra o está en la cabeza (no tiene predecesor único en este contexto).
@@ -472,6 +820,16 @@ public class ListaEnlazadaSimpleCircular<T> implements ListaEnlazadaBase<T>{
         if (estaVacia() || this.tamanno == 1) {
             return null; // No hay nodo anterior si 0 o 1 elemento
         }
+        if (descartado(datoBusqueda)) {
+            return null;
+        }
+        if (this.indice != null) {
+            if (this.indice.buscar(datoBusqueda) == null) {
+                return null;
+            }
+            Nodo<T> anterior = this.indice.anterior(datoBusqueda);
+            return (anterior != null) ? anterior : this.ultimo; // La cabeza va detrás del último
+        }
 
         Nodo<T> actual = this.ultimo; // Empezar desde el último nodo
         for (int i = 0; i < this.tamanno; i++) {
@@ -0,0 +1,569 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Lista doblemente enlazada compacta ("lista XOR"): cada elemento guarda un único enlace,
+ * {@code anterior ^ siguiente}, en un {@code int[]} paralelo al {@code Object[]} de datos.
+ * Conociendo la posición de la que se viene, el XOR da la siguiente en cualquiera de los
+ * dos sentidos, así que se recorre hacia delante desde la cabeza y hacia atrás desde la
+ * cola como {@link ListaEnlazadaDoble}, pero con 4 bytes de enlace por elemento en lugar
+ * de un {@link NodoDoble} de 24.
+ *
+ * <p>Inserción y eliminación en ambos extremos son O(1). Lo que no permite es partir de
+ * una posición suelta: hace falta la vecina de la que se llega, por eso la búsqueda y la
+ * eliminación por valor recorren desde un extremo. Las posiciones eliminadas forman una
+ * lista de libres que se reutiliza antes de crecer.</p>
+ *
+ * <p>Implementa {@link CadenaIndices}: para ordenarla, {@link #desenlazarIndices()}
+ * descodifica los enlaces en el mismo arreglo, de modo que contiene los siguientes, y
+ * {@link #setPrimero(int)} los vuelve a codificar. No se reserva memoria para ordenar.</p>
+ *
+ * @param <T> Tipo de los elementos.
+ * @author devapps
+ * @version 1.0
+ */
+public class ListaEnlazadaXor<T> implements ListaEnlazadaBase<T>, CadenaIndices {
+
+    /** Capacidad inicial por defecto de los arreglos. */
+    private static final int CAPACIDAD_INICIAL = 16;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
+
+    /** Dato por posición; {@code null} en las posiciones libres. */
+    private Object[] datos;
+    /**
+     * {@code anterior ^ siguiente} de cada posición enlazada ({@link #FIN} hace de vecino
+     * nulo). En las libres, la siguiente libre. Entre {@link #desenlazarIndices()} y
+     * {@link #setPrimero(int)}, solo el siguiente.
+     */
+    private int[] enlaces;
+    /** Posición de la cabeza, o {@link #FIN} si la lista está vacía. */
+    private int primero = FIN;
+    /** Posición de la cola, o {@link #FIN} si la lista está vacía. */
+    private int ultimo = FIN;
+    /** Número de elementos enlazados. */
+    private int tamanno;
+    /** Posiciones usadas alguna vez: las de {@code 0..ocupadas-1} están enlazadas o libres. */
+    private int ocupadas;
+    /** Primera posición de la lista de libres, o {@link #FIN}. */
+    private int libre = FIN;
+    /** {@code true} mientras los enlaces están descodificados para ordenar. */
+    private boolean descodificada;
+
+    /**
+     * Construye una lista vacía con la capacidad inicial por defecto.
+     */
+    public ListaEnlazadaXor() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Construye una lista vacía con espacio para {@code capacidadInicial} elementos antes
+     * de tener que crecer.
+     *
+     * @param capacidadInicial Capacidad inicial de los arreglos (no negativa).
+     * @throws IllegalArgumentException si {@code capacidadInicial} es negativa.
+     */
+    public ListaEnlazadaXor(int capacidadInicial) {
+        if (capacidadInicial < 0) {
+            throw new IllegalArgumentException("La capacidad inicial no puede ser negativa.");
+        }
+        datos = new Object[capacidadInicial];
+        enlaces = new int[capacidadInicial];
+    }
+
+    // --- Información Básica ---
+
+    @Override
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    /**
+     * Devuelve el elemento en la posición {@code indice}, recorriendo desde el extremo
+     * más cercano.
+     *
+     * @param indice Posición entre 0 y {@code getTamanno() - 1}.
+     * @return El dato en esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango.
+     */
+    public T obtener(int indice) {
+        Objects.checkIndex(indice, tamanno);
+        boolean desdeLaCola = indice > tamanno / 2;
+        int previo = FIN;
+        int actual = desdeLaCola ? ultimo : primero;
+        int pasos = desdeLaCola ? tamanno - 1 - indice : indice;
+        for (int i = 0; i < pasos; i++) {
+            int vecino = enlaces[actual] ^ previo;
+            previo = actual;
+            actual = vecino;
+        }
+        return dato(actual);
+    }
+
+    // --- Métodos de Inserción ---
+
+    /**
+     * Inserta un elemento al principio de la lista. O(1).
+     * @param dato El dato a insertar.
+     */
+    @Override
+    public void insertarAlInicio(T dato) {
+        int posicion = reservar(dato);
+        enlaces[posicion] = FIN ^ primero;
+        if (primero == FIN) {
+            ultimo = posicion;
+        } else {
+            enlaces[primero] ^= FIN ^ posicion; // Su anterior pasa de FIN a la nueva posición
+        }
+        primero = posicion;
+        tamanno++;
+    }
+
+    /**
+     * Inserta un elemento al final de la lista. O(1).
+     * @param dato El dato a insertar.
+     */
+    @Override
+    public void insertarAlFinal(T dato) {
+        int posicion = reservar(dato);
+        enlaces[posicion] = ultimo ^ FIN;
+        if (ultimo == FIN) {
+            primero = posicion;
+        } else {
+            enlaces[ultimo] ^= FIN ^ posicion; // Su siguiente pasa de FIN a la nueva posición
+        }
+        ultimo = posicion;
+        tamanno++;
+    }
+
+    /**
+     * Alias conveniente para {@link #insertarAlFinal(Object)}.
+     * @param dato El dato a agregar.
+     */
+    public void agregar(T dato) {
+        insertarAlFinal(dato);
+    }
+
+    // --- Métodos de Eliminación ---
+
+    /**
+     * Elimina y devuelve el primer elemento. O(1).
+     *
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public T eliminarAlInicio() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al inicio.");
+        }
+        return desligar(FIN, primero);
+    }
+
+    /**
+     * Elimina y devuelve el último elemento. O(1), igual que en {@link ListaEnlazadaDoble}.
+     *
+     * @return El dato eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public T eliminarAlFinal() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al final.");
+        }
+        return desligar(enlaces[ultimo] ^ FIN, ultimo);
+    }
+
+    /**
+     * Elimina la primera ocurrencia de {@code dato}. La búsqueda es O(n).
+     *
+     * @param dato El dato a eliminar. Se compara usando {@code equals()}.
+     * @return {@code true} si se encontró y eliminó.
+     */
+    public boolean eliminar(T dato) {
+        int previo = FIN;
+        int actual = primero;
+        while (actual != FIN) {
+            if (Objects.equals(datos[actual], dato)) {
+                desligar(previo, actual);
+                return true;
+            }
+            int siguiente = enlaces[actual] ^ previo;
+            previo = actual;
+            actual = siguiente;
+        }
+        return false;
+    }
+
+    /**
+     * Elimina todos los elementos. Los arreglos conservan su capacidad.
+     */
+    public void borrarLista() {
+        Arrays.fill(datos, 0, ocupadas, null); // No retener los datos eliminados
+        primero = FIN;
+        ultimo = FIN;
+        libre = FIN;
+        tamanno = 0;
+        ocupadas = 0;
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene {@code dato} usando {@code equals()}, siguiendo los
+     * enlaces desde la cabeza. La búsqueda es O(n).
+     *
+     * @param dato El dato a buscar.
+     * @return {@code true} si está en la lista.
+     */
+    @Override
+    public boolean contiene(T dato) {
+        int previo = FIN;
+        int actual = primero;
+        while (actual != FIN) {
+            if (Objects.equals(datos[actual], dato)) {
+                return true;
+            }
+            int siguiente = enlaces[actual] ^ previo;
+            previo = actual;
+            actual = siguiente;
+        }
+        return false;
+    }
+
+    // --- Recorrido ---
+
+    /**
+     * Devuelve un iterador desde la cabeza hasta la cola.
+     * @return Un iterador que no admite eliminar.
+     */
+    public Iterador iterador() {
+        return new Iterador(primero);
+    }
+
+    /**
+     * Devuelve un iterador desde la cola hasta la cabeza. Con un solo enlace por elemento,
+     * retroceder es el mismo cálculo que avanzar partiendo del otro extremo.
+     * @return Un iterador que no admite eliminar.
+     */
+    public Iterador iteradorReverso() {
+        return new Iterador(ultimo);
+    }
+
+    /**
+     * Iterador sobre una {@link ListaEnlazadaXor} en uno de los dos sentidos. Guarda la
+     * posición actual y la anterior, que es lo que hace falta para descodificar el enlace.
+     * La lista no debe modificarse mientras se usa.
+     */
+    public final class Iterador {
+        /** Posición de la que se llegó a {@code actual}, o {@link #FIN}. */
+        private int previo = FIN;
+        /** Posición del próximo dato a devolver, o {@link #FIN} al terminar. */
+        private int actual;
+
+        private Iterador(int inicio) {
+            this.actual = inicio;
+        }
+
+        /**
+         * @return {@code true} si quedan elementos por recorrer.
+         */
+        public boolean tieneSiguiente() {
+            return actual != FIN;
+        }
+
+        /**
+         * Devuelve el dato actual y avanza en el sentido del iterador.
+         *
+         * @return El dato actual.
+         * @throws NoSuchElementException si no quedan elementos.
+         */
+        public T siguiente() {
+            if (!tieneSiguiente()) {
+                throw new NoSuchElementException("No hay más elementos en la iteración.");
+            }
+            T dato = dato(actual);
+            int vecino = enlaces[actual] ^ previo;
+            previo = actual;
+            actual = vecino;
+            return dato;
+        }
+    }
+
+    // --- CadenaIndices ---
+
+    @Override
+    public int getPrimero() {
+        return primero;
+    }
+
+    /**
+     * Descodifica los enlaces en el mismo arreglo: a partir de aquí cada posición guarda
+     * solo su siguiente, como espera {@link EstrategiaOrdenamiento#ordenarIndices}.
+     */
+    @Override
+    public int desenlazarIndices() {
+        if (!descodificada) {
+            int previo = FIN;
+            int actual = primero;
+            while (actual != FIN) {
+                int siguiente = enlaces[actual] ^ previo;
+                enlaces[actual] = siguiente;
+                previo = actual;
+                actual = siguiente;
+            }
+            descodificada = true;
+        }
+        return primero;
+    }
+
+    /**
+     * Fija la cabeza tras ordenar, vuelve a codificar los enlaces como
+     * {@code anterior ^ siguiente} y localiza la cola.
+     */
+    @Override
+    public void setPrimero(int primero) {
+        this.primero = primero;
+        int previo = FIN;
+        int actual = primero;
+        while (actual != FIN) {
+            int siguiente = enlaces[actual];
+            enlaces[actual] = previo ^ siguiente;
+            previo = actual;
+            actual = siguiente;
+        }
+        this.ultimo = previo;
+        descodificada = false;
+    }
+
+    /**
+     * Devuelve el arreglo de enlaces ya descodificado (ver {@link #desenlazarIndices()}).
+     */
+    @Override
+    public EnlacesIndices getSiguientes() {
+        desenlazarIndices();
+        return new EnlacesIndices.Arreglo(enlaces);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // Ordenar exige elementos Comparable, como en las demás listas
+    public int comparar(int a, int b) {
+        return ((Comparable<Object>) datos[a]).compareTo(datos[b]);
+    }
+
+    @Override
+    public void intercambiar(int a, int b) {
+        Object dato = datos[a];
+        datos[a] = datos[b];
+        datos[b] = dato;
+    }
+
+    // --- Topología para estrategias por nodos ---
+
+    /**
+     * Materializa los elementos, en orden de enlace, como una cadena de {@link Nodo}.
+     * Solo se usa con estrategias que no ordenan por índices.
+     * @return La cabeza de la cadena, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<T> desenlazar() {
+        Nodo<T> cabeza = null;
+        Nodo<T> cola = null;
+        for (Iterador it = iterador(); it.tieneSiguiente(); ) {
+            Nodo<T> nodo = new Nodo<>(it.siguiente());
+            if (cola == null) {
+                cabeza = nodo;
+            } else {
+                cola.setSiguiente(nodo);
+            }
+            cola = nodo;
+        }
+        return cabeza;
+    }
+
+    /**
+     * Vuelve a escribir los datos en el orden de la cadena, en posiciones consecutivas;
+     * la lista de libres queda vacía.
+     * @param cabeza La cabeza de la cadena ordenada, con {@code getTamanno()} elementos.
+     */
+    @Override
+    public void reenlazar(Nodo<T> cabeza) {
+        int posicion = 0;
+        for (Nodo<T> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            datos[posicion++] = nodo.getDato();
+        }
+        Arrays.fill(datos, posicion, ocupadas, null);
+        compactado(posicion);
+    }
+
+    // --- Otras Utilidades ---
+
+    /**
+     * Crea una copia con arreglos del tamaño justo y los elementos en posiciones
+     * consecutivas según el orden de enlace.
+     * @return Una nueva lista con los mismos datos en el mismo orden.
+     */
+    @Override
+    public ListaEnlazadaXor<T> clonarLista() {
+        ListaEnlazadaXor<T> clon = new ListaEnlazadaXor<>(tamanno);
+        int i = 0;
+        for (Iterador it = iterador(); it.tieneSiguiente(); ) {
+            clon.datos[i++] = it.siguiente();
+        }
+        clon.compactado(tamanno);
+        return clon;
+    }
+
+    /**
+     * Imprime la lista desde la cabeza hasta la cola, con el formato de
+     * {@link ListaEnlazadaDoble#imprimir()}.
+     */
+    @Override
+    public void imprimir() {
+        imprimirDesde(iterador(), "HEAD", "TAIL");
+    }
+
+    /**
+     * Imprime la lista desde la cola hasta la cabeza, con el formato de
+     * {@link ListaEnlazadaDoble#imprimirReverso()}.
+     */
+    public void imprimirReverso() {
+        imprimirDesde(iteradorReverso(), "TAIL", "HEAD");
+    }
+
+    @Override
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista XOR Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(tamanno).append(" | HEAD <-> ");
+        int primeros = Math.min(elementos, tamanno);
+        int ultimos = Math.min(elementos, tamanno - primeros);
+        Iterador it = iterador();
+        for (int i = 0; i < primeros; i++) {
+            Formateable.anexar(sb, it.siguiente());
+            sb.append(" <-> ");
+        }
+        if (ultimos > 0) {
+            if (tamanno - primeros > ultimos) {
+                sb.append("... <-> ");
+            }
+            // Los últimos se toman retrocediendo desde la cola y se anexan en orden
+            Object[] finales = new Object[ultimos];
+            Iterador reverso = iteradorReverso();
+            for (int i = ultimos - 1; i >= 0; i--) {
+                finales[i] = reverso.siguiente();
+            }
+            for (Object dato : finales) {
+                Formateable.anexar(sb, dato);
+                sb.append(" <-> ");
+            }
+        }
+        sb.append("TAIL");
+        return sb.toString();
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    @SuppressWarnings("unchecked") // En datos solo se guardan elementos de tipo T
+    private T dato(int posicion) {
+        return (T) datos[posicion];
+    }
+
+    private void imprimirDesde(Iterador it, String apertura, String cierre) {
+        if (estaVacia()) {
+            System.out.println("Lista XOR Vacía");
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(apertura).append(" <-> ");
+        while (it.tieneSiguiente()) {
+            Formateable.anexar(sb, it.siguiente()); // Sin toString() por elemento
+            sb.append(" <-> ");
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
+        }
+        sb.append(cierre);
+        System.out.println(sb);
+    }
+
+    /**
+     * Toma una posición de la lista de libres, o la siguiente sin usar si no hay, y guarda
+     * en ella {@code dato}. La posición aún no está enlazada.
+     */
+    private int reservar(T dato) {
+        int posicion;
+        if (libre != FIN) {
+            posicion = libre;
+            libre = enlaces[posicion];
+        } else {
+            if (ocupadas == datos.length) {
+                redimensionar(Math.max(CAPACIDAD_INICIAL, ocupadas + (ocupadas >> 1)));
+            }
+            posicion = ocupadas++;
+        }
+        datos[posicion] = dato;
+        return posicion;
+    }
+
+    /**
+     * Quita {@code posicion} de la cadena, sabiendo que le precede {@code previo} (o
+     * {@link #FIN} si es la cabeza), la pasa a la lista de libres y devuelve su dato.
+     */
+    private T desligar(int previo, int posicion) {
+        int siguiente = enlaces[posicion] ^ previo;
+        if (previo == FIN) {
+            primero = siguiente;
+        } else {
+            enlaces[previo] ^= posicion ^ siguiente; // Su siguiente pasa a ser el de la eliminada
+        }
+        if (siguiente == FIN) {
+            ultimo = previo;
+        } else {
+            enlaces[siguiente] ^= posicion ^ previo; // Su anterior pasa a ser el de la eliminada
+        }
+        tamanno--;
+        T dato = dato(posicion);
+        datos[posicion] = null;
+        enlaces[posicion] = libre;
+        libre = posicion;
+        return dato;
+    }
+
+    /**
+     * Enlaza en orden las posiciones {@code 0..cantidad-1}, que ya contienen los datos, y
+     * deja la lista sin posiciones libres.
+     */
+    private void compactado(int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            enlaces[i] = (i - 1) ^ (i + 1); // La cabeza tiene FIN (-1) como anterior
+        }
+        if (cantidad > 0) {
+            enlaces[cantidad - 1] = (cantidad - 2) ^ FIN;
+        }
+        tamanno = cantidad;
+        ocupadas = cantidad;
+        libre = FIN;
+        primero = (cantidad == 0) ? FIN : 0;
+        ultimo = cantidad - 1; // FIN si está vacía
+        descodificada = false;
+    }
+
+    private void redimensionar(int capacidad) {
+        datos = Arrays.copyOf(datos, capacidad);
+        enlaces = Arrays.copyOf(enlaces, capacidad);
+    }
+}
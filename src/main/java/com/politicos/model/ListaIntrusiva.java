@@ -0,0 +1,367 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lista doblemente enlazada intrusiva: los elementos implementan {@link Enlazable} y la
+ * lista enlaza directamente sus campos {@code siguiente}/{@code anterior}, sin crear un
+ * {@link NodoDoble} por elemento. Para {@code n} elementos hay {@code n} objetos en lugar
+ * de {@code 2n}, y los ordenamientos comparan los elementos sin la indirección de
+ * {@code getDato()}.
+ *
+ * <p>A cambio, un elemento solo puede estar en una lista a la vez: insertar uno que ya
+ * está enlazado lanza {@link IllegalArgumentException} (no se detecta si es el único
+ * elemento de otra lista). Por eso {@link #clonarLista()} copia los elementos con la
+ * función recibida en el constructor. Conociendo el elemento, {@link #desligar(Enlazable)}
+ * lo quita en O(1) sin buscarlo.</p>
+ *
+ * @param <E> Tipo de los elementos, que llevan sus propios enlaces.
+ * @author devapps
+ * @version 1.0
+ */
+public class ListaIntrusiva<E extends Enlazable<E> & Comparable<? super E>>
+        implements ListaEnlazadaBase<E>, CadenaEnlazable {
+
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
+
+    /** Copia un elemento sin sus enlaces, para {@link #clonarLista()}. */
+    private final UnaryOperator<E> copiar;
+    /** Primer elemento, o {@code null} si la lista está vacía. */
+    private E cabeza;
+    /** Último elemento, o {@code null} si la lista está vacía. */
+    private E cola;
+    private int tamanno;
+
+    /**
+     * Construye una lista vacía.
+     *
+     * @param copiar Crea una copia desenlazada de un elemento; la usa {@link #clonarLista()}.
+     */
+    public ListaIntrusiva(UnaryOperator<E> copiar) {
+        this.copiar = Objects.requireNonNull(copiar, "La función de copia no puede ser null.");
+    }
+
+    // --- Información Básica ---
+
+    @Override
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    public E getCabeza() {
+        return cabeza;
+    }
+
+    public E getCola() {
+        return cola;
+    }
+
+    // --- Métodos de Inserción ---
+
+    /**
+     * Enlaza {@code elemento} al principio de la lista. O(1).
+     *
+     * @param elemento El elemento a insertar; no debe estar en otra lista.
+     * @throws IllegalArgumentException si el elemento ya está enlazado.
+     */
+    @Override
+    public void insertarAlInicio(E elemento) {
+        comprobarLibre(elemento);
+        elemento.setSiguiente(cabeza);
+        if (cabeza == null) {
+            cola = elemento;
+        } else {
+            cabeza.setAnterior(elemento);
+        }
+        cabeza = elemento;
+        tamanno++;
+    }
+
+    /**
+     * Enlaza {@code elemento} al final de la lista. O(1).
+     *
+     * @param elemento El elemento a insertar; no debe estar en otra lista.
+     * @throws IllegalArgumentException si el elemento ya está enlazado.
+     */
+    @Override
+    public void insertarAlFinal(E elemento) {
+        comprobarLibre(elemento);
+        elemento.setAnterior(cola);
+        if (cola == null) {
+            cabeza = elemento;
+        } else {
+            cola.setSiguiente(elemento);
+        }
+        cola = elemento;
+        tamanno++;
+    }
+
+    /**
+     * Alias conveniente para {@link #insertarAlFinal(Enlazable)}.
+     * @param elemento El elemento a agregar.
+     */
+    public void agregar(E elemento) {
+        insertarAlFinal(elemento);
+    }
+
+    // --- Métodos de Eliminación ---
+
+    /**
+     * Quita y devuelve el primer elemento, ya desenlazado. O(1).
+     *
+     * @return El elemento eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public E eliminarAlInicio() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al inicio.");
+        }
+        E elemento = cabeza;
+        desligar(elemento);
+        return elemento;
+    }
+
+    /**
+     * Quita y devuelve el último elemento, ya desenlazado. O(1).
+     *
+     * @return El elemento eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public E eliminarAlFinal() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al final.");
+        }
+        E elemento = cola;
+        desligar(elemento);
+        return elemento;
+    }
+
+    /**
+     * Elimina la primera ocurrencia de un elemento igual a {@code dato}. La búsqueda es O(n).
+     *
+     * @param dato El dato a eliminar. Se compara usando {@code equals()}.
+     * @return {@code true} si se encontró y eliminó.
+     */
+    public boolean eliminar(E dato) {
+        for (E actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            if (actual.equals(dato)) {
+                desligar(actual);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Quita {@code elemento} de la lista en O(1) usando sus propios enlaces, y los borra
+     * para que pueda insertarse en otra lista.
+     *
+     * @param elemento Un elemento que pertenece a esta lista.
+     */
+    public void desligar(E elemento) {
+        E anterior = elemento.getAnterior();
+        E siguiente = elemento.getSiguiente();
+        if (anterior == null) {
+            cabeza = siguiente;
+        } else {
+            anterior.setSiguiente(siguiente);
+        }
+        if (siguiente == null) {
+            cola = anterior;
+        } else {
+            siguiente.setAnterior(anterior);
+        }
+        elemento.setSiguiente(null);
+        elemento.setAnterior(null);
+        tamanno--;
+    }
+
+    /**
+     * Elimina todos los elementos y borra sus enlaces, de modo que puedan insertarse en
+     * otra lista.
+     */
+    public void borrarLista() {
+        E actual = cabeza;
+        while (actual != null) {
+            E siguiente = actual.getSiguiente();
+            actual.setSiguiente(null);
+            actual.setAnterior(null);
+            actual = siguiente;
+        }
+        cabeza = null;
+        cola = null;
+        tamanno = 0;
+    }
+
+    // --- Búsqueda ---
+
+    @Override
+    public boolean contiene(E dato) {
+        for (E actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            if (actual.equals(dato)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- Ordenación ---
+
+    /**
+     * Ordena reenlazando los elementos con {@link EstrategiaOrdenamiento#ordenarEnlazados};
+     * los enlaces anteriores se reconstruyen en una sola pasada al terminar.
+     */
+    @Override
+    public void ordenarEnlazados(EstrategiaOrdenamiento<?> estrategia, ContextoOrdenamiento contexto) {
+        reconstruirAnteriores(estrategia.ordenarEnlazados(cabeza, tamanno, contexto));
+    }
+
+    // --- Topología para estrategias por nodos ---
+
+    /**
+     * Envuelve los elementos, en orden, en una cadena de {@link Nodo}. Solo se usa con
+     * estrategias que no ordenan por enlaces propios.
+     * @return La cabeza de la cadena, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<E> desenlazar() {
+        Nodo<E> primero = null;
+        Nodo<E> ultimo = null;
+        for (E actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            Nodo<E> nodo = new Nodo<>(actual);
+            if (ultimo == null) {
+                primero = nodo;
+            } else {
+                ultimo.setSiguiente(nodo);
+            }
+            ultimo = nodo;
+        }
+        return primero;
+    }
+
+    /**
+     * Enlaza los elementos en el orden de la cadena de nodos.
+     * @param primero La cabeza de la cadena ordenada, con {@code getTamanno()} nodos.
+     */
+    @Override
+    public void reenlazar(Nodo<E> primero) {
+        E previo = null;
+        E nuevaCabeza = null;
+        for (Nodo<E> nodo = primero; nodo != null; nodo = nodo.getSiguiente()) {
+            E elemento = nodo.getDato();
+            if (previo == null) {
+                nuevaCabeza = elemento;
+            } else {
+                previo.setSiguiente(elemento);
+            }
+            previo = elemento;
+        }
+        if (previo != null) {
+            previo.setSiguiente(null);
+        }
+        reconstruirAnteriores(nuevaCabeza);
+    }
+
+    // --- Otras Utilidades ---
+
+    /**
+     * Crea una lista con copias de los elementos, en el mismo orden.
+     * @return La nueva lista.
+     */
+    @Override
+    public ListaIntrusiva<E> clonarLista() {
+        ListaIntrusiva<E> clon = new ListaIntrusiva<>(copiar);
+        for (E actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            clon.insertarAlFinal(copiar.apply(actual));
+        }
+        return clon;
+    }
+
+    @Override
+    public void imprimir() {
+        if (estaVacia()) {
+            System.out.println("Lista Intrusiva Vacía");
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("HEAD <-> ");
+        for (E actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            Formateable.anexar(sb, actual); // Sin toString() por elemento
+            sb.append(" <-> ");
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
+        }
+        sb.append("TAIL");
+        System.out.println(sb);
+    }
+
+    @Override
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista Intrusiva Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(tamanno).append(" | HEAD <-> ");
+        int primeros = Math.min(elementos, tamanno);
+        int ultimos = Math.min(elementos, tamanno - primeros);
+        E actual = cabeza;
+        for (int i = 0; i < primeros; i++) {
+            Formateable.anexar(sb, actual);
+            sb.append(" <-> ");
+            actual = actual.getSiguiente();
+        }
+        if (ultimos > 0) {
+            if (tamanno - primeros > ultimos) {
+                sb.append("... <-> ");
+            }
+            // Retroceder desde la cola hasta el primero de los últimos elementos
+            actual = cola;
+            for (int i = 1; i < ultimos; i++) {
+                actual = actual.getAnterior();
+            }
+            for (int i = 0; i < ultimos; i++) {
+                Formateable.anexar(sb, actual);
+                sb.append(" <-> ");
+                actual = actual.getSiguiente();
+            }
+        }
+        sb.append("TAIL");
+        return sb.toString();
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    private void comprobarLibre(E elemento) {
+        Objects.requireNonNull(elemento, "La lista intrusiva no admite elementos null.");
+        if (elemento.getSiguiente() != null || elemento.getAnterior() != null || elemento == cabeza) {
+            throw new IllegalArgumentException("El elemento ya pertenece a una lista.");
+        }
+    }
+
+    /**
+     * Fija la cabeza de una cadena enlazada solo por {@code siguiente}, rehace los enlaces
+     * anteriores y localiza la cola.
+     */
+    private void reconstruirAnteriores(E nuevaCabeza) {
+        cabeza = nuevaCabeza;
+        E previo = null;
+        for (E actual = nuevaCabeza; actual != null; actual = actual.getSiguiente()) {
+            actual.setAnterior(previo);
+            previo = actual;
+        }
+        cola = previo;
+    }
+}
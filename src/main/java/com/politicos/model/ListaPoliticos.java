@@ -0,0 +1,364 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Lista enlazada de {@link Politico} almacenada por columnas. En lugar de un {@link Nodo},
+ * un {@code Politico} y su fecha por elemento, guarda el {@code id} en un {@code int[]},
+ * el patrimonio en un {@code double[]}, la fecha de nacimiento como día epoch en un
+ * {@code int[]} y el enlace al siguiente elemento como índice en otro {@code int[]}:
+ * 20 bytes por elemento en cuatro arreglos contiguos.
+ *
+ * <p>Conserva la semántica de lista enlazada (inserción O(1) en ambos extremos, orden de
+ * recorrido dado por los enlaces) e implementa {@link CadenaIndices}, así que las
+ * estrategias la ordenan permutando directamente las columnas o los enlaces, sin crear
+ * objetos. Los {@code Politico} solo se materializan al leer o imprimir.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class ListaPoliticos implements ListaEnlazadaBase<Politico>, CadenaIndices {
+
+    /** Capacidad inicial por defecto de las columnas. */
+    private static final int CAPACIDAD_INICIAL = 16;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
+
+    /** Identificadores por posición. */
+    private int[] ids;
+    /** Patrimonio por posición. */
+    private double[] dinero;
+    /** Fecha de nacimiento por posición, en días desde 1970-01-01. */
+    private int[] nacimiento;
+    /** Posición siguiente en orden de enlace, o {@link #FIN}. */
+    private int[] siguientes;
+    /** Posición de la cabeza, o {@link #FIN} si la lista está vacía. */
+    private int primero = FIN;
+    /** Posición de la cola, o {@link #FIN} si la lista está vacía. */
+    private int ultimo = FIN;
+    /** Número de elementos; las posiciones {@code 0..tamanno-1} están todas en uso. */
+    private int tamanno;
+
+    /**
+     * Construye una lista vacía con la capacidad inicial por defecto.
+     */
+    public ListaPoliticos() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Construye una lista vacía con espacio para {@code capacidadInicial} elementos
+     * antes de tener que crecer.
+     *
+     * @param capacidadInicial Capacidad inicial de las columnas (no negativa).
+     * @throws IllegalArgumentException si {@code capacidadInicial} es negativa.
+     */
+    public ListaPoliticos(int capacidadInicial) {
+        if (capacidadInicial < 0) {
+            throw new IllegalArgumentException("La capacidad inicial no puede ser negativa.");
+        }
+        ids = new int[capacidadInicial];
+        dinero = new double[capacidadInicial];
+        nacimiento = new int[capacidadInicial];
+        siguientes = new int[capacidadInicial];
+    }
+
+    // --- Información Básica ---
+
+    @Override
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    /**
+     * Devuelve el elemento en la posición {@code indice} según el orden de enlace.
+     * Recorre los enlaces, así que es O(n) como en las demás listas.
+     *
+     * @param indice Posición entre 0 y {@code getTamanno() - 1}.
+     * @return Un {@link Politico} nuevo con los datos de esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango.
+     */
+    public Politico obtener(int indice) {
+        Objects.checkIndex(indice, tamanno);
+        int posicion = primero;
+        for (int i = 0; i < indice; i++) {
+            posicion = siguientes[posicion];
+        }
+        return materializar(posicion);
+    }
+
+    // --- Métodos de Inserción ---
+
+    @Override
+    public void insertarAlFinal(Politico politico) {
+        int posicion = reservar(politico);
+        siguientes[posicion] = FIN;
+        if (ultimo == FIN) {
+            primero = posicion;
+        } else {
+            siguientes[ultimo] = posicion;
+        }
+        ultimo = posicion;
+    }
+
+    @Override
+    public void insertarAlInicio(Politico politico) {
+        int posicion = reservar(politico);
+        siguientes[posicion] = primero;
+        primero = posicion;
+        if (ultimo == FIN) {
+            ultimo = posicion;
+        }
+    }
+
+    /**
+     * Alias conveniente para {@link #insertarAlFinal(Politico)}.
+     * @param politico El político a agregar.
+     */
+    public void agregar(Politico politico) {
+        insertarAlFinal(politico);
+    }
+
+    /**
+     * Elimina todos los elementos. Las columnas conservan su capacidad.
+     */
+    public void borrarLista() {
+        primero = FIN;
+        ultimo = FIN;
+        tamanno = 0;
+    }
+
+    /**
+     * Reduce las columnas al tamaño actual para liberar la capacidad sobrante.
+     */
+    public void ajustarCapacidad() {
+        redimensionar(tamanno);
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene un político con el mismo ID (el criterio de
+     * {@link Politico#equals(Object)}). Recorre la columna de IDs de forma secuencial.
+     *
+     * @param politico El político a buscar.
+     * @return {@code true} si hay un elemento con ese ID.
+     */
+    @Override
+    public boolean contiene(Politico politico) {
+        if (politico == null) {
+            return false;
+        }
+        int id = politico.getId();
+        int[] columna = ids;
+        for (int i = 0; i < tamanno; i++) {
+            if (columna[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- CadenaIndices ---
+
+    @Override
+    public int getPrimero() {
+        return primero;
+    }
+
+    @Override
+    public void setPrimero(int primero) {
+        this.primero = primero;
+        int posicion = primero;
+        if (posicion != FIN) {
+            while (siguientes[posicion] != FIN) {
+                posicion = siguientes[posicion];
+            }
+        }
+        this.ultimo = posicion;
+    }
+
+    @Override
+    public EnlacesIndices getSiguientes() {
+        return new EnlacesIndices.Arreglo(siguientes);
+    }
+
+    /**
+     * Compara por patrimonio, igual que {@link Politico#compareTo(Politico)}.
+     */
+    @Override
+    public int comparar(int a, int b) {
+        return Double.compare(dinero[a], dinero[b]);
+    }
+
+    @Override
+    public void intercambiar(int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double d = dinero[a];
+        dinero[a] = dinero[b];
+        dinero[b] = d;
+        int dia = nacimiento[a];
+        nacimiento[a] = nacimiento[b];
+        nacimiento[b] = dia;
+    }
+
+    // --- Topología para estrategias por nodos ---
+
+    /**
+     * Materializa los elementos, en orden de enlace, como una cadena de {@link Nodo}.
+     * Solo se usa con estrategias que no ordenan por índices.
+     * @return La cabeza de la cadena, o {@code null} si la lista está vacía.
+     */
+    @Override
+    public Nodo<Politico> desenlazar() {
+        Nodo<Politico> cabeza = null;
+        Nodo<Politico> cola = null;
+        for (int posicion = primero; posicion != FIN; posicion = siguientes[posicion]) {
+            Nodo<Politico> nodo = new Nodo<>(materializar(posicion));
+            if (cola == null) {
+                cabeza = nodo;
+            } else {
+                cola.setSiguiente(nodo);
+            }
+            cola = nodo;
+        }
+        return cabeza;
+    }
+
+    /**
+     * Vuelve a escribir las columnas en el orden de la cadena, en posiciones consecutivas.
+     * @param cabeza La cabeza de la cadena ordenada, con {@code getTamanno()} elementos.
+     */
+    @Override
+    public void reenlazar(Nodo<Politico> cabeza) {
+        int posicion = 0;
+        for (Nodo<Politico> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            escribir(posicion, nodo.getDato());
+            siguientes[posicion] = posicion + 1;
+            posicion++;
+        }
+        if (posicion == 0) {
+            primero = FIN;
+            ultimo = FIN;
+        } else {
+            siguientes[posicion - 1] = FIN;
+            primero = 0;
+            ultimo = posicion - 1;
+        }
+    }
+
+    // --- Otras Utilidades ---
+
+    /**
+     * Crea una copia con columnas del tamaño justo; los enlaces se copian tal cual.
+     * @return Una nueva lista con los mismos datos en el mismo orden.
+     */
+    @Override
+    public ListaPoliticos clonarLista() {
+        ListaPoliticos clon = new ListaPoliticos(0);
+        clon.ids = Arrays.copyOf(ids, tamanno);
+        clon.dinero = Arrays.copyOf(dinero, tamanno);
+        clon.nacimiento = Arrays.copyOf(nacimiento, tamanno);
+        clon.siguientes = Arrays.copyOf(siguientes, tamanno);
+        clon.primero = primero;
+        clon.ultimo = ultimo;
+        clon.tamanno = tamanno;
+        return clon;
+    }
+
+    @Override
+    public void imprimir() {
+        if (estaVacia()) {
+            System.out.println("Lista de Políticos Vacía");
+            return;
+        }
+        Politico auxiliar = materializar(primero); // Se reutiliza para no crear uno por elemento
+        StringBuilder sb = new StringBuilder();
+        sb.append("HEAD -> ");
+        for (int posicion = primero; posicion != FIN; posicion = siguientes[posicion]) {
+            cargar(auxiliar, posicion).formatearEn(sb);
+            sb.append(" -> ");
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
+        }
+        sb.append("NULL");
+        System.out.println(sb);
+    }
+
+    @Override
+    public String muestra(int elementos) {
+        if (estaVacia()) {
+            return "Lista de Políticos Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(tamanno).append(" | HEAD -> ");
+        int primeros = Math.min(elementos, tamanno);
+        int ultimos = Math.min(elementos, tamanno - primeros);
+        Politico auxiliar = materializar(primero);
+        int posicion = primero;
+        for (int i = 0; i < tamanno; i++) {
+            if (i < primeros || i >= tamanno - ultimos) {
+                cargar(auxiliar, posicion).formatearEn(sb);
+                sb.append(" -> ");
+            } else if (i == primeros) {
+                sb.append("... -> ");
+            }
+            posicion = siguientes[posicion];
+        }
+        sb.append("NULL");
+        return sb.toString();
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    /**
+     * Ocupa la siguiente posición libre con los datos de {@code politico} y la devuelve.
+     */
+    private int reservar(Politico politico) {
+        Objects.requireNonNull(politico, "La lista de políticos no admite elementos null.");
+        if (tamanno == ids.length) {
+            redimensionar(Math.max(CAPACIDAD_INICIAL, tamanno + (tamanno >> 1)));
+        }
+        int posicion = tamanno++;
+        escribir(posicion, politico);
+        return posicion;
+    }
+
+    private void escribir(int posicion, Politico politico) {
+        ids[posicion] = politico.getId();
+        dinero[posicion] = politico.getDinero();
+        nacimiento[posicion] = (int) politico.getFechaNacimiento().toEpochDay();
+    }
+
+    private Politico materializar(int posicion) {
+        return new Politico(ids[posicion], dinero[posicion],
+            FechasCompartidas.deDiaEpoch(nacimiento[posicion]));
+    }
+
+    private Politico cargar(Politico destino, int posicion) {
+        destino.setId(ids[posicion]);
+        destino.setDinero(dinero[posicion]);
+        destino.setFechaNacimiento(FechasCompartidas.deDiaEpoch(nacimiento[posicion]));
+        return destino;
+    }
+
+    private void redimensionar(int capacidad) {
+        ids = Arrays.copyOf(ids, capacidad);
+        dinero = Arrays.copyOf(dinero, capacidad);
+        nacimiento = Arrays.copyOf(nacimiento, capacidad);
+        siguientes = Arrays.copyOf(siguientes, capacidad);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Lista de {@link Politico} sobre una {@link ListaIntrusiva} de {@link PoliticoEnlazado},
+ * para usar la variante intrusiva donde se esperan listas de {@code Politico} (el
+ * experimento, {@link ComparativaListas}). Como un elemento intrusivo solo puede estar en
+ * una lista, cada inserción guarda una copia enlazable del político recibido: un objeto
+ * por elemento, igual que un nodo, pero sin la indirección al dato al ordenar.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class ListaPoliticosEnlazados implements ListaEnlazadaBase<Politico>, CadenaEnlazable {
+
+    private final ListaIntrusiva<PoliticoEnlazado> elementos;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public ListaPoliticosEnlazados() {
+        this(new ListaIntrusiva<>(PoliticoEnlazado::new));
+    }
+
+    private ListaPoliticosEnlazados(ListaIntrusiva<PoliticoEnlazado> elementos) {
+        this.elementos = elementos;
+    }
+
+    /**
+     * @return La lista intrusiva con las copias enlazables.
+     */
+    public ListaIntrusiva<PoliticoEnlazado> getElementos() {
+        return elementos;
+    }
+
+    @Override
+    public int getTamanno() {
+        return elementos.getTamanno();
+    }
+
+    @Override
+    public void insertarAlFinal(Politico politico) {
+        elementos.insertarAlFinal(new PoliticoEnlazado(politico));
+    }
+
+    @Override
+    public void insertarAlInicio(Politico politico) {
+        elementos.insertarAlInicio(new PoliticoEnlazado(politico));
+    }
+
+    /**
+     * Comprueba si la lista contiene un político con el mismo ID, el criterio de
+     * {@link Politico#equals(Object)} sin exigir la misma clase.
+     *
+     * @param politico El político a buscar.
+     * @return {@code true} si hay un elemento con ese ID.
+     */
+    @Override
+    public boolean contiene(Politico politico) {
+        if (politico == null) {
+            return false;
+        }
+        int id = politico.getId();
+        for (PoliticoEnlazado actual = elementos.getCabeza(); actual != null; actual = actual.getSiguiente()) {
+            if (actual.getId() == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void ordenarEnlazados(EstrategiaOrdenamiento<?> estrategia, ContextoOrdenamiento contexto) {
+        elementos.ordenarEnlazados(estrategia, contexto);
+    }
+
+    /**
+     * Envuelve los elementos en una cadena de {@link Nodo}; los datos son los propios
+     * {@link PoliticoEnlazado}.
+     */
+    @Override
+    @SuppressWarnings("unchecked") // Un PoliticoEnlazado es un Politico y los nodos solo se leen
+    public Nodo<Politico> desenlazar() {
+        return (Nodo<Politico>) (Nodo<?>) elementos.desenlazar();
+    }
+
+    /**
+     * Enlaza los elementos en el orden de la cadena que devolvió {@link #desenlazar()}.
+     */
+    @Override
+    @SuppressWarnings("unchecked") // Los datos de la cadena son los PoliticoEnlazado de desenlazar()
+    public void reenlazar(Nodo<Politico> cabeza) {
+        elementos.reenlazar((Nodo<PoliticoEnlazado>) (Nodo<?>) cabeza);
+    }
+
+    @Override
+    public ListaPoliticosEnlazados clonarLista() {
+        return new ListaPoliticosEnlazados(elementos.clonarLista());
+    }
+
+    @Override
+    public void imprimir() {
+        elementos.imprimir();
+    }
+
+    @Override
+    public String muestra(int elementos) {
+        return this.elementos.muestra(elementos);
+    }
+}
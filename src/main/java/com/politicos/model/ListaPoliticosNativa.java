@@ -0,0 +1,483 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * Lista doblemente enlazada de {@link Politico} almacenada fuera del heap. Cada elemento es
+ * un registro de ancho fijo dentro de un {@link MemorySegment} reservado con un
+ * {@link Arena}; los enlaces "siguiente" y "anterior" son números de registro (el
+ * desplazamiento en bytes es {@code registro * TAMANNO_REGISTRO}), no referencias. El
+ * recolector de basura no ve ningún objeto por elemento, así que el tamaño de la lista no
+ * alarga sus pausas.
+ *
+ * <p>Formato de cada registro (24 bytes, alineado a 8):</p>
+ * <pre>
+ *   0  int    id
+ *   4  int    fecha de nacimiento (días desde 1970-01-01)
+ *   8  double patrimonio
+ *  16  int    siguiente (o FIN)
+ *  20  int    anterior  (o FIN)
+ * </pre>
+ *
+ * <p>La memoria se reserva al insertar el primer elemento y se libera de forma explícita
+ * con {@link #liberar()} (o {@link #close()}); después la lista ya no se puede usar. Toda
+ * la lista vive en un único {@code Arena}: al crecer se reserva en él un segmento mayor y
+ * se copian los registros, así que los segmentos anteriores siguen ocupando memoria hasta
+ * {@link #liberar()}. El {@code Arena} es compartido, así que la lista puede llenarse en un
+ * hilo y ordenarse en otro, pero no admite accesos concurrentes.</p>
+ *
+ * <p>Implementa {@link CadenaIndices}: las estrategias la ordenan por índices, reescribiendo
+ * los enlaces "siguiente" directamente en los registros, sin copiarlos al heap, y
+ * {@link #setPrimero(int)} reconstruye después los enlaces "anterior". No se puede ordenar
+ * por nodos: {@link #desenlazar()} y {@link #reenlazar(Nodo)} no están soportados.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class ListaPoliticosNativa implements ListaEnlazadaBase<Politico>, CadenaIndices, AutoCloseable {
+
+    /** Bytes por registro. */
+    static final long TAMANNO_REGISTRO = 24;
+
+    private static final long ID = 0;
+    private static final long NACIMIENTO = 4;
+    private static final long DINERO = 8;
+    private static final long SIGUIENTE = 16;
+    private static final long ANTERIOR = 20;
+
+    /** Capacidad, en registros, de la primera reserva. */
+    private static final int CAPACIDAD_INICIAL = 16;
+    /** Tamaño a partir del cual {@code imprimir()} vuelca el búfer a la consola. */
+    private static final int BLOQUE_IMPRESION = 1 << 16;
+
+    /**
+     * Enlaces "siguiente" leídos y escritos directamente en los registros de un segmento.
+     */
+    private static final class Enlaces extends EnlacesIndices {
+        private final MemorySegment registros;
+
+        Enlaces(MemorySegment registros) {
+            this.registros = registros;
+        }
+
+        @Override
+        public int siguiente(int posicion) {
+            return registros.get(ValueLayout.JAVA_INT, desplazamiento(posicion) + SIGUIENTE);
+        }
+
+        @Override
+        public void setSiguiente(int posicion, int siguiente) {
+            registros.set(ValueLayout.JAVA_INT, desplazamiento(posicion) + SIGUIENTE, siguiente);
+        }
+    }
+
+    /** Dueño de todos los segmentos de la lista; {@code null} mientras no se ha reservado nada. */
+    private Arena arena;
+    /** Registros de la lista; las posiciones {@code 0..tamanno-1} están todas en uso. */
+    private MemorySegment registros = MemorySegment.NULL;
+    /** Capacidad del segmento actual, en registros. */
+    private int capacidad;
+    /** Bytes reservados en {@link #arena}, incluidos los segmentos que dejó atrás el crecimiento. */
+    private long bytesReservados;
+    /** Registro de la cabeza, o {@link #FIN} si la lista está vacía. */
+    private int primero = FIN;
+    /** Registro de la cola, o {@link #FIN} si la lista está vacía. */
+    private int ultimo = FIN;
+    /** Número de elementos. */
+    private int tamanno;
+    /** Indica si ya se liberó la memoria. */
+    private boolean liberada;
+
+    // --- Información Básica ---
+
+    @Override
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    /**
+     * Bytes reservados fuera del heap: el segmento actual y los que dejó atrás el crecimiento.
+     * @return Los bytes reservados en el {@code Arena} de la lista, o 0 si aún no se ha reservado.
+     */
+    public long getBytesReservados() {
+        return bytesReservados;
+    }
+
+    /**
+     * Devuelve el elemento en la posición {@code indice} según el orden de enlace.
+     * Recorre desde el extremo más cercano, como permite una lista doble.
+     *
+     * @param indice Posición entre 0 y {@code getTamanno() - 1}.
+     * @return Un {@link Politico} nuevo con los datos de esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango.
+     */
+    public Politico obtener(int indice) {
+        verificarAbierta();
+        Objects.checkIndex(indice, tamanno);
+        int registro;
+        if (indice < tamanno / 2) {
+            registro = primero;
+            for (int i = 0; i < indice; i++) {
+                registro = siguiente(registro);
+            }
+        } else {
+            registro = ultimo;
+            for (int i = tamanno - 1; i > indice; i--) {
+                registro = anterior(registro);
+            }
+        }
+        return materializar(registro);
+    }
+
+    // --- Métodos de Inserción ---
+
+    @Override
+    public void insertarAlFinal(Politico politico) {
+        int registro = reservar(politico);
+        enlazar(registro, FIN, ultimo);
+        if (ultimo == FIN) {
+            primero = registro;
+        } else {
+            registros.set(ValueLayout.JAVA_INT, desplazamiento(ultimo) + SIGUIENTE, registro);
+        }
+        ultimo = registro;
+    }
+
+    @Override
+    public void insertarAlInicio(Politico politico) {
+        int registro = reservar(politico);
+        enlazar(registro, primero, FIN);
+        if (primero == FIN) {
+            ultimo = registro;
+        } else {
+            registros.set(ValueLayout.JAVA_INT, desplazamiento(primero) + ANTERIOR, registro);
+        }
+        primero = registro;
+    }
+
+    /**
+     * Alias conveniente para {@link #insertarAlFinal(Politico)}.
+     * @param politico El político a agregar.
+     */
+    public void agregar(Politico politico) {
+        insertarAlFinal(politico);
+    }
+
+    /**
+     * Elimina todos los elementos. El segmento conserva su capacidad.
+     */
+    public void borrarLista() {
+        verificarAbierta();
+        primero = FIN;
+        ultimo = FIN;
+        tamanno = 0;
+    }
+
+    // --- Búsqueda ---
+
+    /**
+     * Comprueba si la lista contiene un político con el mismo ID (el criterio de
+     * {@link Politico#equals(Object)}). Recorre los registros de forma secuencial.
+     *
+     * @param politico El político a buscar.
+     * @return {@code true} si hay un elemento con ese ID.
+     */
+    @Override
+    public boolean contiene(Politico politico) {
+        verificarAbierta();
+        if (politico == null) {
+            return false;
+        }
+        int id = politico.getId();
+        MemorySegment segmento = registros;
+        long fin = tamanno * TAMANNO_REGISTRO;
+        for (long desplazamiento = 0; desplazamiento < fin; desplazamiento += TAMANNO_REGISTRO) {
+            if (segmento.get(ValueLayout.JAVA_INT, desplazamiento + ID) == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- CadenaIndices ---
+
+    @Override
+    public int getPrimero() {
+        return primero;
+    }
+
+    /**
+     * Fija la cabeza y reconstruye, siguiendo los enlaces "siguiente", los enlaces
+     * "anterior" y la cola.
+     */
+    @Override
+    public void setPrimero(int primero) {
+        verificarAbierta();
+        this.primero = primero;
+        int previo = FIN;
+        for (int registro = primero; registro != FIN; registro = siguiente(registro)) {
+            registros.set(ValueLayout.JAVA_INT, desplazamiento(registro) + ANTERIOR, previo);
+            previo = registro;
+        }
+        this.ultimo = previo;
+    }
+
+    /**
+     * Devuelve los enlaces "siguiente" de los propios registros: las estrategias reenlazan
+     * la lista fuera del heap, sin copia de trabajo.
+     */
+    @Override
+    public EnlacesIndices getSiguientes() {
+        verificarAbierta();
+        return new Enlaces(registros);
+    }
+
+    /**
+     * Compara por patrimonio, igual que {@link Politico#compareTo(Politico)}.
+     */
+    @Override
+    public int comparar(int a, int b) {
+        return Double.compare(
+            registros.get(ValueLayout.JAVA_DOUBLE, desplazamiento(a) + DINERO),
+            registros.get(ValueLayout.JAVA_DOUBLE, desplazamiento(b) + DINERO));
+    }
+
+    /**
+     * Intercambia los 16 bytes de datos (id, fecha y patrimonio) de dos registros.
+     */
+    @Override
+    public void intercambiar(int a, int b) {
+        long desplazamientoA = desplazamiento(a);
+        long desplazamientoB = desplazamiento(b);
+        MemorySegment segmento = registros;
+        long idFechaA = segmento.get(ValueLayout.JAVA_LONG, desplazamientoA);
+        long dineroA = segmento.get(ValueLayout.JAVA_LONG, desplazamientoA + DINERO);
+        segmento.set(ValueLayout.JAVA_LONG, desplazamientoA, segmento.get(ValueLayout.JAVA_LONG, desplazamientoB));
+        segmento.set(ValueLayout.JAVA_LONG, desplazamientoA + DINERO,
+            segmento.get(ValueLayout.JAVA_LONG, desplazamientoB + DINERO));
+        segmento.set(ValueLayout.JAVA_LONG, desplazamientoB, idFechaA);
+        segmento.set(ValueLayout.JAVA_LONG, desplazamientoB + DINERO, dineroA);
+    }
+
+    // --- Topología para estrategias por nodos ---
+
+    /**
+     * No soportado: materializar la lista crearía un {@link Politico} y un {@link Nodo} por
+     * registro. Las estrategias la ordenan por índices (ver {@link CadenaIndices}).
+     * @throws UnsupportedOperationException siempre.
+     */
+    @Override
+    public Nodo<Politico> desenlazar() {
+        throw new UnsupportedOperationException("La lista nativa solo se ordena por índices.");
+    }
+
+    /**
+     * No soportado, como {@link #desenlazar()}.
+     * @throws UnsupportedOperationException siempre.
+     */
+    @Override
+    public void reenlazar(Nodo<Politico> cabeza) {
+        throw new UnsupportedOperationException("La lista nativa solo se ordena por índices.");
+    }
+
+    // --- Otras Utilidades ---
+
+    /**
+     * Crea una copia con un segmento propio del tamaño justo; los enlaces se copian tal cual.
+     * La copia se debe liberar por separado.
+     * @return Una nueva lista con los mismos datos en el mismo orden.
+     */
+    @Override
+    public ListaPoliticosNativa clonarLista() {
+        verificarAbierta();
+        ListaPoliticosNativa clon = new ListaPoliticosNativa();
+        if (tamanno > 0) {
+            clon.redimensionar(tamanno);
+            MemorySegment.copy(registros, 0, clon.registros, 0, tamanno * TAMANNO_REGISTRO);
+        }
+        clon.primero = primero;
+        clon.ultimo = ultimo;
+        clon.tamanno = tamanno;
+        return clon;
+    }
+
+    /**
+     * Libera el segmento. Es idempotente; después de llamarlo la lista no se puede usar.
+     */
+    @Override
+    public void liberar() {
+        if (liberada) {
+            return;
+        }
+        liberada = true;
+        if (arena != null) {
+            arena.close();
+            arena = null;
+        }
+        registros = MemorySegment.NULL;
+        capacidad = 0;
+        bytesReservados = 0;
+        primero = FIN;
+        ultimo = FIN;
+        tamanno = 0;
+    }
+
+    /**
+     * Equivale a {@link #liberar()}, para usar la lista en un {@code try}-with-resources.
+     */
+    @Override
+    public void close() {
+        liberar();
+    }
+
+    @Override
+    public void imprimir() {
+        verificarAbierta();
+        if (estaVacia()) {
+            System.out.println("Lista de Políticos Vacía");
+            return;
+        }
+        Politico auxiliar = materializar(primero); // Se reutiliza para no crear uno por elemento
+        StringBuilder sb = new StringBuilder();
+        sb.append("HEAD <-> ");
+        for (int registro = primero; registro != FIN; registro = siguiente(registro)) {
+            cargar(auxiliar, registro).formatearEn(sb);
+            sb.append(" <-> ");
+            if (sb.length() > BLOQUE_IMPRESION) {
+                System.out.print(sb); // Volcar por bloques en lugar de acumular toda la lista
+                sb.setLength(0);
+            }
+        }
+        sb.append("NULL");
+        System.out.println(sb);
+    }
+
+    @Override
+    public String muestra(int elementos) {
+        verificarAbierta();
+        if (estaVacia()) {
+            return "Lista de Políticos Vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("n = ").append(tamanno).append(" | HEAD <-> ");
+        int primeros = Math.min(elementos, tamanno);
+        int ultimos = Math.min(elementos, tamanno - primeros);
+        Politico auxiliar = materializar(primero);
+        int registro = primero;
+        for (int i = 0; i < primeros; i++) {
+            cargar(auxiliar, registro).formatearEn(sb);
+            sb.append(" <-> ");
+            registro = siguiente(registro);
+        }
+        if (ultimos > 0) {
+            if (primeros + ultimos < tamanno) {
+                sb.append("... <-> ");
+            }
+            // Los últimos se localizan desde la cola gracias a los enlaces "anterior"
+            registro = ultimo;
+            for (int i = 1; i < ultimos; i++) {
+                registro = anterior(registro);
+            }
+            for (int i = 0; i < ultimos; i++) {
+                cargar(auxiliar, registro).formatearEn(sb);
+                sb.append(" <-> ");
+                registro = siguiente(registro);
+            }
+        }
+        sb.append("NULL");
+        return sb.toString();
+    }
+
+    // --- Métodos Auxiliares Privados ---
+
+    /**
+     * Ocupa el siguiente registro libre con los datos de {@code politico} y lo devuelve.
+     */
+    private int reservar(Politico politico) {
+        Objects.requireNonNull(politico, "La lista de políticos no admite elementos null.");
+        verificarAbierta();
+        if (tamanno == capacidad) {
+            redimensionar(Math.max(CAPACIDAD_INICIAL, capacidad + (capacidad >> 1)));
+        }
+        int registro = tamanno++;
+        escribir(registro, politico);
+        return registro;
+    }
+
+    /**
+     * Pasa los registros a un segmento nuevo de {@code nuevaCapacidad} registros, reservado
+     * en el mismo {@code Arena}. El anterior no se puede liberar por separado y queda
+     * reservado hasta {@link #liberar()}.
+     */
+    private void redimensionar(int nuevaCapacidad) {
+        if (arena == null) {
+            arena = Arena.ofShared();
+        }
+        long bytes = nuevaCapacidad * TAMANNO_REGISTRO;
+        MemorySegment nuevos = arena.allocate(bytes, Long.BYTES);
+        if (tamanno > 0) {
+            MemorySegment.copy(registros, 0, nuevos, 0, tamanno * TAMANNO_REGISTRO);
+        }
+        registros = nuevos;
+        capacidad = nuevaCapacidad;
+        bytesReservados += bytes;
+    }
+
+    private void verificarAbierta() {
+        if (liberada) {
+            throw new IllegalStateException("La lista nativa ya fue liberada.");
+        }
+    }
+
+    private static long desplazamiento(int registro) {
+        return registro * TAMANNO_REGISTRO;
+    }
+
+    private int siguiente(int registro) {
+        return registros.get(ValueLayout.JAVA_INT, desplazamiento(registro) + SIGUIENTE);
+    }
+
+    private int anterior(int registro) {
+        return registros.get(ValueLayout.JAVA_INT, desplazamiento(registro) + ANTERIOR);
+    }
+
+    private void enlazar(int registro, int siguiente, int anterior) {
+        long base = desplazamiento(registro);
+        registros.set(ValueLayout.JAVA_INT, base + SIGUIENTE, siguiente);
+        registros.set(ValueLayout.JAVA_INT, base + ANTERIOR, anterior);
+    }
+
+    private void escribir(int registro, Politico politico) {
+        long base = desplazamiento(registro);
+        registros.set(ValueLayout.JAVA_INT, base + ID, politico.getId());
+        registros.set(ValueLayout.JAVA_INT, base + NACIMIENTO, (int) politico.getFechaNacimiento().toEpochDay());
+        registros.set(ValueLayout.JAVA_DOUBLE, base + DINERO, politico.getDinero());
+    }
+
+    private Politico materializar(int registro) {
+        long base = desplazamiento(registro);
+        return new Politico(
+            registros.get(ValueLayout.JAVA_INT, base + ID),
+            registros.get(ValueLayout.JAVA_DOUBLE, base + DINERO),
+            FechasCompartidas.deDiaEpoch(registros.get(ValueLayout.JAVA_INT, base + NACIMIENTO)));
+    }
+
+    private Politico cargar(Politico destino, int registro) {
+        long base = desplazamiento(registro);
+        destino.setId(registros.get(ValueLayout.JAVA_INT, base + ID));
+        destino.setDinero(registros.get(ValueLayout.JAVA_DOUBLE, base + DINERO));
+        destino.setFechaNacimiento(FechasCompartidas.deDiaEpoch(registros.get(ValueLayout.JAVA_INT, base + NACIMIENTO)));
+        return destino;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.Reference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Modelo de consumo de memoria del experimento, calibrado empíricamente a un tamaño pequeño.
+ *
+ * <p>Mide cuántos bytes ocupa cada elemento del conjunto de datos ({@link Politico} más su
+ * {@code LocalDate} y la referencia en el arreglo) y cada nodo de cada tipo de lista, y con
+ * ello proyecta la memoria que necesitará un paso de tamaño {@code n}: los datos, la lista
+ * cargada y el clon que ordena {@link GestorOrdenamientos}. Así el generador se detiene antes
+ * de agotar el heap en lugar de esperar a un {@link OutOfMemoryError}.</p>
+ *
+ * <p>Solo cuenta el heap: {@link ListaPoliticosNativa} guarda sus registros fuera de él y
+ * aparece con un costo por nodo cercano a cero.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class ModeloMemoria {
+
+    /** Tamaño por defecto de la calibración: suficiente para que el ruido del heap sea despreciable. */
+    public static final int N_CALIBRACION = 100_000;
+
+    private final double bytesPorDato;
+    private final Map<String, Double> bytesPorNodo;
+    /** Memoria viva antes de crear los datos de calibración (el resto del programa). */
+    private final long usoBase;
+    /** Fracción de {@link Runtime#maxMemory()} que se permite usar (margen de seguridad). */
+    private final double fraccionHeap;
+
+    private ModeloMemoria(double bytesPorDato, Map<String, Double> bytesPorNodo, long usoBase, double fraccionHeap) {
+        this.bytesPorDato = bytesPorDato;
+        this.bytesPorNodo = bytesPorNodo;
+        this.usoBase = usoBase;
+        this.fraccionHeap = fraccionHeap;
+    }
+
+    /**
+     * Calibra el modelo construyendo un conjunto de datos y cada tipo de lista con {@code n} elementos.
+     * Fuerza varias recolecciones de basura, por lo que solo debe llamarse una vez al inicio.
+     *
+     * @param n Número de elementos de la calibración.
+     * @param fraccionHeap Fracción del heap máximo que se puede usar, en (0, 1].
+     */
+    public static ModeloMemoria calibrar(int n, double fraccionHeap) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("El tamaño de calibración debe ser positivo.");
+        }
+        if (fraccionHeap <= 0 || fraccionHeap > 1) {
+            throw new IllegalArgumentException("La fracción del heap debe estar en (0, 1].");
+        }
+        long base = memoriaViva();
+        Politico[] datos = Distribuciones.aleatorio().generar(n, 1L);
+        long conDatos = memoriaViva();
+        double bytesPorDato = Math.max(0, conDatos - base) / (double) n;
+
+        Map<String, Double> bytesPorNodo = new LinkedHashMap<>();
+        for (String tipoLista : GeneradorListas.TIPOS_LISTA) {
+            ListaEnlazadaBase<Politico> lista = GeneradorListas.crearLista(tipoLista);
+            for (Politico p : datos) {
+                lista.insertarAlFinal(p);
+            }
+            // Medir con la lista preparada para ordenar: la desenrollada crea entonces su
+            // copia de trabajo. Todas las estrategias ordenan las demás listas por índices por
+            // posiciones, y las intrusivas reenlazando sus elementos, sin memoria por elemento.
+            long conLista;
+            if (lista instanceof CadenaIndices cadena) {
+                int primero = cadena.desenlazarIndices();
+                cadena.getSiguientes();
+                conLista = memoriaViva();
+                cadena.setPrimero(primero);
+            } else if (lista instanceof CadenaEnlazable) {
+                conLista = memoriaViva();
+            } else {
+                Nodo<Politico> cadena = lista.desenlazar();
+                conLista = memoriaViva();
+                lista.reenlazar(cadena);
+            }
+            Reference.reachabilityFence(lista);
+            lista.liberar();
+            bytesPorNodo.put(tipoLista, Math.max(0, conLista - conDatos) / (double) n);
+        }
+        Reference.reachabilityFence(datos);
+        return new ModeloMemoria(bytesPorDato, bytesPorNodo, base, fraccionHeap);
+    }
+
+    /**
+     * Estima la memoria (en bytes, sin contar el uso base) que necesita un paso de tamaño {@code n}
+     * con el tipo de lista indicado: datos + lista original + clon ordenado.
+     */
+    public long estimar(int n, String tipoLista) {
+        Double porNodo = bytesPorNodo.get(tipoLista);
+        if (porNodo == null) {
+            throw new IllegalArgumentException("Tipo de lista no calibrado: " + tipoLista);
+        }
+        return (long) Math.ceil(n * (bytesPorDato + 2 * porNodo));
+    }
+
+    /**
+     * Memoria que puede usar un paso: la fracción permitida del heap menos el uso base.
+     */
+    public long getDisponible() {
+        return (long) (Runtime.getRuntime().maxMemory() * fraccionHeap) - usoBase;
+    }
+
+    public boolean cabe(int n, String tipoLista) {
+        return estimar(n, tipoLista) <= getDisponible();
+    }
+
+    public long getUsoBase() {
+        return usoBase;
+    }
+
+    public double getBytesPorDato() {
+        return bytesPorDato;
+    }
+
+    public double getBytesPorNodo(String tipoLista) {
+        return bytesPorNodo.getOrDefault(tipoLista, 0.0);
+    }
+
+    /**
+     * Reinicia el pico de uso de los espacios del heap, para medir el de un paso concreto.
+     */
+    public static void reiniciarPico() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Suma de los picos de uso de los espacios del heap desde el último {@link #reiniciarPico()}.
+     * Incluye basura aún no recolectada, por lo que es una cota superior del uso real.
+     */
+    public static long picoUsado() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid() && pool.getPeakUsage() != null) {
+                total += pool.getPeakUsage().getUsed();
+            }
+        }
+        return total;
+    }
+
+    private static long memoriaViva() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ModeloMemoria: ");
+        sb.append(String.format("%.1f B/dato", bytesPorDato));
+        for (Map.Entry<String, Double> entry : bytesPorNodo.entrySet()) {
+            sb.append(String.format(", %s %.1f B/nodo", entry.getKey(), entry.getValue()));
+        }
+        sb.append(String.format(", disponible %.1f MB", getDisponible() / (1024.0 * 1024.0)));
+        return sb.toString();
+    }
+}
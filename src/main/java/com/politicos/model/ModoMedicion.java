@@ -0,0 +1,30 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Define cómo se trata la recolección de basura (GC) durante las mediciones
+ * de los ordenamientos.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public enum ModoMedicion {
+
+    /** Comportamiento original: se invoca {@code System.gc()} después de cada ordenamiento. */
+    FORZAR_GC,
+    /** No se fuerza el GC; las muestras en las que hubo recolecciones quedan marcadas. */
+    MARCAR_GC,
+    /** No se fuerza el GC; la pausa de GC solapada se descuenta del tiempo medido. */
+    DESCONTAR_GC;
+
+    /**
+     * Indica si este modo requiere llamar a {@code System.gc()} entre mediciones.
+     * @return {@code true} solo para {@link #FORZAR_GC}.
+     */
+    public boolean fuerzaGC() {
+        return this == FORZAR_GC;
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Define cuánto se imprime de cada lista durante los experimentos.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public enum ModoSalida {
+
+    /** Comportamiento original: se imprime la lista completa de forma síncrona. */
+    COMPLETA,
+    /** Solo se imprimen los primeros y últimos elementos y el tamaño, de forma asíncrona. */
+    MUESTRA,
+    /** No se imprimen las listas; solo los mensajes de progreso (asíncronos). */
+    NINGUNA
+}
@@ -0,0 +1,107 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Toma instantáneas de los {@link GarbageCollectorMXBean} de la JVM para saber
+ * cuántas recolecciones y cuánto tiempo de pausa se solaparon con un intervalo medido.
+ *
+ * <p>Los recolectores que solo informan ciclos concurrentes (por ejemplo
+ * "G1 Concurrent GC" o "ZGC Cycles") se ignoran, ya que su tiempo no es pausa
+ * de los hilos de la aplicación.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class MonitorGC {
+
+    /** Recolectores cuyas estadísticas corresponden a pausas. */
+    private static final List<GarbageCollectorMXBean> RECOLECTORES = recolectoresDePausa();
+
+    /** Colecciones acumuladas al iniciar el intervalo. */
+    private final long coleccionesInicio;
+    /** Tiempo de GC acumulado (ms) al iniciar el intervalo. */
+    private final long tiempoInicio;
+
+    private MonitorGC(long coleccionesInicio, long tiempoInicio) {
+        this.coleccionesInicio = coleccionesInicio;
+        this.tiempoInicio = tiempoInicio;
+    }
+
+    /**
+     * Abre un intervalo de medición tomando una instantánea de los contadores de GC.
+     * @return El monitor asociado al intervalo.
+     */
+    public static MonitorGC iniciar() {
+        return new MonitorGC(totalColecciones(), totalTiempo());
+    }
+
+    /**
+     * Cierra el intervalo y anota en {@code resultado} las recolecciones solapadas.
+     * En modo {@link ModoMedicion#DESCONTAR_GC} además se resta la pausa del tiempo medido.
+     *
+     * @param resultado El resultado del ordenamiento medido en el intervalo.
+     * @param modo El modo de medición activo.
+     * @return El mismo {@code resultado}, ya anotado.
+     */
+    public ResultadoOrdenamiento cerrar(ResultadoOrdenamiento resultado, ModoMedicion modo) {
+        resultado.coleccionesGC = totalColecciones() - coleccionesInicio;
+        resultado.tiempoGC = totalTiempo() - tiempoInicio;
+        if (modo == ModoMedicion.DESCONTAR_GC && resultado.tiempoGC > 0) {
+            resultado.tiempo = Math.max(0, resultado.tiempo - resultado.tiempoGC);
+        }
+        return resultado;
+    }
+
+    /**
+     * Recolecciones con pausa ocurridas desde que se abrió el intervalo.
+     * @return El número de recolecciones.
+     */
+    public long getColecciones() {
+        return totalColecciones() - coleccionesInicio;
+    }
+
+    /**
+     * Tiempo de pausa por GC (ms) acumulado desde que se abrió el intervalo.
+     * @return El tiempo de pausa en milisegundos.
+     */
+    public long getTiempoPausa() {
+        return totalTiempo() - tiempoInicio;
+    }
+
+    private static List<GarbageCollectorMXBean> recolectoresDePausa() {
+        List<GarbageCollectorMXBean> lista = new ArrayList<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String nombre = gc.getName();
+            if (!nombre.contains("Concurrent") && !nombre.contains("Cycles")) {
+                lista.add(gc);
+            }
+        }
+        return lista;
+    }
+
+    private static long totalColecciones() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : RECOLECTORES) {
+            long c = gc.getCollectionCount();
+            if (c > 0) total += c; // -1 si el recolector no lo informa
+        }
+        return total;
+    }
+
+    private static long totalTiempo() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : RECOLECTORES) {
+            long t = gc.getCollectionTime();
+            if (t > 0) total += t;
+        }
+        return total;
+    }
+}
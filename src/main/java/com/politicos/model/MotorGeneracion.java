@@ -0,0 +1,155 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Motor de generación de datos reproducible y paralelo.
+ *
+ * <p>El arreglo destino se divide en bloques de tamaño fijo y cada bloque recibe su propio
+ * {@link SplittableRandom}, obtenido con {@code split()} de un generador raíz creado a partir
+ * de la semilla. Como la división en bloques no depende del número de núcleos, la misma
+ * semilla produce siempre el mismo conjunto de datos, aunque los bloques se llenen en
+ * paralelo y en cualquier orden.</p>
+ *
+ * <p>Los {@link Politico} se escriben directamente en su posición final; no hay listas
+ * intermedias ni copias.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class MotorGeneracion {
+
+    /** Primer identificador asignado a los políticos generados. */
+    public static final int ID_BASE = 1000;
+    /** Elementos por bloque. Fijo para que el resultado no dependa del paralelismo. */
+    static final int TAMANO_BLOQUE = 1 << 14;
+
+    /**
+     * Llena el rango {@code [desde, hasta)} de un bloque usando el generador del bloque.
+     */
+    @FunctionalInterface
+    public interface LlenadoBloque {
+        void llenar(Politico[] destino, int desde, int hasta, SplittableRandom aleatorio);
+    }
+
+    private MotorGeneracion() {
+    }
+
+    /**
+     * Genera {@code n} políticos llenando los bloques en paralelo.
+     *
+     * @param n Número de elementos.
+     * @param semilla Semilla del generador raíz.
+     * @param llenado Cómo se llena cada bloque.
+     * @return El arreglo generado, de longitud {@code n}.
+     */
+    public static Politico[] generar(int n, long semilla, LlenadoBloque llenado) {
+        if (n < 0) {
+            throw new IllegalArgumentException("El número de elementos no puede ser negativo.");
+        }
+        Politico[] destino = new Politico[n];
+        SplittableRandom[] generadores = generadoresPorBloque(semilla, numeroBloques(n));
+        IntStream.range(0, generadores.length).parallel().forEach(b -> {
+            int desde = b * TAMANO_BLOQUE;
+            int hasta = Math.min(n, desde + TAMANO_BLOQUE);
+            llenado.llenar(destino, desde, hasta, generadores[b]);
+        });
+        return destino;
+    }
+
+    /**
+     * Datos aleatorios: patrimonio uniforme entre 100 y 1.000.099.
+     */
+    public static Politico[] generarAleatorio(int n, long semilla) {
+        return generar(n, semilla, (destino, desde, hasta, aleatorio) -> {
+            for (int i = desde; i < hasta; i++) {
+                int dinero = 100 + aleatorio.nextInt(1_000_000);
+                destino[i] = new Politico(ID_BASE + i, dinero, fechaAleatoria(aleatorio));
+            }
+        });
+    }
+
+    /**
+     * Datos ordenados de forma ascendente (o descendente si {@code inverso}) por patrimonio.
+     * El patrimonio de cada elemento es el anterior más un incremento aleatorio en
+     * {@code [0, 5000)}; los incrementos se generan en paralelo y se acumulan con
+     * {@link Arrays#parallelPrefix(long[], java.util.function.LongBinaryOperator)}.
+     *
+     * @param n Número de elementos.
+     * @param semilla Semilla del generador raíz.
+     * @param inverso Si es {@code true}, el elemento con mayor patrimonio queda primero.
+     * @return El arreglo generado.
+     */
+    public static Politico[] generarMonotono(int n, long semilla, boolean inverso) {
+        Politico[] destino = new Politico[n];
+        if (n == 0) {
+            return destino;
+        }
+        SplittableRandom[] generadores = generadoresPorBloque(semilla, numeroBloques(n));
+        long[] dinero = new long[n];
+
+        // Fase 1: incrementos por bloque
+        IntStream.range(0, generadores.length).parallel().forEach(b -> {
+            int desde = b * TAMANO_BLOQUE;
+            int hasta = Math.min(n, desde + TAMANO_BLOQUE);
+            for (int i = desde; i < hasta; i++) {
+                dinero[i] = generadores[b].nextInt(5000);
+            }
+        });
+        dinero[0] += 100;
+        Arrays.parallelPrefix(dinero, Long::sum);
+
+        // Fase 2: cada bloque continúa con su propio generador para las fechas
+        IntStream.range(0, generadores.length).parallel().forEach(b -> {
+            int desde = b * TAMANO_BLOQUE;
+            int hasta = Math.min(n, desde + TAMANO_BLOQUE);
+            for (int i = desde; i < hasta; i++) {
+                int posicion = inverso ? n - 1 - i : i;
+                destino[posicion] = new Politico(ID_BASE + i, dinero[i], fechaAleatoria(generadores[b]));
+            }
+        });
+        return destino;
+    }
+
+    /**
+     * Fecha de nacimiento aleatoria entre 1940 y 1999 (días 1 a 28).
+     */
+    public static LocalDate fechaAleatoria(SplittableRandom aleatorio) {
+        return LocalDate.of(
+            aleatorio.nextInt(1940, 2000),
+            aleatorio.nextInt(1, 13),
+            aleatorio.nextInt(1, 29)
+        );
+    }
+
+    /**
+     * Deriva una semilla independiente para una combinación de nombre y tamaño, de modo que
+     * cada paso del experimento tenga datos distintos pero reproducibles.
+     */
+    public static long derivarSemilla(long semilla, String nombre, int n) {
+        return new SplittableRandom(semilla ^ ((long) nombre.hashCode() << 32) ^ n).nextLong();
+    }
+
+    static int numeroBloques(int n) {
+        return (n + TAMANO_BLOQUE - 1) / TAMANO_BLOQUE;
+    }
+
+    /**
+     * Crea un generador por bloque, siempre en el mismo orden, a partir de la semilla.
+     */
+    static SplittableRandom[] generadoresPorBloque(long semilla, int bloques) {
+        SplittableRandom raiz = new SplittableRandom(semilla);
+        SplittableRandom[] generadores = new SplittableRandom[bloques];
+        for (int b = 0; b < bloques; b++) {
+            generadores[b] = raiz.split();
+        }
+        return generadores;
+    }
+}
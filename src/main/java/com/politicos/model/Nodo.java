@@ -10,6 +10,9 @@ import java.util.Objects;
  * Representa un nodo genérico para ser utilizado en listas enlazadas simples
  * (incluyendo {@link ListaEnlazadaSimple} y {@link ListaEnlazadaSimpleCircular}).
  * Almacena un dato de tipo {@code T} y una referencia al siguiente nodo en la secuencia.
+ * {@link NodoDoble} la extiende, así que los algoritmos de ordenación recorren cualquier
+ * lista como una cadena de {@code Nodo}. Los accesores son {@code final} para que esas
+ * llamadas sean monomórficas.
  *
  * @param <T> El tipo del dato almacenado en el nodo.
  * @author devapps
@@ -48,7 +51,7 @@ public class Nodo<T> {
      * Obtiene el dato almacenado en este nodo.
      * @return El dato de tipo {@code T}.
      */
-    public T getDato() {
+    public final T getDato() {
         return dato;
     }
 
@@ -56,7 +59,7 @@ public class Nodo<T> {
      * Obtiene la referencia al siguiente nodo en la lista.
      * @return El {@link Nodo} siguiente, o {@code null} si no hay siguiente.
      */
-    public Nodo<T> getSiguiente() {
+    public final Nodo<T> getSiguiente() {
         return siguiente;
     }
 
@@ -68,7 +71,7 @@ public class Nodo<T> {
      *
      * @param dato El nuevo dato a almacenar.
      */
-    public void setDato(T dato) {
+    public final void setDato(T dato) {
         this.dato = dato;
     }
 
@@ -78,7 +81,7 @@ public class Nodo<T> {
      *
      * @param siguiente El nodo que será el nuevo siguiente.
      */
-    public void setSiguiente(Nodo<T> siguiente) {
+    public final void setSiguiente(Nodo<T> siguiente) {
         this.siguiente = siguiente;
     }
 
@@ -4,23 +4,17 @@
  */
 package com.politicos.model;
 
-import java.util.Objects;
-
 /**
  * Representa un nodo genérico para ser utilizado en listas doblemente enlazadas
  * ({@link ListaEnlazadaDoble}).
- * Almacena un dato de tipo {@code T} y referencias tanto al nodo siguiente como al anterior.
+ * Extiende {@link Nodo} (dato y siguiente) con una referencia al nodo anterior.
  *
  * @param <T> El tipo del dato almacenado en el nodo.
  * @author devapps
- * @version 1.1
+ * @version 1.2
  */
-public class NodoDoble<T> {
+public class NodoDoble<T> extends Nodo<T> {
 
-    /** El dato o elemento almacenado en este nodo. */
-    private T dato;
-    /** Referencia al siguiente nodo en la lista, o {@code null} si es la cola. */
-    private NodoDoble<T> siguiente;
     /** Referencia al nodo anterior en la lista, o {@code null} si es la cabeza. */
     private NodoDoble<T> anterior;
 
@@ -43,27 +37,19 @@ public class NodoDoble<T> {
      * @param siguiente El nodo que sucede a este nodo.
      */
     public NodoDoble(T dato, NodoDoble<T> anterior, NodoDoble<T> siguiente) {
-        this.dato = dato;
+        super(dato, siguiente);
         this.anterior = anterior;
-        this.siguiente = siguiente;
     }
 
     // --- Getters ---
 
     /**
-     * Obtiene el dato almacenado en este nodo.
-     * @return El dato de tipo {@code T}.
-     */
-    public T getDato() {
-        return dato;
-    }
-
-    /**
-     * Obtiene la referencia al siguiente nodo en la lista.
+     * Obtiene el siguiente nodo como {@link NodoDoble}. En una {@link ListaEnlazadaDoble}
+     * todos los nodos lo son, así que la conversión es segura.
      * @return El {@link NodoDoble} siguiente, o {@code null} si es el último.
      */
-    public NodoDoble<T> getSiguiente() {
-        return siguiente;
+    public NodoDoble<T> getSiguienteDoble() {
+        return (NodoDoble<T>) getSiguiente();
     }
 
     /**
@@ -76,22 +62,6 @@ public class NodoDoble<T> {
 
     // --- Setters ---
 
-    /**
-     * Establece o actualiza el dato almacenado en este nodo.
-     * @param dato El nuevo dato a almacenar.
-     */
-    public void setDato(T dato) {
-        this.dato = dato;
-    }
-
-    /**
-     * Establece o actualiza la referencia al siguiente nodo.
-     * @param siguiente El que será el nuevo nodo siguiente.
-     */
-    public void setSiguiente(NodoDoble<T> siguiente) {
-        this.siguiente = siguiente;
-    }
-
     /**
      * Establece o actualiza la referencia al nodo anterior.
      * @param anterior El que será el nuevo nodo anterior.
@@ -100,17 +70,6 @@ public class NodoDoble<T> {
         this.anterior = anterior;
     }
 
-    /**
-     * Devuelve una representación textual del dato contenido en el nodo.
-     * Si el dato es {@code null}, devuelve la cadena "null".
-     *
-     * @return La representación en cadena del dato.
-     */
-    @Override
-    public String toString() {
-        return Objects.toString(dato, "null");
-    }
-
     // --- equals y hashCode ---
     // Aplica la misma nota que en Nodo: generalmente no se sobrescriben para la clase Nodo en sí.
 }
@@ -3,7 +3,6 @@
  * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
  */
 package com.politicos.model;
-import java.util.Objects;
 
 /**
  * Implementación de la {@link EstrategiaOrdenamiento} utilizando el algoritmo Burbuja (Bubble Sort).
@@ -12,127 +11,101 @@ import java.util.Objects;
  *
  * <p><b>Nota Importante:</b> Esta implementación específica intercambia los <strong>datos</strong>
  * contenidos en los nodos, no los nodos en sí. Por lo tanto, requiere que la clase {@link Nodo}
- * posea un método {@code setDato(T)}.</p>
+ * posea un método {@code setDato(T)}. En las listas intrusivas, donde el elemento es el
+ * propio nodo, los dos adyacentes se reenlazan en su lugar.</p>
  *
  * <p>Complejidad Temporal: O(n^2) en peor y caso promedio, O(n) en mejor caso (ya ordenada).</p>
  * <p>Complejidad Espacial: O(1).</p>
  *
+ * <p>Se escribe una sola vez sobre la cadena lineal de {@link TopologiaLista}, por lo que
+ * sirve igual para listas simples, dobles y circulares.</p>
+ *
+ * <p>No guarda estado entre invocaciones: los contadores viven en el {@link ContextoOrdenamiento},
+ * así que una instancia puede compartirse entre hilos.</p>
+ *
  * @param <T> El tipo de elementos en la lista, debe ser {@link Comparable}.
  * @author devapps
- * @version 1.1
+ * @version 1.2
  */
 public class OrdenamientoBurbuja<T extends Comparable<T>> implements EstrategiaOrdenamiento<T> {
-    private long comparaciones;
-    private long intercambios;
-    private long tiempoEjecucion;
-    
-    private void inicializarContadores() {
-        comparaciones = 0;
-        intercambios = 0;
-    }
 
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimple<T> lista) {
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
-        inicializarContadores();
-        long inicio = System.nanoTime();
-
-        int n = lista.getTamanno();
+    public Nodo<T> ordenarCadena(Nodo<T> cabeza, int n, ContextoOrdenamiento contexto) {
         for (int i = 0; i < n - 1; i++) {
+            // Cada pasada solo intercambia datos: la lista es válida si se corta aquí
+            if (contexto.canceladoAhora()) break;
             boolean intercambio = false;
-            Nodo<T> actual = lista.getCabeza();
+            Nodo<T> actual = cabeza;
             for (int j = 0; j < n - i - 1; j++) {
-                comparaciones++;
+                contexto.comparaciones++;
                 Nodo<T> siguiente = actual.getSiguiente();
                 if (actual.getDato().compareTo(siguiente.getDato()) > 0) {
                     T temp = actual.getDato();
                     actual.setDato(siguiente.getDato());
                     siguiente.setDato(temp);
-                    intercambios++;
+                    contexto.intercambios++;
                     intercambio = true;
                 }
                 actual = siguiente;
             }
             if (!intercambio) break;
         }
-
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        return cabeza;
     }
 
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaDoble<T> lista) {
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
-        inicializarContadores();
-        long inicio = System.nanoTime();
-
-        int n = lista.getTamanno();
+    public int ordenarIndices(CadenaIndices cadena, int primero, int n, ContextoOrdenamiento contexto) {
+        EnlacesIndices siguientes = cadena.getSiguientes();
         for (int i = 0; i < n - 1; i++) {
+            if (contexto.canceladoAhora()) break;
             boolean intercambio = false;
-            NodoDoble<T> actual = lista.getCabeza();
+            int actual = primero;
             for (int j = 0; j < n - i - 1; j++) {
-                comparaciones++;
-                NodoDoble<T> siguiente = actual.getSiguiente();
-                if (actual.getDato().compareTo(siguiente.getDato()) > 0) {
-                    T temp = actual.getDato();
-                    actual.setDato(siguiente.getDato());
-                    siguiente.setDato(temp);
-                    intercambios++;
+                contexto.comparaciones++;
+                int siguiente = siguientes.siguiente(actual);
+                if (cadena.comparar(actual, siguiente) > 0) {
+                    cadena.intercambiar(actual, siguiente);
+                    contexto.intercambios++;
                     intercambio = true;
                 }
                 actual = siguiente;
             }
             if (!intercambio) break;
         }
-
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        return primero;
     }
 
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimpleCircular<T> lista) {
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
-        inicializarContadores();
-        long inicio = System.nanoTime();
-
-        int n = lista.getTamanno();
-        if (n > 1) {
-            for (int i = 0; i < n - 1; i++) {
-                boolean intercambio = false;
-                Nodo<T> actual = lista.getCabeza();
-                for (int j = 0; j < n - i - 1; j++) {
-                    comparaciones++;
-                    Nodo<T> siguiente = actual.getSiguiente();
-                    if (actual.getDato().compareTo(siguiente.getDato()) > 0) {
-                        T temp = actual.getDato();
-                        actual.setDato(siguiente.getDato());
-                        siguiente.setDato(temp);
-                        intercambios++;
-                        intercambio = true;
+    public <E extends Enlazable<E> & Comparable<? super E>> E ordenarEnlazados(E cabeza, int n,
+            ContextoOrdenamiento contexto) {
+        for (int i = 0; i < n - 1; i++) {
+            // Cada pasada deja una cadena completa: la lista es válida si se corta aquí
+            if (contexto.canceladoAhora()) break;
+            boolean intercambio = false;
+            E previo = null;
+            E actual = cabeza;
+            for (int j = 0; j < n - i - 1; j++) {
+                contexto.comparaciones++;
+                E siguiente = actual.getSiguiente();
+                if (actual.compareTo(siguiente) > 0) {
+                    // siguiente pasa delante de actual, que sigue subiendo en la próxima comparación
+                    actual.setSiguiente(siguiente.getSiguiente());
+                    siguiente.setSiguiente(actual);
+                    if (previo == null) {
+                        cabeza = siguiente;
+                    } else {
+                        previo.setSiguiente(siguiente);
                     }
+                    previo = siguiente;
+                    contexto.intercambios++;
+                    intercambio = true;
+                } else {
+                    previo = actual;
                     actual = siguiente;
                 }
-                if (!intercambio) break;
             }
+            if (!intercambio) break;
         }
-
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        return cabeza;
     }
 }
-
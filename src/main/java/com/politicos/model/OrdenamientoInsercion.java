@@ -3,7 +3,6 @@
  * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
  */
 package com.politicos.model;
-import java.util.Objects;
 
 /**
  * Implementación de la {@link EstrategiaOrdenamiento} utilizando el algoritmo de Inserción (Insertion Sort).
@@ -11,173 +10,175 @@ import java.util.Objects;
  * de la lista de entrada y colocándolos en su posición correcta dentro de una sublista ya ordenada.
  * Es eficiente para listas pequeñas o casi ordenadas.
  *
- * <p>Esta implementación modifica los enlaces {@code siguiente} de los {@link Nodo}s para reordenar la lista.</p>
+ * <p>Esta implementación modifica los enlaces {@code siguiente} de los {@link Nodo}s para reordenar la lista;
+ * en las listas dobles los enlaces {@code anterior} los reconstruye {@link TopologiaLista#reenlazar(Nodo)}.</p>
  *
  * <p>Complejidad Temporal: O(n^2) en peor y caso promedio, O(n) en mejor caso (ya ordenada).</p>
  * <p>Complejidad Espacial: O(1) (ordenación in situ).</p>
  *
+ * <p>La cabeza de la sublista ordenada y los contadores son locales a cada invocación, por lo
+ * que una misma instancia puede ordenar listas distintas desde varios hilos.</p>
+ *
  * @param <T> El tipo de elementos en la lista, debe ser {@link Comparable}.
  * @author devapps
- * @version 1.1
+ * @version 1.2
  */
 public class OrdenamientoInsercion<T extends Comparable<T>> implements EstrategiaOrdenamiento<T> {
 
-    private Nodo<T> cabezaOrdenada;
-    private long comparaciones;
-    private long intercambios;
-    private long tiempoEjecucion;
-
-    private void inicializarContadores() {
-        comparaciones = 0;
-        intercambios = 0;
-    }
-
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimple<T> lista) {
-        Objects.requireNonNull(lista, "La lista no puede ser null.");
-
-        inicializarContadores();
-        long inicioNano = System.nanoTime();
-
-        cabezaOrdenada = null;
-        Nodo<T> actualOriginal = lista.getCabeza();
-        while (actualOriginal != null) {
-            comparaciones++;
+    public Nodo<T> ordenarCadena(Nodo<T> cabeza, int n, ContextoOrdenamiento contexto) {
+        Nodo<T> cabezaOrdenada = null;
+        Nodo<T> actualOriginal = cabeza;
+        while (actualOriginal != null && !contexto.cancelado()) {
+            contexto.comparaciones++;
             Nodo<T> siguienteOriginal = actualOriginal.getSiguiente();
             actualOriginal.setSiguiente(null);
-            insertarEnOrden(actualOriginal);
+            cabezaOrdenada = insertarEnOrden(cabezaOrdenada, actualOriginal, contexto);
             actualOriginal = siguienteOriginal;
         }
 
-        lista.setCabeza(cabezaOrdenada);
-        tiempoEjecucion = System.nanoTime() - inicioNano;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        // Si se canceló, los nodos aún no insertados se dejan tal cual al final
+        return concatenar(cabezaOrdenada, actualOriginal);
     }
 
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaDoble<T> lista) {
-        Objects.requireNonNull(lista, "La lista no puede ser null.");
-
-        inicializarContadores();
-        long inicioNano = System.nanoTime();
-
-        NodoDoble<T> cabezaOrdDoble = null;
-        NodoDoble<T> actual = lista.getCabeza();
-        while (actual != null) {
-            comparaciones++;
-            NodoDoble<T> siguiente = actual.getSiguiente();
-            // Desconectar
-            actual.setAnterior(null);
-            actual.setSiguiente(null);
-
-            // Insertar en cabezaOrdDoble
-            if (cabezaOrdDoble == null ||
-                cabezaOrdDoble.getDato().compareTo(actual.getDato()) >= 0)
-            {
-                actual.setSiguiente(cabezaOrdDoble);
-                if (cabezaOrdDoble != null) cabezaOrdDoble.setAnterior(actual);
-                cabezaOrdDoble = actual;
-                intercambios++;
-            } else {
-                NodoDoble<T> temp = cabezaOrdDoble;
-                while (temp.getSiguiente() != null &&
-                       temp.getSiguiente().getDato().compareTo(actual.getDato()) < 0)
-                {
-                    comparaciones++;
-                    temp = temp.getSiguiente();
-                }
-                actual.setSiguiente(temp.getSiguiente());
-                if (temp.getSiguiente() != null) temp.getSiguiente().setAnterior(actual);
-                temp.setSiguiente(actual);
-                actual.setAnterior(temp);
-                intercambios++;
-            }
-
-            actual = siguiente;
+    public int ordenarIndices(CadenaIndices cadena, int primero, int n, ContextoOrdenamiento contexto) {
+        EnlacesIndices siguientes = cadena.getSiguientes();
+        int cabezaOrdenada = CadenaIndices.FIN;
+        int actualOriginal = primero;
+        while (actualOriginal != CadenaIndices.FIN && !contexto.cancelado()) {
+            contexto.comparaciones++;
+            int siguienteOriginal = siguientes.siguiente(actualOriginal);
+            siguientes.setSiguiente(actualOriginal, CadenaIndices.FIN);
+            cabezaOrdenada = insertarEnOrden(cadena, siguientes, cabezaOrdenada, actualOriginal, contexto);
+            actualOriginal = siguienteOriginal;
         }
 
-        lista.setCabeza(cabezaOrdDoble);
-        tiempoEjecucion = System.nanoTime() - inicioNano;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        if (actualOriginal == CadenaIndices.FIN) {
+            return cabezaOrdenada;
+        }
+        if (cabezaOrdenada == CadenaIndices.FIN) {
+            return actualOriginal;
+        }
+        int ultimo = cabezaOrdenada;
+        while (siguientes.siguiente(ultimo) != CadenaIndices.FIN) {
+            ultimo = siguientes.siguiente(ultimo);
+        }
+        siguientes.setSiguiente(ultimo, actualOriginal);
+        return cabezaOrdenada;
     }
 
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimpleCircular<T> lista) {
-        Objects.requireNonNull(lista, "La lista circular no puede ser null.");
-
-        inicializarContadores();
-        long inicioNano = System.nanoTime();
-
-        // Si 0 o 1 elemento, nada que hacer
-        if (lista.getTamanno() <= 1) {
-            tiempoEjecucion = System.nanoTime() - inicioNano;
-            return new ResultadoOrdenamiento(
-                tiempoEjecucion / 1_000_000.0,
-                comparaciones,
-                intercambios
-            );
+    public <E extends Enlazable<E> & Comparable<? super E>> E ordenarEnlazados(E cabeza, int n,
+            ContextoOrdenamiento contexto) {
+        E cabezaOrdenada = null;
+        E actualOriginal = cabeza;
+        while (actualOriginal != null && !contexto.cancelado()) {
+            contexto.comparaciones++;
+            E siguienteOriginal = actualOriginal.getSiguiente();
+            actualOriginal.setSiguiente(null);
+            cabezaOrdenada = insertarEnOrden(cabezaOrdenada, actualOriginal, contexto);
+            actualOriginal = siguienteOriginal;
         }
 
-        // 1) Romper ciclo
-        Nodo<T> head = lista.getCabeza();
-        Nodo<T> tail = lista.ultimo;
-        tail.setSiguiente(null);
-
-        // 2) Insertion Sort lineal
-        cabezaOrdenada = null;
-        Nodo<T> curr = head;
-        while (curr != null) {
-            comparaciones++;
-            Nodo<T> next = curr.getSiguiente();
-            curr.setSiguiente(null);
-            insertarEnOrden(curr);
-            curr = next;
+        if (actualOriginal == null) {
+            return cabezaOrdenada;
         }
+        if (cabezaOrdenada == null) {
+            return actualOriginal;
+        }
+        E ultimo = cabezaOrdenada;
+        while (ultimo.getSiguiente() != null) {
+            ultimo = ultimo.getSiguiente();
+        }
+        ultimo.setSiguiente(actualOriginal);
+        return cabezaOrdenada;
+    }
 
-        // 3) Restaurar ciclo
-        Nodo<T> nuevoHead = cabezaOrdenada;
-        Nodo<T> nuevoTail = nuevoHead;
-        while (nuevoTail.getSiguiente() != null) {
-            nuevoTail = nuevoTail.getSiguiente();
-        }
-        nuevoTail.setSiguiente(nuevoHead);
-        lista.ultimo = nuevoTail;
-
-        tiempoEjecucion = System.nanoTime() - inicioNano;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+    /**
+     * Enlaza {@code resto} tras el último nodo de {@code ordenada} y devuelve la cabeza resultante.
+     */
+    private Nodo<T> concatenar(Nodo<T> ordenada, Nodo<T> resto) {
+        if (resto == null) {
+            return ordenada;
+        }
+        if (ordenada == null) {
+            return resto;
+        }
+        Nodo<T> ultimo = ordenada;
+        while (ultimo.getSiguiente() != null) {
+            ultimo = ultimo.getSiguiente();
+        }
+        ultimo.setSiguiente(resto);
+        return ordenada;
     }
 
-    private void insertarEnOrden(Nodo<T> nodoAInsertar) {
+    /**
+     * Inserta {@code nodoAInsertar} en la sublista ordenada que empieza en {@code cabezaOrdenada}
+     * y devuelve la nueva cabeza de esa sublista.
+     */
+    private Nodo<T> insertarEnOrden(Nodo<T> cabezaOrdenada, Nodo<T> nodoAInsertar, ContextoOrdenamiento contexto) {
         if (cabezaOrdenada == null ||
             cabezaOrdenada.getDato().compareTo(nodoAInsertar.getDato()) >= 0)
         {
             nodoAInsertar.setSiguiente(cabezaOrdenada);
-            cabezaOrdenada = nodoAInsertar;
-            intercambios++;
-        } else {
-            Nodo<T> actualOrdenado = cabezaOrdenada;
-            while (actualOrdenado.getSiguiente() != null &&
-                   actualOrdenado.getSiguiente().getDato().compareTo(nodoAInsertar.getDato()) < 0)
-            {
-                comparaciones++;
-                actualOrdenado = actualOrdenado.getSiguiente();
-            }
-            nodoAInsertar.setSiguiente(actualOrdenado.getSiguiente());
-            actualOrdenado.setSiguiente(nodoAInsertar);
-            intercambios++;
+            contexto.intercambios++;
+            return nodoAInsertar;
         }
+        Nodo<T> actualOrdenado = cabezaOrdenada;
+        while (actualOrdenado.getSiguiente() != null &&
+               actualOrdenado.getSiguiente().getDato().compareTo(nodoAInsertar.getDato()) < 0)
+        {
+            contexto.comparaciones++;
+            actualOrdenado = actualOrdenado.getSiguiente();
+        }
+        nodoAInsertar.setSiguiente(actualOrdenado.getSiguiente());
+        actualOrdenado.setSiguiente(nodoAInsertar);
+        contexto.intercambios++;
+        return cabezaOrdenada;
     }
-}
 
+    /**
+     * Versión por índices de {@link #insertarEnOrden(Nodo, Nodo, ContextoOrdenamiento)}.
+     */
+    private int insertarEnOrden(CadenaIndices cadena, EnlacesIndices siguientes, int cabezaOrdenada, int nodoAInsertar,
+            ContextoOrdenamiento contexto) {
+        if (cabezaOrdenada == CadenaIndices.FIN || cadena.comparar(cabezaOrdenada, nodoAInsertar) >= 0) {
+            siguientes.setSiguiente(nodoAInsertar, cabezaOrdenada);
+            contexto.intercambios++;
+            return nodoAInsertar;
+        }
+        int actualOrdenado = cabezaOrdenada;
+        while (siguientes.siguiente(actualOrdenado) != CadenaIndices.FIN
+               && cadena.comparar(siguientes.siguiente(actualOrdenado), nodoAInsertar) < 0)
+        {
+            contexto.comparaciones++;
+            actualOrdenado = siguientes.siguiente(actualOrdenado);
+        }
+        siguientes.setSiguiente(nodoAInsertar, siguientes.siguiente(actualOrdenado));
+        siguientes.setSiguiente(actualOrdenado, nodoAInsertar);
+        contexto.intercambios++;
+        return cabezaOrdenada;
+    }
+
+    /**
+     * Versión para elementos {@link Enlazable} de {@link #insertarEnOrden(Nodo, Nodo, ContextoOrdenamiento)}.
+     */
+    private <E extends Enlazable<E> & Comparable<? super E>> E insertarEnOrden(E cabezaOrdenada, E elemento,
+            ContextoOrdenamiento contexto) {
+        if (cabezaOrdenada == null || cabezaOrdenada.compareTo(elemento) >= 0) {
+            elemento.setSiguiente(cabezaOrdenada);
+            contexto.intercambios++;
+            return elemento;
+        }
+        E actualOrdenado = cabezaOrdenada;
+        while (actualOrdenado.getSiguiente() != null && actualOrdenado.getSiguiente().compareTo(elemento) < 0) {
+            contexto.comparaciones++;
+            actualOrdenado = actualOrdenado.getSiguiente();
+        }
+        elemento.setSiguiente(actualOrdenado.getSiguiente());
+        actualOrdenado.setSiguiente(elemento);
+        contexto.intercambios++;
+        return cabezaOrdenada;
+    }
+}
@@ -3,7 +3,6 @@
  * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
  */
 package com.politicos.model;
-import java.util.Objects;
 
 /**
  * Implementación de la {@link EstrategiaOrdenamiento} utilizando el algoritmo Merge Sort (ordenación por mezcla).
@@ -11,82 +10,100 @@ import java.util.Objects;
  * ya que no requiere acceso aleatorio. Divide la lista recursivamente, ordena las sublistas y
  * luego las fusiona (merge) de manera ordenada.
  *
- * <p>Esta implementación modifica los enlaces {@code siguiente} de los {@link Nodo}s.</p>
+ * <p>Esta implementación modifica los enlaces {@code siguiente} de los {@link Nodo}s; en las
+ * listas dobles los enlaces {@code anterior} se reconstruyen en una sola pasada al reenlazar.</p>
  *
  * <p>Complejidad Temporal: O(n log n) en todos los casos (peor, promedio, mejor).</p>
  * <p>Complejidad Espacial: O(log n) debido a la pila de recursión (puede ser O(n) en algunas implementaciones iterativas).</p>
  *
+ * <p>Los contadores y la cancelación llegan en el {@link ContextoOrdenamiento} de cada
+ * invocación; la instancia no tiene estado y puede compartirse entre hilos.</p>
+ *
  * @param <T> El tipo de elementos en la lista, debe ser {@link Comparable}.
  * @author devapps
- * @version 1.1
+ * @version 1.2
  */
 public class OrdenamientoMerge<T extends Comparable<T>> implements EstrategiaOrdenamiento<T> {
 
-    /**
-     * Ordena la lista dada usando el algoritmo Merge Sort, re-enlazando nodos.
-     *
-     * @param lista La lista {@link ListaEnlazadaSimple} a ordenar. No debe ser null.
-     * @throws NullPointerException si {@code lista} es null.
-     * @throws ClassCastException si los elementos no son {@code Comparable}.
-     */
-    private long comparaciones;
-    private long intercambios;
-    private long tiempoEjecucion;
-
-    /**
-     * Inicializa los contadores antes de comenzar el ordenamiento.
-     */
-    private void inicializarContadores() {
-        comparaciones = 0;
-        intercambios = 0;
+    @Override
+    public Nodo<T> ordenarCadena(Nodo<T> cabeza, int n, ContextoOrdenamiento contexto) {
+        // Un solo centinela por ordenamiento, en vez de uno nuevo en cada fusión
+        return mergeSort(cabeza, n, new Nodo<>(null), contexto);
     }
 
-    public long getComparaciones() { return comparaciones; }
-    public long getIntercambios() { return intercambios; }
+    @Override
+    public int ordenarIndices(CadenaIndices cadena, int primero, int n, ContextoOrdenamiento contexto) {
+        // Por posiciones en vez de la vista: con n grande, la vista duplica el tiempo
+        return mergeSort(cadena, cadena.getSiguientes(), primero, n, contexto);
+    }
 
-    // --- MergeSort para Lista Enlazada Simple ---
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimple<T> lista) {
-        inicializarContadores();
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null.");
+    public <E extends Enlazable<E> & Comparable<? super E>> E ordenarEnlazados(E cabeza, int n,
+            ContextoOrdenamiento contexto) {
+        if (n < 2 || contexto.cancelado()) {
+            return cabeza;
+        }
+
+        int tamannoIzquierda = (n + 1) / 2;
+        E mitad = cabeza;
+        for (int i = 1; i < tamannoIzquierda; i++) {
+            mitad = mitad.getSiguiente();
+        }
+        E siguienteMitad = mitad.getSiguiente();
+        mitad.setSiguiente(null);
 
-        long inicio = System.nanoTime();
-        Nodo<T> cabeza = lista.getCabeza();
-        cabeza = mergeSortSimple(cabeza);
-        lista.setCabeza(cabeza);
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        E izquierda = ordenarEnlazados(cabeza, tamannoIzquierda, contexto);
+        E derecha = ordenarEnlazados(siguienteMitad, n - tamannoIzquierda, contexto);
+
+        if (contexto.isCancelado()) {
+            if (izquierda == null) {
+                return derecha;
+            }
+            E ultimo = izquierda;
+            while (ultimo.getSiguiente() != null) {
+                ultimo = ultimo.getSiguiente();
+            }
+            ultimo.setSiguiente(derecha);
+            return izquierda;
+        }
+        return fusionar(izquierda, derecha, contexto);
     }
 
-    private Nodo<T> mergeSortSimple(Nodo<T> cabeza) {
-        if (cabeza == null || cabeza.getSiguiente() == null) {
+    /**
+     * Ordena los {@code n} nodos que empiezan en {@code cabeza}. Conocer el tamaño permite
+     * partir la cadena recorriendo solo media sublista, sin el par de punteros lento/rápido.
+     */
+    private Nodo<T> mergeSort(Nodo<T> cabeza, int n, Nodo<T> centinela, ContextoOrdenamiento contexto) {
+        if (n < 2 || contexto.cancelado()) {
             return cabeza;
         }
 
-        // Dividir la lista en dos mitades
-        Nodo<T> mitad = obtenerMitadSimple(cabeza);
+        // Dividir la lista en dos mitades (la izquierda se queda con el nodo central, como antes)
+        int tamannoIzquierda = (n + 1) / 2;
+        Nodo<T> mitad = obtenerMitad(cabeza, tamannoIzquierda);
         Nodo<T> siguienteMitad = mitad.getSiguiente();
         mitad.setSiguiente(null);
 
         // Ordenar recursivamente cada mitad
-        Nodo<T> izquierda = mergeSortSimple(cabeza);
-        Nodo<T> derecha = mergeSortSimple(siguienteMitad);
+        Nodo<T> izquierda = mergeSort(cabeza, tamannoIzquierda, centinela, contexto);
+        Nodo<T> derecha = mergeSort(siguienteMitad, n - tamannoIzquierda, centinela, contexto);
 
-        // Fusionar las mitades ordenadas
-        return fusionarSimple(izquierda, derecha);
+        // Fusionar las mitades ordenadas (o solo unirlas si se canceló)
+        if (contexto.isCancelado()) {
+            return concatenar(izquierda, derecha);
+        }
+        return fusionar(izquierda, derecha, centinela, contexto);
     }
 
-    private Nodo<T> fusionarSimple(Nodo<T> a, Nodo<T> b) {
-        Nodo<T> dummy = new Nodo<>(null);
-        Nodo<T> tail = dummy;
+    /**
+     * Fusiona dos cadenas ordenadas. {@code centinela} es un nodo auxiliar compartido por
+     * todo el ordenamiento: solo se usa su enlace {@code siguiente} durante esta llamada.
+     */
+    private Nodo<T> fusionar(Nodo<T> a, Nodo<T> b, Nodo<T> centinela, ContextoOrdenamiento contexto) {
+        Nodo<T> tail = centinela;
 
         while (a != null && b != null) {
-            comparaciones++;
+            contexto.comparaciones++;
             if (a.getDato().compareTo(b.getDato()) <= 0) {
                 tail.setSiguiente(a);
                 a = a.getSiguiente();
@@ -95,170 +112,139 @@ public class OrdenamientoMerge<T extends Comparable<T>> implements EstrategiaOrd
                 b = b.getSiguiente();
             }
             tail = tail.getSiguiente();
-            intercambios++;
+            contexto.intercambios++;
         }
 
         // Agregar el resto de la lista que no está vacía
         tail.setSiguiente((a != null) ? a : b);
 
-        return dummy.getSiguiente();
+        Nodo<T> cabeza = centinela.getSiguiente();
+        centinela.setSiguiente(null); // No retener la cadena entre fusiones
+        return cabeza;
     }
 
-    private Nodo<T> obtenerMitadSimple(Nodo<T> cabeza) {
-        if (cabeza == null) {
-            return cabeza;
-        }
-
-        Nodo<T> lento = cabeza;
-        Nodo<T> rapido = cabeza.getSiguiente();
-
-        while (rapido != null && rapido.getSiguiente() != null) {
-            lento = lento.getSiguiente();
-            rapido = rapido.getSiguiente().getSiguiente();
+    /**
+     * Une dos cadenas sin compararlas; se usa para dejar la lista íntegra tras una cancelación.
+     */
+    private Nodo<T> concatenar(Nodo<T> a, Nodo<T> b) {
+        if (a == null) {
+            return b;
         }
-
-        return lento;
-    }
-
-    // --- MergeSort para Lista Enlazada Doble ---
-    @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaDoble<T> lista) {
-        inicializarContadores();
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null.");
-
-        long inicio = System.nanoTime();
-        NodoDoble<T> cabeza = lista.getCabeza();
-        cabeza = mergeSortDoble(cabeza);
-        lista.setCabeza(cabeza);
-        
-        // Actualizar la cola después de ordenar
-        if (cabeza != null) {
-            NodoDoble<T> cola = cabeza;
-            while (cola.getSiguiente() != null) {
-                cola = cola.getSiguiente();
-            }
-            lista.cola = cola;
-        } else {
-            lista.cola = null;
+        Nodo<T> ultimo = a;
+        while (ultimo.getSiguiente() != null) {
+            ultimo = ultimo.getSiguiente();
         }
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        ultimo.setSiguiente(b);
+        return a;
     }
 
-    private NodoDoble<T> mergeSortDoble(NodoDoble<T> cabeza) {
-        if (cabeza == null || cabeza.getSiguiente() == null) {
-            return cabeza;
-        }
-
-        // Dividir la lista en dos mitades
-        NodoDoble<T> mitad = obtenerMitadDoble(cabeza);
-        NodoDoble<T> siguienteMitad = mitad.getSiguiente();
-        mitad.setSiguiente(null);
-        if (siguienteMitad != null) {
-            siguienteMitad.setAnterior(null);
+    /**
+     * Devuelve el último nodo de la mitad izquierda, el que ocupa la posición {@code tamannoIzquierda - 1}.
+     */
+    private Nodo<T> obtenerMitad(Nodo<T> cabeza, int tamannoIzquierda) {
+        Nodo<T> mitad = cabeza;
+        for (int i = 1; i < tamannoIzquierda; i++) {
+            mitad = mitad.getSiguiente();
         }
-
-        // Ordenar recursivamente cada mitad
-        NodoDoble<T> izquierda = mergeSortDoble(cabeza);
-        NodoDoble<T> derecha = mergeSortDoble(siguienteMitad);
-
-        // Fusionar las mitades ordenadas
-        return fusionarDoble(izquierda, derecha);
+        return mitad;
     }
 
-    private NodoDoble<T> fusionarDoble(NodoDoble<T> a, NodoDoble<T> b) {
-        NodoDoble<T> dummy = new NodoDoble<>(null);
-        NodoDoble<T> tail = dummy;
+    /**
+     * Fusiona dos cadenas ordenadas de elementos {@link Enlazable}. Sin nodo ficticio (no
+     * se puede crear un {@code E}): la cabeza se fija con la primera comparación.
+     */
+    private <E extends Enlazable<E> & Comparable<? super E>> E fusionar(E a, E b, ContextoOrdenamiento contexto) {
+        E cabeza = null;
+        E tail = null;
 
         while (a != null && b != null) {
-            comparaciones++;
-            if (a.getDato().compareTo(b.getDato()) <= 0) {
-                tail.setSiguiente(a);
-                a.setAnterior(tail);
+            contexto.comparaciones++;
+            E elegido;
+            if (a.compareTo(b) <= 0) {
+                elegido = a;
                 a = a.getSiguiente();
             } else {
-                tail.setSiguiente(b);
-                b.setAnterior(tail);
+                elegido = b;
                 b = b.getSiguiente();
             }
-            tail = tail.getSiguiente();
-            intercambios++;
-        }
-
-        NodoDoble<T> restante = (a != null) ? a : b;
-        while (restante != null) {
-            tail.setSiguiente(restante);
-            restante.setAnterior(tail);
-            tail = restante;
-            restante = restante.getSiguiente();
-            intercambios++;
+            if (tail == null) {
+                cabeza = elegido;
+            } else {
+                tail.setSiguiente(elegido);
+            }
+            tail = elegido;
+            contexto.intercambios++;
         }
 
-        NodoDoble<T> cabezaOrdenada = dummy.getSiguiente();
-        if (cabezaOrdenada != null) {
-            cabezaOrdenada.setAnterior(null); // Asegurar que el primer nodo no tenga anterior
+        E resto = (a != null) ? a : b;
+        if (tail == null) {
+            return resto;
         }
-
-        return cabezaOrdenada;
+        tail.setSiguiente(resto);
+        return cabeza;
     }
 
-    private NodoDoble<T> obtenerMitadDoble(NodoDoble<T> cabeza) {
-        if (cabeza == null) {
+    // --- Versión por índices para listas columnares ---
+
+    private int mergeSort(CadenaIndices cadena, EnlacesIndices siguientes, int cabeza, int n, ContextoOrdenamiento contexto) {
+        if (n < 2 || contexto.cancelado()) {
             return cabeza;
         }
 
-        NodoDoble<T> lento = cabeza;
-        NodoDoble<T> rapido = cabeza.getSiguiente();
-
-        while (rapido != null && rapido.getSiguiente() != null) {
-            lento = lento.getSiguiente();
-            rapido = rapido.getSiguiente().getSiguiente();
+        int tamannoIzquierda = (n + 1) / 2;
+        int mitad = cabeza;
+        for (int i = 1; i < tamannoIzquierda; i++) {
+            mitad = siguientes.siguiente(mitad);
         }
+        int siguienteMitad = siguientes.siguiente(mitad);
+        siguientes.setSiguiente(mitad, CadenaIndices.FIN);
 
-        return lento;
-    }
-
-    // --- MergeSort para Lista Enlazada Simple Circular ---
-    @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimpleCircular<T> lista) {
-        inicializarContadores();
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null.");
+        int izquierda = mergeSort(cadena, siguientes, cabeza, tamannoIzquierda, contexto);
+        int derecha = mergeSort(cadena, siguientes, siguienteMitad, n - tamannoIzquierda, contexto);
 
-        long inicio = System.nanoTime();
-        
-        // Convertir temporalmente la lista circular en simple
-        Nodo<T> cabeza = lista.getCabeza();
-        Nodo<T> ultimo = lista.ultimo;
-        if (ultimo != null) {
-            ultimo.setSiguiente(null); // Romper la circularidad temporalmente
+        if (contexto.isCancelado()) {
+            if (izquierda == CadenaIndices.FIN) {
+                return derecha;
+            }
+            int ultimo = izquierda;
+            while (siguientes.siguiente(ultimo) != CadenaIndices.FIN) {
+                ultimo = siguientes.siguiente(ultimo);
+            }
+            siguientes.setSiguiente(ultimo, derecha);
+            return izquierda;
         }
+        return fusionar(cadena, siguientes, izquierda, derecha, contexto);
+    }
 
-        // Ordenar la lista como si fuera simple
-        cabeza = mergeSortSimple(cabeza);
-        
-        // Reconectar la lista circular
-        if (cabeza != null) {
-            ultimo = cabeza;
-            while (ultimo.getSiguiente() != null) {
-                ultimo = ultimo.getSiguiente();
+    private int fusionar(CadenaIndices cadena, EnlacesIndices siguientes, int a, int b, ContextoOrdenamiento contexto) {
+        // Sin nodo ficticio: la cabeza se fija con la primera comparación
+        int cabeza = CadenaIndices.FIN;
+        int tail = CadenaIndices.FIN;
+
+        while (a != CadenaIndices.FIN && b != CadenaIndices.FIN) {
+            contexto.comparaciones++;
+            int elegido;
+            if (cadena.comparar(a, b) <= 0) {
+                elegido = a;
+                a = siguientes.siguiente(a);
+            } else {
+                elegido = b;
+                b = siguientes.siguiente(b);
             }
-            ultimo.setSiguiente(cabeza);
-            lista.ultimo = ultimo;
-        } else {
-            lista.ultimo = null;
+            if (tail == CadenaIndices.FIN) {
+                cabeza = elegido;
+            } else {
+                siguientes.setSiguiente(tail, elegido);
+            }
+            tail = elegido;
+            contexto.intercambios++;
+        }
+
+        int resto = (a != CadenaIndices.FIN) ? a : b;
+        if (tail == CadenaIndices.FIN) {
+            return resto;
         }
-        
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+        siguientes.setSiguiente(tail, resto);
+        return cabeza;
     }
 }
@@ -3,7 +3,7 @@
  * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
  */
 package com.politicos.model;
-import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Implementación de la {@link EstrategiaOrdenamiento} utilizando el algoritmo Quick Sort (ordenación rápida).
@@ -11,69 +11,63 @@ import java.util.Objects;
  * y particiona la lista de forma que los elementos menores que el pivote queden a un lado
  * y los mayores al otro, luego ordena recursivamente las sublistas.
  *
- * <p><b>Nota Importante:</b> Esta implementación específica utiliza el <strong>último elemento</strong>
- * de la (sub)lista como pivote e intercambia los <strong>datos</strong> contenidos en los nodos,
- * no los nodos en sí. Por lo tanto, requiere que la clase {@link Nodo} posea un método {@code setDato(T)}.</p>
+ * <p><b>Nota Importante:</b> Esta implementación elige como pivote un elemento <strong>al azar</strong>
+ * de la (sub)lista, lo lleva al final y particiona a partir de ahí (esquema de Lomuto),
+ * intercambiando los <strong>datos</strong> contenidos en los nodos, no los nodos en sí. Por lo
+ * tanto, requiere que la clase {@link Nodo} posea un método {@code setDato(T)}.
+ * En las listas intrusivas, donde no hay dato que mover, la partición reenlaza los elementos
+ * de modo que quedan en el mismo orden que dejarían esos intercambios.</p>
  * <p>QuickSort en listas enlazadas puede ser menos eficiente que en arrays debido a la dificultad
  * de acceso aleatorio y la complejidad de la partición.</p>
  *
- * <p>Complejidad Temporal: O(n log n) en promedio, O(n^2) en el peor caso (ej. lista ya ordenada).</p>
+ * <p>Complejidad Temporal: O(n log n) esperado para cualquier entrada gracias al pivote aleatorio;
+ * O(n^2) en el peor caso, que ya no depende del orden inicial pero sí aparece con muchas claves
+ * repetidas, porque los iguales al pivote quedan todos del mismo lado.</p>
  * <p>Complejidad Espacial: O(log n) en promedio (pila recursión), O(n) en peor caso.</p>
  *
+ * <p>La instancia no tiene estado: los contadores van en el {@link ContextoOrdenamiento} y el
+ * pivote se elige con {@link ThreadLocalRandom}, así que puede compartirse entre hilos.</p>
+ *
  * @param <T> El tipo de elementos en la lista, debe ser {@link Comparable}.
  * @author devapps
- * @version 1.1
+ * @version 1.2
  */
 public class OrdenamientoQuickSort<T extends Comparable<T>> implements EstrategiaOrdenamiento<T> {
 
-    /**
-     * Ordena la lista dada usando el algoritmo Quick Sort, usando el último nodo como pivote
-     * y realizando intercambio de datos.
-     *
-     * @param lista La lista {@link ListaEnlazadaSimple} a ordenar. No debe ser null.
-     * @throws NullPointerException si {@code lista} es null.
-     * @throws ClassCastException si los elementos no son {@code Comparable}.
-     * @throws UnsupportedOperationException si {@link Nodo#setDato(Object)} no está disponible (implícito).
-     */
-    private long comparaciones;
-    private long intercambios;
-    private long tiempoEjecucion;
-
-    public long getComparaciones() { return comparaciones; }
-    public long getIntercambios()  { return intercambios; }
-    public long getTiempoEjecucion() { return tiempoEjecucion; }
-    
-    private void inicializarContadores() {
-        comparaciones = 0;
-        intercambios = 0;
+    @Override
+    public Nodo<T> ordenarCadena(Nodo<T> cabeza, int n, ContextoOrdenamiento contexto) {
+        quickSortRecursivo(cabeza, encontrarCola(cabeza), n, contexto);
+        return cabeza;
     }
 
-    /**
-     * Inicializa los contadores antes de comenzar el ordenamiento.
-     */
-
-    // --- QuickSort para Lista Enlazada Simple ---
     @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimple<T> lista) {
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null.");
-        inicializarContadores();
-        long inicio = System.nanoTime();
-        Nodo<T> cabeza = lista.getCabeza();
-        Nodo<T> cola = encontrarColaSimple(cabeza);
-
-        quickSortRecursivoSimple(cabeza, cola);
+    public int ordenarIndices(CadenaIndices cadena, int primero, int n, ContextoOrdenamiento contexto) {
+        // Por posiciones en vez de la vista, como MergeSort: es el camino caliente de las columnares
+        EnlacesIndices siguientes = cadena.getSiguientes();
+        int cola = primero;
+        if (cola != CadenaIndices.FIN) {
+            while (siguientes.siguiente(cola) != CadenaIndices.FIN) {
+                cola = siguientes.siguiente(cola);
+            }
+        }
+        quickSortRecursivo(cadena, siguientes, primero, cola, n, contexto);
+        return primero;
+    }
 
-        lista.setCabeza(cabeza);
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
+    @Override
+    public <E extends Enlazable<E> & Comparable<? super E>> E ordenarEnlazados(E cabeza, int n,
+            ContextoOrdenamiento contexto) {
+        if (n == 0) {
+            return cabeza;
+        }
+        E cola = cabeza;
+        for (int i = 1; i < n; i++) {
+            cola = cola.getSiguiente();
+        }
+        return quickSortEnlazados(cabeza, cola, n, null, contexto);
     }
 
-    private Nodo<T> encontrarColaSimple(Nodo<T> nodo) {
+    private Nodo<T> encontrarCola(Nodo<T> nodo) {
         if (nodo == null) {
             return null;
         }
@@ -83,232 +77,188 @@ public class OrdenamientoQuickSort<T extends Comparable<T>> implements Estrategi
         return nodo;
     }
 
-    private void quickSortRecursivoSimple(Nodo<T> cabezaSubLista, Nodo<T> colaSubLista) {
-        if (cabezaSubLista == null || colaSubLista == null || cabezaSubLista == colaSubLista || cabezaSubLista == colaSubLista.getSiguiente()) {
+    /**
+     * Ordena la sublista de {@code longitud} nodos entre {@code cabezaSubLista} y {@code colaSubLista}.
+     * La partición cuenta los menores que el pivote, así que la longitud de cada lado se conoce
+     * sin volver a recorrerlo para elegir el siguiente pivote.
+     */
+    private void quickSortRecursivo(Nodo<T> cabezaSubLista, Nodo<T> colaSubLista, int longitud, ContextoOrdenamiento contexto) {
+        if (longitud < 2) {
             return;
         }
-
-        Nodo<T>[] resultadoParticion = particionarSimple(cabezaSubLista, colaSubLista);
-        Nodo<T> nodoPivoteFinal = resultadoParticion[0];
-        Nodo<T> nodoAntesPivote = resultadoParticion[1];
-
-        if (nodoAntesPivote != null && nodoPivoteFinal != cabezaSubLista) {
-            quickSortRecursivoSimple(cabezaSubLista, nodoAntesPivote);
-        }
-
-        if (nodoPivoteFinal != null && nodoPivoteFinal != colaSubLista) {
-            quickSortRecursivoSimple(nodoPivoteFinal.getSiguiente(), colaSubLista);
+        // Solo se intercambian datos, así que cortar aquí deja la lista válida
+        if (contexto.cancelado()) {
+            return;
         }
-    }
 
-    private Nodo<T>[] particionarSimple(Nodo<T> cabeza, Nodo<T> cola) {
-        // Elegir pivote aleatorio para evitar peor caso
-        Nodo<T> pivote = obtenerPivoteAleatorio(cabeza, cola);
-        intercambiarDatos(pivote, cola); // mover pivote al final
+        // Elegir pivote aleatorio para evitar peor caso y moverlo al final
+        Nodo<T> pivote = avanzar(cabezaSubLista, ThreadLocalRandom.current().nextInt(longitud));
+        intercambiarDatos(pivote, colaSubLista);
 
-        T valorPivote = cola.getDato();
+        T valorPivote = colaSubLista.getDato();
         Nodo<T> i = null;
-        Nodo<T> actual = cabeza;
+        int menores = 0;
+        Nodo<T> actual = cabezaSubLista;
 
-        while (actual != cola) {
-            comparaciones++;
+        while (actual != colaSubLista) {
+            contexto.comparaciones++;
             if (actual.getDato().compareTo(valorPivote) < 0) {
-                i = (i == null) ? cabeza : i.getSiguiente();
+                i = (i == null) ? cabezaSubLista : i.getSiguiente();
                 intercambiarDatos(actual, i);
-                intercambios++;
+                contexto.intercambios++;
+                menores++;
             }
             actual = actual.getSiguiente();
         }
 
-        i = (i == null) ? cabeza : i.getSiguiente();
-        intercambiarDatos(cola, i);
-        intercambios++;
+        // El último menor que el pivote es justo el nodo anterior a su posición final
+        Nodo<T> nodoAntesPivote = i;
+        Nodo<T> nodoPivoteFinal = (i == null) ? cabezaSubLista : i.getSiguiente();
+        intercambiarDatos(colaSubLista, nodoPivoteFinal);
+        contexto.intercambios++;
 
-        Nodo<T> nodoAntesPivote = null;
-        if (i != cabeza) {
-            Nodo<T> buscador = cabeza;
-            while (buscador != null && buscador.getSiguiente() != i) {
-                buscador = buscador.getSiguiente();
-            }
-            nodoAntesPivote = buscador;
+        if (nodoAntesPivote != null) {
+            quickSortRecursivo(cabezaSubLista, nodoAntesPivote, menores, contexto);
         }
 
-        @SuppressWarnings("unchecked")
-        Nodo<T>[] resultado = (Nodo<T>[]) new Nodo<?>[2];
-        resultado[0] = i;               // pivote final
-        resultado[1] = nodoAntesPivote; // antes del pivote
-        return resultado;
-    }
-    
-    private Nodo<T> obtenerPivoteAleatorio(Nodo<T> inicio, Nodo<T> fin) {
-    int longitud = 0;
-    Nodo<T> actual = inicio;
-    while (actual != fin.getSiguiente()) {
-        longitud++;
-        actual = actual.getSiguiente();
-    }
-    int paso = (int) (Math.random() * longitud);
-    actual = inicio;
-    for (int i = 0; i < paso; i++) {
-        actual = actual.getSiguiente();
-    }
-    return actual;
-}
-
-    // --- QuickSort para Lista Enlazada Doble ---
-    @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaDoble<T> lista) {
-        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null.");
-        inicializarContadores();
-        long inicio = System.nanoTime();
-        NodoDoble<T> cabeza = lista.getCabeza();
-        NodoDoble<T> cola = lista.cola;
-
-        quickSortRecursivoDoble(cabeza, cola);
-
-        // Actualizar la cabeza y cola de la lista
-        lista.setCabeza(cabeza);
-        if (cabeza != null) {
-            lista.cola = encontrarColaDoble(cabeza);
-        } else {
-            lista.cola = null;
+        if (nodoPivoteFinal != colaSubLista) {
+            quickSortRecursivo(nodoPivoteFinal.getSiguiente(), colaSubLista, longitud - menores - 1, contexto);
         }
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
     }
 
-    private NodoDoble<T> encontrarColaDoble(NodoDoble<T> nodo) {
-        if (nodo == null) {
-            return null;
-        }
-        while (nodo.getSiguiente() != null) {
-            nodo = nodo.getSiguiente();
+    private Nodo<T> avanzar(Nodo<T> inicio, int pasos) {
+        Nodo<T> actual = inicio;
+        for (int i = 0; i < pasos; i++) {
+            actual = actual.getSiguiente();
         }
-        return nodo;
+        return actual;
     }
 
-    private ResultadoOrdenamiento quickSortRecursivoDoble(NodoDoble<T> cabezaSubLista, NodoDoble<T> colaSubLista) {
-
-        NodoDoble<T>[] resultadoParticion = particionarDoble(cabezaSubLista, colaSubLista);
-        NodoDoble<T> nodoPivoteFinal = resultadoParticion[0];
-        NodoDoble<T> nodoAntesPivote = resultadoParticion[1];
+    /**
+     * Método auxiliar para intercambiar datos entre dos nodos.
+     */
+    private void intercambiarDatos(Nodo<T> a, Nodo<T> b) {
+        T temp = a.getDato();
+        a.setDato(b.getDato());
+        b.setDato(temp);
+    }
 
-        if (nodoAntesPivote != null && nodoPivoteFinal != cabezaSubLista) {
-            quickSortRecursivoDoble(cabezaSubLista, nodoAntesPivote);
+    /**
+     * Versión por índices de {@link #quickSortRecursivo(Nodo, Nodo, int, ContextoOrdenamiento)}:
+     * los datos se intercambian en las columnas y los enlaces no cambian.
+     */
+    private void quickSortRecursivo(CadenaIndices cadena, EnlacesIndices siguientes, int cabezaSubLista, int colaSubLista,
+            int longitud, ContextoOrdenamiento contexto) {
+        if (longitud < 2 || contexto.cancelado()) {
+            return;
         }
 
-        if (nodoPivoteFinal != null && nodoPivoteFinal != colaSubLista) {
-            quickSortRecursivoDoble(nodoPivoteFinal.getSiguiente(), colaSubLista);
+        int pivote = cabezaSubLista;
+        for (int paso = ThreadLocalRandom.current().nextInt(longitud); paso > 0; paso--) {
+            pivote = siguientes.siguiente(pivote);
         }
-        return new ResultadoOrdenamiento(getTiempoEjecucion(),getComparaciones(), getIntercambios());
-    }
-
-    private NodoDoble<T>[] particionarDoble(NodoDoble<T> cabeza, NodoDoble<T> cola) {
-        NodoDoble<T> pivote = obtenerPivoteAleatorioDoble(cabeza, cola);
-        intercambiarDatosDoble(pivote, cola);  // Mover el pivote al final
-
-        T valorPivote = cola.getDato();
-        NodoDoble<T> i = cabeza.getAnterior();
-        NodoDoble<T> actual = cabeza;
-
-        while (actual != cola) {
-            comparaciones++;
-            if (actual.getDato().compareTo(valorPivote) < 0) {
-                i = (i == null) ? cabeza : i.getSiguiente();
-                intercambiarDatosDoble(actual, i);
-                intercambios++;
+        cadena.intercambiar(pivote, colaSubLista);
+
+        int i = CadenaIndices.FIN;
+        int menores = 0;
+        for (int actual = cabezaSubLista; actual != colaSubLista; actual = siguientes.siguiente(actual)) {
+            contexto.comparaciones++;
+            if (cadena.comparar(actual, colaSubLista) < 0) {
+                i = (i == CadenaIndices.FIN) ? cabezaSubLista : siguientes.siguiente(i);
+                cadena.intercambiar(actual, i);
+                contexto.intercambios++;
+                menores++;
             }
-            actual = actual.getSiguiente();
         }
 
-        i = (i == null) ? cabeza : i.getSiguiente();
-        intercambiarDatosDoble(cola, i);
-        intercambios++;
-
-        NodoDoble<T> nodoAntesPivote = (i != cabeza) ? i.getAnterior() : null;
+        int nodoAntesPivote = i;
+        int nodoPivoteFinal = (i == CadenaIndices.FIN) ? cabezaSubLista : siguientes.siguiente(i);
+        cadena.intercambiar(colaSubLista, nodoPivoteFinal);
+        contexto.intercambios++;
 
-        @SuppressWarnings("unchecked")
-        NodoDoble<T>[] resultado = (NodoDoble<T>[]) new NodoDoble<?>[2];
-        resultado[0] = i;
-        resultado[1] = nodoAntesPivote;
-        return resultado;
-    }
-    
-    private NodoDoble<T> obtenerPivoteAleatorioDoble(NodoDoble<T> inicio, NodoDoble<T> fin) {
-        int longitud = 0;
-        NodoDoble<T> actual = inicio;
-        while (actual != fin.getSiguiente()) {
-            longitud++;
-            actual = actual.getSiguiente();
+        if (nodoAntesPivote != CadenaIndices.FIN) {
+            quickSortRecursivo(cadena, siguientes, cabezaSubLista, nodoAntesPivote, menores, contexto);
         }
-        int paso = (int) (Math.random() * longitud);
-        actual = inicio;
-        for (int i = 0; i < paso; i++) {
-            actual = actual.getSiguiente();
+        if (nodoPivoteFinal != colaSubLista) {
+            quickSortRecursivo(cadena, siguientes, siguientes.siguiente(nodoPivoteFinal), colaSubLista,
+                longitud - menores - 1, contexto);
         }
-        return actual;
     }
-    
-    private void intercambiarDatosDoble(NodoDoble<T> a, NodoDoble<T> b) {
-        T temp = a.getDato();
-        a.setDato(b.getDato());
-        b.setDato(temp);
-    }
-
 
-    @Override
-    public ResultadoOrdenamiento ordenar(ListaEnlazadaSimpleCircular<T> lista) {
-        Objects.requireNonNull(lista, "La lista circular no puede ser null.");
-        inicializarContadores();
-        long inicio = System.nanoTime();
-
-        // 1) Romper la circularidad
-        Nodo<T> head = lista.getCabeza();
-        Nodo<T> tail = head;
-        while (tail.getSiguiente() != head) {
-            tail = tail.getSiguiente();
+    /**
+     * Versión para elementos {@link Enlazable} de {@link #quickSortRecursivo(Nodo, Nodo, int, ContextoOrdenamiento)}:
+     * ordena los {@code longitud} elementos entre {@code cabezaSubLista} y {@code colaSubLista},
+     * enlaza el último con {@code resto} y devuelve la nueva cabeza.
+     *
+     * <p>Deja cada partición igual que los intercambios de la versión por nodos: el pivote
+     * pasa al final y la cola ocupa su sitio; los menores conservan su orden; y cada menor
+     * que se adelanta manda al final de los mayores el primero de ellos, igual que al
+     * colocar el pivote. Así las dos versiones cuentan lo mismo y recorren las mismas
+     * sublistas.</p>
+     */
+    private <E extends Enlazable<E> & Comparable<? super E>> E quickSortEnlazados(E cabezaSubLista, E colaSubLista,
+            int longitud, E resto, ContextoOrdenamiento contexto) {
+        if (longitud == 0) {
+            return resto;
+        }
+        if (longitud == 1 || contexto.cancelado()) {
+            // Sin ordenar: se deja la sublista como está, seguida del resto
+            colaSubLista.setSiguiente(resto);
+            return cabezaSubLista;
         }
-        tail.setSiguiente(null);
 
-        // 2) QuickSort sobre lista lineal
-        quickSortRecursivoSimple(head, tail);
+        E pivote = cabezaSubLista;
+        for (int paso = ThreadLocalRandom.current().nextInt(longitud); paso > 0; paso--) {
+            pivote = pivote.getSiguiente();
+        }
 
-        // 3) Restaurar circularidad
-        Nodo<T> newTail = head;
-        while (newTail.getSiguiente() != null) {
-            newTail = newTail.getSiguiente();
+        E menores = null;
+        E colaMenores = null;
+        E mayores = null;
+        E colaMayores = null;
+        int cuantosMenores = 0;
+        E actual = cabezaSubLista;
+        for (int i = 0; i < longitud - 1; i++) {
+            E siguiente = actual.getSiguiente();
+            E elemento = (actual == pivote) ? colaSubLista : actual;
+            contexto.comparaciones++;
+            if (elemento.compareTo(pivote) < 0) {
+                if (colaMenores == null) {
+                    menores = elemento;
+                } else {
+                    colaMenores.setSiguiente(elemento);
+                }
+                colaMenores = elemento;
+                cuantosMenores++;
+                if (mayores != colaMayores) {
+                    // El intercambio con este menor lleva el primero de los mayores al final
+                    E primero = mayores;
+                    mayores = primero.getSiguiente();
+                    colaMayores.setSiguiente(primero);
+                    colaMayores = primero;
+                }
+                contexto.intercambios++;
+            } else {
+                if (colaMayores == null) {
+                    mayores = elemento;
+                } else {
+                    colaMayores.setSiguiente(elemento);
+                }
+                colaMayores = elemento;
+            }
+            actual = siguiente;
         }
-        newTail.setSiguiente(head);
-        lista.ultimo = newTail;
-        
-        long fin = System.nanoTime();
-        tiempoEjecucion = fin - inicio;
-        return new ResultadoOrdenamiento(
-            tiempoEjecucion / 1_000_000.0,
-            comparaciones,
-            intercambios
-        );
-    }
-    /**
-     * Método auxiliar para intercambiar datos entre dos nodos.
-     */
-    private void intercambiarDatos(Nodo<T> a, Nodo<T> b) {
-        T temp = a.getDato();
-        a.setDato(b.getDato());
-        b.setDato(temp);
-    }
+        if (mayores != colaMayores) {
+            // Colocar el pivote también lleva el primero de los mayores al final
+            E primero = mayores;
+            mayores = primero.getSiguiente();
+            colaMayores.setSiguiente(primero);
+            colaMayores = primero;
+        }
+        contexto.intercambios++;
 
-    /**
-     * Método auxiliar para intercambiar datos entre dos nodos dobles.
-     */
-    private void intercambiarDatos(NodoDoble<T> a, NodoDoble<T> b) {
-        T temp = a.getDato();
-        a.setDato(b.getDato());
-        b.setDato(temp);
+        E izquierda = quickSortEnlazados(menores, colaMenores, cuantosMenores, pivote, contexto);
+        pivote.setSiguiente(quickSortEnlazados(mayores, colaMayores, longitud - cuantosMenores - 1, resto, contexto));
+        return izquierda;
     }
 }
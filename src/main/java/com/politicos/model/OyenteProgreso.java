@@ -0,0 +1,21 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Recibe los eventos de progreso del experimento.
+ *
+ * <p>Se invoca desde el hilo que ejecuta el experimento, entre mediciones, por lo que la
+ * implementación debe volver enseguida: nada de bloquear ni de tocar componentes Swing
+ * directamente (basta con encolar el evento y procesarlo en otro hilo).</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface OyenteProgreso {
+
+    void onEvento(EventoProgreso evento);
+}
@@ -4,6 +4,7 @@
  */
 package com.politicos.model;
 
+import java.text.DecimalFormatSymbols;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
@@ -15,11 +16,20 @@ import java.util.Objects;
  * @author Samuel
  * @version 1.0
  */
-public class Politico implements Comparable<Politico> {
+public class Politico implements Comparable<Politico>, Formateable {
 
     /** Formateador estándar para mostrar fechas de forma localizada y legible. */
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM);
 
+    /** Primer día (epoch day) cubierto por la caché de fechas formateadas: 1900-01-01. */
+    private static final long CACHE_DESDE = LocalDate.of(1900, 1, 1).toEpochDay();
+    /** Fechas ya formateadas, indexadas por {@code epochDay - CACHE_DESDE} (1900 a 2100). */
+    private static final String[] CACHE_FECHAS = new String[(int) (LocalDate.of(2101, 1, 1).toEpochDay() - CACHE_DESDE)];
+    /** Separador decimal del locale por defecto, el mismo que usaría {@code String.format("%.2f")}. */
+    private static final char SEPARADOR_DECIMAL = DecimalFormatSymbols.getInstance().getDecimalSeparator();
+    /** Límite a partir del cual el patrimonio en céntimos no cabe con seguridad en un {@code long}. */
+    private static final double MAX_PUNTO_FIJO = 9.0e16;
+
     /** Nombre completo del político */
     //private String nombre;
     /** Edad actual */
@@ -102,8 +112,64 @@ public class Politico implements Comparable<Politico> {
      */
     @Override
     public String toString() {
-        String fechaStr = fechaNacimiento.format(DATE_FORMATTER);
-        return String.format("Político: ID: %d | Nacimiento: %s | Patrimonio: %.2f €", id, fechaStr, dinero);
+        StringBuilder sb = new StringBuilder(72);
+        formatearEn(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Escribe la misma representación que {@link #toString()} directamente en {@code destino}.
+     * La fecha se toma de una caché compartida y el patrimonio se escribe en punto fijo
+     * (céntimos), por lo que no se crean objetos por elemento.
+     *
+     * @param destino El búfer donde escribir.
+     */
+    @Override
+    public void formatearEn(StringBuilder destino) {
+        destino.append("Político: ID: ").append(id)
+               .append(" | Nacimiento: ").append(fechaFormateada(fechaNacimiento))
+               .append(" | Patrimonio: ");
+        anexarImporte(destino, dinero);
+        destino.append(" €");
+    }
+
+    /**
+     * Devuelve la fecha formateada con {@link #DATE_FORMATTER}, usando la caché cuando
+     * la fecha está dentro del rango cubierto.
+     */
+    private static String fechaFormateada(LocalDate fecha) {
+        long indice = fecha.toEpochDay() - CACHE_DESDE;
+        if (indice < 0 || indice >= CACHE_FECHAS.length) {
+            return fecha.format(DATE_FORMATTER);
+        }
+        String cacheada = CACHE_FECHAS[(int) indice];
+        if (cacheada == null) {
+            // Carrera benigna: en el peor caso dos hilos formatean la misma fecha
+            cacheada = fecha.format(DATE_FORMATTER);
+            CACHE_FECHAS[(int) indice] = cacheada;
+        }
+        return cacheada;
+    }
+
+    /**
+     * Escribe {@code importe} con dos decimales usando aritmética entera.
+     */
+    private static void anexarImporte(StringBuilder destino, double importe) {
+        if (Double.isNaN(importe) || Math.abs(importe) >= MAX_PUNTO_FIJO) {
+            destino.append(String.format("%.2f", importe));
+            return;
+        }
+        long centimos = Math.round(importe * 100);
+        if (centimos < 0) {
+            destino.append('-');
+            centimos = -centimos;
+        }
+        long decimales = centimos % 100;
+        destino.append(centimos / 100).append(SEPARADOR_DECIMAL);
+        if (decimales < 10) {
+            destino.append('0');
+        }
+        destino.append(decimales);
     }
 
     /**
@@ -125,7 +191,7 @@ public class Politico implements Comparable<Politico> {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Integer.hashCode(id); // Sin arreglo varargs ni Integer en caja
     }
 
     /**
@@ -0,0 +1,55 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.time.LocalDate;
+
+/**
+ * {@link Politico} con enlaces propios, para guardarlo en una {@link ListaIntrusiva} sin un
+ * nodo aparte: un objeto por elemento en lugar de dos. Las estrategias lo ordenan con
+ * {@link EstrategiaOrdenamiento#ordenarEnlazados}, que compara y reenlaza directamente estos
+ * objetos, así que cada comparación lee el patrimonio sin pasar por {@code getDato()}.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class PoliticoEnlazado extends Politico implements Enlazable<PoliticoEnlazado> {
+
+    private PoliticoEnlazado siguiente;
+    private PoliticoEnlazado anterior;
+
+    public PoliticoEnlazado(int id, double dinero, LocalDate fechaNacimiento) {
+        super(id, dinero, fechaNacimiento);
+    }
+
+    /**
+     * Copia los datos de {@code politico}, sin sus enlaces si los tuviera.
+     *
+     * @param politico El político a copiar.
+     */
+    public PoliticoEnlazado(Politico politico) {
+        this(politico.getId(), politico.getDinero(), politico.getFechaNacimiento());
+    }
+
+    @Override
+    public PoliticoEnlazado getSiguiente() {
+        return siguiente;
+    }
+
+    @Override
+    public void setSiguiente(PoliticoEnlazado siguiente) {
+        this.siguiente = siguiente;
+    }
+
+    @Override
+    public PoliticoEnlazado getAnterior() {
+        return anterior;
+    }
+
+    @Override
+    public void setAnterior(PoliticoEnlazado anterior) {
+        this.anterior = anterior;
+    }
+}
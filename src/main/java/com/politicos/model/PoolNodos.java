@@ -0,0 +1,210 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Reserva de nodos reutilizables para las listas enlazadas, organizada como una arena:
+ * los nodos se crean por bloques de {@link #TAMANNO_BLOQUE} (contiguos en el heap) y se
+ * entregan en orden con un cursor. Una lista que obtuvo todos sus nodos seguidos del cursor
+ * puede devolverlos de golpe con {@link #rebobinar(int, int, int)}; el siguiente clon recibe
+ * entonces los mismos nodos y en el mismo orden de memoria, así que recorrerlo es tan
+ * rápido como recorrer nodos recién creados.
+ *
+ * <p>Los nodos devueltos sueltos (al eliminar elementos, o los de una lista que no se
+ * puede rebobinar) van a una pila de libres que se usa antes que el cursor. Esos nodos
+ * llegan en el orden de la lista que los devolvió, que tras ordenarla ya no coincide con
+ * el de memoria, por eso el rebobinado es el camino principal.</p>
+ *
+ * <p>Una reserva puede compartirse entre una lista y sus clones, pero no entre hilos.</p>
+ *
+ * @param <T> Tipo de dato de los nodos.
+ * @param <N> Tipo de nodo ({@link Nodo} o {@link NodoDoble}).
+ * @author devapps
+ * @version 1.0
+ */
+public final class PoolNodos<T, N extends Nodo<T>> {
+
+    /** Nodos creados de una vez cuando el cursor llega al final de la arena. */
+    public static final int TAMANNO_BLOQUE = 1024;
+    private static final int DESPLAZAMIENTO_BLOQUE = Integer.numberOfTrailingZeros(TAMANNO_BLOQUE);
+
+    /** Crea nodos vacíos del tipo de la reserva. */
+    private final Supplier<N> fabrica;
+    /** Bloques de nodos, en orden de creación. */
+    private final List<Nodo<?>[]> bloques = new ArrayList<>();
+    /** Cursor: número de nodos entregados en orden desde el inicio de la arena. */
+    private int usados;
+    /**
+     * Aumenta cada vez que el cursor retrocede (al rebobinar o vaciar). Una marca anotada
+     * en otra generación ya no sirve: sus posiciones pueden estar ocupadas por otra lista.
+     */
+    private int generacion;
+    /** Cima de la pila de nodos devueltos sueltos, o {@code null}. */
+    private Nodo<T> libres;
+    /** Número de nodos en la pila de libres. */
+    private int cantidadLibres;
+
+    private PoolNodos(Supplier<N> fabrica) {
+        this.fabrica = fabrica;
+    }
+
+    /**
+     * Crea una reserva de nodos simples, para {@link ListaEnlazadaSimple} y
+     * {@link ListaEnlazadaSimpleCircular}.
+     * @return Una reserva vacía.
+     */
+    public static <T> PoolNodos<T, Nodo<T>> simples() {
+        return new PoolNodos<>(() -> new Nodo<>(null));
+    }
+
+    /**
+     * Crea una reserva de nodos dobles, para {@link ListaEnlazadaDoble}.
+     * @return Una reserva vacía.
+     */
+    public static <T> PoolNodos<T, NodoDoble<T>> dobles() {
+        return new PoolNodos<>(() -> new NodoDoble<>(null));
+    }
+
+    /**
+     * Entrega un nodo con {@code dato} y sin siguiente: de la pila de libres si hay, si no
+     * el siguiente del cursor. Los enlaces anteriores de un {@link NodoDoble} los fija la
+     * lista que lo recibe.
+     *
+     * @param dato El dato del nodo.
+     * @return Un nodo que no pertenece a ninguna lista.
+     */
+    @SuppressWarnings("unchecked") // En la arena y en la pila solo hay nodos de tipo N
+    public N obtener(T dato) {
+        N nodo;
+        if (libres != null) {
+            nodo = (N) libres;
+            libres = nodo.getSiguiente();
+            cantidadLibres--;
+            nodo.setSiguiente(null);
+        } else {
+            if (usados == bloques.size() * TAMANNO_BLOQUE) {
+                crearBloque();
+            }
+            nodo = (N) bloques.get(usados >>> DESPLAZAMIENTO_BLOQUE)[usados & (TAMANNO_BLOQUE - 1)];
+            usados++;
+        }
+        nodo.setDato(dato);
+        return nodo;
+    }
+
+    /**
+     * Indica si el próximo {@link #obtener(Object)} saldrá de la pila de libres en lugar
+     * del cursor.
+     * @return {@code true} si hay nodos devueltos sueltos.
+     */
+    public boolean hayLibres() {
+        return libres != null;
+    }
+
+    /**
+     * Posición actual del cursor. Una lista la anota, junto con {@link #getGeneracion()},
+     * justo antes de pedir su primer nodo del cursor para poder rebobinar después.
+     * @return El número de nodos entregados en orden.
+     */
+    public int getPosicion() {
+        return usados;
+    }
+
+    /**
+     * Generación actual del cursor; cambia cada vez que retrocede.
+     * @return La generación que debe acompañar a una marca de {@link #getPosicion()}.
+     */
+    public int getGeneracion() {
+        return generacion;
+    }
+
+    /**
+     * Devuelve de golpe los nodos entregados desde {@code marca}, si son exactamente
+     * {@code cantidad} y el cursor no ha retrocedido desde que se anotó la marca: es decir,
+     * si todos pertenecen a la lista que llama. Se borran sus datos y enlaces y el cursor
+     * vuelve a {@code marca}.
+     *
+     * @param marca Posición del cursor anotada por la lista antes de pedir su primer nodo.
+     * @param generacionMarca Generación anotada junto con {@code marca}.
+     * @param cantidad Nodos que la lista obtuvo del cursor y aún conserva.
+     * @return {@code true} si se rebobinó; {@code false} si la marca es de otra generación
+     *         u otro usuario pidió nodos en medio, y hay que devolverlos uno a uno.
+     */
+    public boolean rebobinar(int marca, int generacionMarca, int cantidad) {
+        if (marca < 0 || generacionMarca != generacion || usados - marca != cantidad) {
+            return false;
+        }
+        for (int i = marca; i < usados; i++) {
+            Nodo<?> nodo = bloques.get(i >>> DESPLAZAMIENTO_BLOQUE)[i & (TAMANNO_BLOQUE - 1)];
+            nodo.setDato(null);
+            nodo.setSiguiente(null);
+        }
+        usados = marca;
+        generacion++;
+        return true;
+    }
+
+    /**
+     * Devuelve un nodo suelto que ya no pertenece a ninguna lista. Se borra su dato para no
+     * retener el objeto.
+     *
+     * @param nodo El nodo a reciclar.
+     */
+    public void devolver(N nodo) {
+        nodo.setDato(null);
+        nodo.setSiguiente(libres);
+        libres = nodo;
+        cantidadLibres++;
+    }
+
+    /**
+     * Devuelve uno a uno los nodos de una cadena terminada en {@code null}.
+     *
+     * @param cabeza El primer nodo de la cadena, o {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public void devolverCadena(Nodo<T> cabeza) {
+        Nodo<T> actual = cabeza;
+        while (actual != null) {
+            Nodo<T> siguiente = actual.getSiguiente();
+            devolver((N) actual);
+            actual = siguiente;
+        }
+    }
+
+    /**
+     * Suelta todos los nodos para que el recolector los reclame. Solo debe llamarse cuando
+     * ninguna lista usa ya nodos de la reserva.
+     */
+    public void vaciar() {
+        bloques.clear();
+        usados = 0;
+        generacion++;
+        libres = null;
+        cantidadLibres = 0;
+    }
+
+    /** @return Nodos disponibles: los de la pila de libres más los que quedan tras el cursor. */
+    public long getLibres() {
+        return cantidadLibres + (long) bloques.size() * TAMANNO_BLOQUE - usados;
+    }
+
+    /** @return Nodos creados por la reserva desde el último {@link #vaciar()}. */
+    public long getCreados() {
+        return (long) bloques.size() * TAMANNO_BLOQUE;
+    }
+
+    private void crearBloque() {
+        Nodo<?>[] bloque = new Nodo<?>[TAMANNO_BLOQUE];
+        for (int i = 0; i < TAMANNO_BLOQUE; i++) {
+            bloque[i] = fabrica.get();
+        }
+        bloques.add(bloque);
+    }
+}
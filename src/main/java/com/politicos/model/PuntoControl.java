@@ -0,0 +1,183 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Registro persistente de las celdas completadas de un experimento, para poder reanudarlo.
+ *
+ * <p>Una celda es la combinación (distribución, tipo de lista, algoritmo, n). Cada celda
+ * terminada se añade como una línea al archivo de resultados y se fuerza a disco antes de
+ * continuar, por lo que un fallo (por ejemplo un {@link OutOfMemoryError} o el cierre de la
+ * JVM) no pierde lo ya medido. Al reanudar se omiten las celdas registradas y sus resultados
+ * se vuelven a cargar en las {@link EstadisticasOrdenamiento}.</p>
+ *
+ * <p>Formato de cada línea: {@code distribucion;lista;algoritmo;n;tiempo;comparaciones;intercambios;coleccionesGC;tiempoGC}.
+ * Las líneas incompletas (por un corte a mitad de escritura) se ignoran.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class PuntoControl {
+
+    private static final String SEPARADOR = ";";
+    private static final String CABECERA =
+        "# distribucion;lista;algoritmo;n;tiempo;comparaciones;intercambios;coleccionesGC;tiempoGC";
+
+    /** Archivo de resultados. */
+    private final Path archivo;
+    /** Resultados ya registrados (una entrada por repetición), por clave de celda. */
+    private final Map<String, List<ResultadoOrdenamiento>> completadas = new LinkedHashMap<>();
+    /** Si el archivo terminó sin salto de línea (escritura interrumpida), se añade uno antes de escribir. */
+    private boolean faltaSaltoLinea;
+
+    /**
+     * Abre (o crea) el archivo de resultados y carga las celdas ya completadas.
+     *
+     * @param archivo Ruta del archivo de resultados.
+     * @throws UncheckedIOException si el archivo existe pero no se puede leer.
+     */
+    public PuntoControl(Path archivo) {
+        this.archivo = Objects.requireNonNull(archivo, "El archivo no puede ser null");
+        cargar();
+    }
+
+    public PuntoControl(String archivo) {
+        this(Paths.get(archivo));
+    }
+
+    public Path getArchivo() {
+        return archivo;
+    }
+
+    /**
+     * Número de celdas completadas registradas.
+     */
+    public synchronized int getCompletadas() {
+        return completadas.size();
+    }
+
+    /**
+     * Indica si la celda ya fue medida en una ejecución anterior (o en esta).
+     */
+    public synchronized boolean estaCompletada(String distribucion, String lista, String algoritmo, int n) {
+        return completadas.containsKey(clave(distribucion, lista, algoritmo, n));
+    }
+
+    /**
+     * Número de repeticiones ya registradas para la celda.
+     */
+    public synchronized int getRepeticiones(String distribucion, String lista, String algoritmo, int n) {
+        List<ResultadoOrdenamiento> resultados = completadas.get(clave(distribucion, lista, algoritmo, n));
+        return (resultados == null) ? 0 : resultados.size();
+    }
+
+    /**
+     * Registra una celda completada y la escribe de forma duradera en el archivo.
+     *
+     * @throws UncheckedIOException si no se puede escribir.
+     */
+    public synchronized void registrar(String distribucion, String lista, String algoritmo, int n,
+                                       ResultadoOrdenamiento resultado) {
+        String linea = String.join(SEPARADOR, distribucion, lista, algoritmo, Integer.toString(n),
+            Double.toString(resultado.tiempo), Long.toString(resultado.comparaciones),
+            Long.toString(resultado.intercambios), Long.toString(resultado.coleccionesGC),
+            Double.toString(resultado.tiempoGC)) + "\n";
+        try {
+            Path padre = archivo.toAbsolutePath().getParent();
+            if (padre != null) {
+                Files.createDirectories(padre);
+            }
+            boolean nuevo = !Files.exists(archivo);
+            try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                String texto = nuevo ? CABECERA + "\n" + linea : (faltaSaltoLinea ? "\n" + linea : linea);
+                ByteBuffer bytes = ByteBuffer.wrap(texto.getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining()) {
+                    canal.write(bytes);
+                }
+                canal.force(false);
+            }
+            faltaSaltoLinea = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo registrar el punto de control en " + archivo, e);
+        }
+        agregar(clave(distribucion, lista, algoritmo, n), resultado);
+    }
+
+    /**
+     * Vuelve a cargar en {@code estadisticas} los resultados ya registrados para la
+     * distribución y el tipo de lista indicados.
+     *
+     * @return Número de resultados restaurados.
+     */
+    public synchronized int restaurar(String distribucion, String lista, EstadisticasOrdenamiento estadisticas) {
+        int restaurados = 0;
+        String prefijo = distribucion + SEPARADOR + lista + SEPARADOR;
+        for (Map.Entry<String, List<ResultadoOrdenamiento>> entrada : completadas.entrySet()) {
+            if (entrada.getKey().startsWith(prefijo)) {
+                String[] partes = entrada.getKey().split(SEPARADOR);
+                for (ResultadoOrdenamiento resultado : entrada.getValue()) {
+                    estadisticas.agregarResultado(Integer.parseInt(partes[3]), partes[2], resultado);
+                    restaurados++;
+                }
+            }
+        }
+        return restaurados;
+    }
+
+    private void cargar() {
+        if (!Files.isRegularFile(archivo)) {
+            return;
+        }
+        String contenido;
+        try {
+            contenido = Files.readString(archivo, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el punto de control " + archivo, e);
+        }
+        faltaSaltoLinea = !contenido.isEmpty() && !contenido.endsWith("\n");
+        for (String linea : contenido.split("\n")) {
+            if (linea.isBlank() || linea.startsWith("#")) {
+                continue;
+            }
+            String[] partes = linea.split(SEPARADOR);
+            if (partes.length != 9) {
+                continue; // Línea incompleta
+            }
+            try {
+                ResultadoOrdenamiento resultado = new ResultadoOrdenamiento(
+                    Double.parseDouble(partes[4]), Long.parseLong(partes[5]), Long.parseLong(partes[6]));
+                resultado.coleccionesGC = Long.parseLong(partes[7]);
+                resultado.tiempoGC = Double.parseDouble(partes[8]);
+                agregar(clave(partes[0], partes[1], partes[2], Integer.parseInt(partes[3])), resultado);
+            } catch (NumberFormatException e) {
+                // Línea truncada a mitad de un número: se vuelve a medir esa celda
+            }
+        }
+    }
+
+    private void agregar(String clave, ResultadoOrdenamiento resultado) {
+        completadas.computeIfAbsent(clave, k -> new ArrayList<>()).add(resultado);
+    }
+
+    private static String clave(String distribucion, String lista, String algoritmo, int n) {
+        return distribucion + SEPARADOR + lista + SEPARADOR + algoritmo + SEPARADOR + n;
+    }
+}
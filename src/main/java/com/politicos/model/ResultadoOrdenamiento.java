@@ -12,10 +12,24 @@ public class ResultadoOrdenamiento {
     public double tiempo;
     public long comparaciones;
     public long intercambios;
+    /** Recolecciones de basura que se solaparon con la medición. */
+    public long coleccionesGC;
+    /** Pausa de GC (ms) solapada con la medición. */
+    public double tiempoGC;
+    /** El ordenamiento se detuvo por tiempo o por cancelación; la lista quedó sin ordenar del todo. */
+    public boolean cancelado;
 
     public ResultadoOrdenamiento(double tiempo, long comparaciones, long intercambios) {
         this.tiempo = tiempo;
         this.comparaciones = comparaciones;
         this.intercambios = intercambios;
     }
+
+    /**
+     * Indica si durante la medición ocurrió al menos una recolección de basura.
+     * @return {@code true} si la muestra está afectada por el GC.
+     */
+    public boolean afectadoPorGC() {
+        return coleccionesGC > 0;
+    }
 }
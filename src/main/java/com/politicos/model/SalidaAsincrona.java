@@ -0,0 +1,114 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Salida de consola asíncrona y con búfer.
+ * Las líneas se encolan sin bloquear y un hilo dedicado las escribe en {@code System.out}.
+ * Si la cola está llena la línea se descarta (y se contabiliza) en lugar de bloquear
+ * al hilo que ordena.
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class SalidaAsincrona {
+
+    /** Capacidad máxima de líneas pendientes. */
+    private static final int CAPACIDAD = 8192;
+
+    private static final BlockingQueue<String> cola = new ArrayBlockingQueue<>(CAPACIDAD);
+    private static final AtomicLong descartadas = new AtomicLong();
+    /** Líneas encoladas y aún no escritas (incluye la que el hilo está escribiendo). */
+    private static final AtomicLong pendientes = new AtomicLong();
+
+    static {
+        Thread escritor = new Thread(SalidaAsincrona::escribirPendientes, "salida-asincrona");
+        escritor.setDaemon(true);
+        escritor.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> vaciar(2000), "salida-asincrona-cierre"));
+    }
+
+    private SalidaAsincrona() {
+    }
+
+    /**
+     * Encola una línea para su escritura. Nunca bloquea.
+     * @param linea El texto a escribir (se añade el salto de línea).
+     */
+    public static void escribir(String linea) {
+        pendientes.incrementAndGet();
+        if (!cola.offer(linea)) {
+            pendientes.decrementAndGet();
+            descartadas.incrementAndGet();
+        }
+    }
+
+    /**
+     * Espera a que todas las líneas encoladas hayan sido escritas.
+     * @param maxMilis Tiempo máximo de espera en milisegundos.
+     */
+    public static void vaciar(long maxMilis) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxMilis);
+        while (pendientes.get() > 0 && System.nanoTime() < limite) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Número de líneas que no pudieron encolarse porque la cola estaba llena.
+     */
+    public static long getDescartadas() {
+        return descartadas.get();
+    }
+
+    private static void escribirPendientes() {
+        Writer salida = new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()), 1 << 16);
+        List<String> lote = new ArrayList<>(256);
+        long reportadas = 0;
+        while (true) {
+            try {
+                lote.add(cola.take());
+                cola.drainTo(lote, 255);
+                for (String linea : lote) {
+                    salida.write(linea);
+                    salida.write(System.lineSeparator());
+                }
+                long perdidas = descartadas.get();
+                if (perdidas != reportadas && cola.isEmpty()) {
+                    salida.write("[salida] " + (perdidas - reportadas) + " líneas descartadas por cola llena"
+                        + System.lineSeparator());
+                    reportadas = perdidas;
+                }
+                if (cola.isEmpty()) {
+                    salida.flush();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                System.err.println("ERROR escribiendo la salida: " + e.getMessage());
+            } finally {
+                pendientes.addAndGet(-lote.size());
+                lote.clear();
+            }
+        }
+    }
+}
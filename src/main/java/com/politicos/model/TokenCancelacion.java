@@ -0,0 +1,95 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Señal de cancelación cooperativa para un ordenamiento en curso.
+ *
+ * <p>Se cancela al vencer su plazo o al llamar a {@link #cancelar()} desde otro hilo. Las
+ * estrategias la consultan en sus bucles externos y, si está cancelada, terminan dejando la
+ * lista estructuralmente válida (mismos nodos, enlaces coherentes) aunque no ordenada.</p>
+ *
+ * <p>{@link #cancelado()} solo lee el reloj cada {@value #INTERVALO_RELOJ} llamadas, para que
+ * pueda consultarse en bucles con poco trabajo por iteración. Un token pertenece a un único
+ * ordenamiento: el contador de llamadas no es seguro entre hilos (la bandera sí).</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class TokenCancelacion {
+
+    /** Token que nunca se cancela; {@link #cancelar()} no tiene efecto sobre él. */
+    public static final TokenCancelacion NINGUNO = new TokenCancelacion(Long.MAX_VALUE, false);
+
+    private static final int INTERVALO_RELOJ = 1024;
+
+    /** Instante límite según {@link System#nanoTime()}. */
+    private final long plazoNanos;
+    private final boolean tienePlazo;
+    private volatile boolean cancelado;
+    private int llamadas;
+
+    private TokenCancelacion(long plazoNanos, boolean tienePlazo) {
+        this.plazoNanos = plazoNanos;
+        this.tienePlazo = tienePlazo;
+    }
+
+    /**
+     * Crea un token que se cancela automáticamente tras {@code milisegundos}.
+     */
+    public static TokenCancelacion conPlazo(long milisegundos) {
+        if (milisegundos <= 0) {
+            throw new IllegalArgumentException("El plazo debe ser positivo.");
+        }
+        return new TokenCancelacion(System.nanoTime() + milisegundos * 1_000_000L, true);
+    }
+
+    /**
+     * Crea un token sin plazo, que solo se cancela con {@link #cancelar()}.
+     */
+    public static TokenCancelacion sinPlazo() {
+        return new TokenCancelacion(Long.MAX_VALUE, false);
+    }
+
+    /**
+     * Solicita la cancelación. Puede llamarse desde cualquier hilo.
+     */
+    public void cancelar() {
+        if (this != NINGUNO) {
+            cancelado = true;
+        }
+    }
+
+    /**
+     * Comprobación barata para bucles externos: la bandera siempre, el reloj de vez en cuando.
+     */
+    public boolean cancelado() {
+        if (cancelado) {
+            return true;
+        }
+        if (tienePlazo && ++llamadas >= INTERVALO_RELOJ) {
+            llamadas = 0;
+            return canceladoAhora();
+        }
+        return false;
+    }
+
+    /**
+     * Comprueba la bandera y el reloj en cada llamada; para bucles con mucho trabajo por iteración.
+     */
+    public boolean canceladoAhora() {
+        if (!cancelado && tienePlazo && System.nanoTime() - plazoNanos >= 0) {
+            cancelado = true;
+        }
+        return cancelado;
+    }
+
+    /**
+     * Indica si el token ya se canceló, sin volver a leer el reloj.
+     */
+    public boolean isCancelado() {
+        return cancelado;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Vista lineal de una lista enlazada para los algoritmos de ordenación.
+ * Cada tipo de lista sabe convertirse en una cadena de {@link Nodo} terminada en
+ * {@code null} y restaurar después sus propios invariantes (cola, enlaces
+ * {@code anterior}, ciclo). Así cada {@link EstrategiaOrdenamiento} se escribe una
+ * sola vez sobre la cadena.
+ *
+ * <p>Entre {@link #desenlazar()} y {@link #reenlazar(Nodo)} la lista no es válida
+ * y no debe usarse.</p>
+ *
+ * @param <T> El tipo de elementos de la lista.
+ * @author devapps
+ * @version 1.0
+ */
+public interface TopologiaLista<T> {
+
+    /**
+     * Devuelve el número de elementos de la lista.
+     * @return El tamaño actual.
+     */
+    int getTamanno();
+
+    /**
+     * Deja la lista como una cadena lineal de nodos y devuelve el primero.
+     * @return La cabeza de la cadena, o {@code null} si la lista está vacía.
+     */
+    Nodo<T> desenlazar();
+
+    /**
+     * Reconstruye la lista a partir de la cadena lineal que empieza en {@code cabeza},
+     * formada por los mismos nodos que devolvió {@link #desenlazar()}.
+     * @param cabeza La nueva cabeza de la cadena.
+     */
+    void reenlazar(Nodo<T> cabeza);
+}
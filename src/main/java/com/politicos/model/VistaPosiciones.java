@@ -0,0 +1,96 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.model;
+
+/**
+ * Vista de una {@link CadenaIndices} como cadena de {@link Nodo}, para que una estrategia
+ * sin versión por posiciones la ordene con {@link EstrategiaOrdenamiento#ordenarCadena}.
+ * Cada posición recibe un nodo que además hace de dato: comparar dos datos compara sus
+ * posiciones con {@link CadenaIndices#comparar(int, int)}. Tanto si el algoritmo reenlaza
+ * nodos como si intercambia datos, al recorrer la cadena ordenada los datos dan las
+ * posiciones en orden, y {@link #reenlazar(Nodo)} solo reescribe los enlaces.
+ *
+ * <p>Es el camino de reserva: crea un nodo por elemento y solo vive lo que dura un
+ * ordenamiento. Las estrategias del proyecto ordenan por posiciones y no la usan.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+final class VistaPosiciones {
+
+    /** Nodo de una posición. Su dato es el nodo de la posición que ocupa su lugar. */
+    final class Posicion extends Nodo<Posicion> implements Comparable<Posicion> {
+        private final int indice;
+
+        private Posicion(int indice) {
+            super(null);
+            this.indice = indice;
+            setDato(this);
+        }
+
+        @Override
+        public int compareTo(Posicion otra) {
+            return cadena.comparar(indice, otra.indice);
+        }
+    }
+
+    /** Lista que se está ordenando. */
+    private final CadenaIndices cadena;
+    /** Enlaces de {@link #cadena}. */
+    private final EnlacesIndices siguientes;
+
+    /**
+     * @param cadena La lista a ordenar, ya desenlazada con {@link CadenaIndices#desenlazarIndices()}.
+     */
+    VistaPosiciones(CadenaIndices cadena) {
+        this.cadena = cadena;
+        this.siguientes = cadena.getSiguientes();
+    }
+
+    /**
+     * Devuelve una cadena con un nodo por posición, en orden de enlace a partir de {@code primero}.
+     *
+     * @param primero La posición de la cabeza, o {@link CadenaIndices#FIN}.
+     * @return La cabeza de la cadena, o {@code null} si la lista está vacía.
+     */
+    Nodo<Posicion> desenlazar(int primero) {
+        Posicion cabeza = null;
+        Posicion cola = null;
+        for (int posicion = primero; posicion != CadenaIndices.FIN; posicion = siguientes.siguiente(posicion)) {
+            Posicion nodo = new Posicion(posicion);
+            if (cola == null) {
+                cabeza = nodo;
+            } else {
+                cola.setSiguiente(nodo);
+            }
+            cola = nodo;
+        }
+        return cabeza;
+    }
+
+    /**
+     * Reescribe los enlaces en el orden de los datos de la cadena ordenada.
+     *
+     * @param cabeza La cabeza de la cadena que devolvió la estrategia.
+     * @return La posición de la nueva cabeza, o {@link CadenaIndices#FIN}.
+     */
+    int reenlazar(Nodo<Posicion> cabeza) {
+        int primero = CadenaIndices.FIN;
+        int previo = CadenaIndices.FIN;
+        for (Nodo<Posicion> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            int posicion = nodo.getDato().indice;
+            if (previo == CadenaIndices.FIN) {
+                primero = posicion;
+            } else {
+                siguientes.setSiguiente(previo, posicion);
+            }
+            previo = posicion;
+        }
+        if (previo != CadenaIndices.FIN) {
+            siguientes.setSiguiente(previo, CadenaIndices.FIN);
+        }
+        return primero;
+    }
+}
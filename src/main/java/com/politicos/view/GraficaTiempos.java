@@ -0,0 +1,143 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.view;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Stroke;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.JPanel;
+
+/**
+ * Gráfica tiempo frente a n en escala log-log, con una serie por tipo de lista y algoritmo.
+ * El color identifica el algoritmo y el trazo el tipo de lista. Solo se dibuja la
+ * distribución seleccionada (por defecto, la última que recibió datos).
+ *
+ * <p>Se modifica y se pinta únicamente desde el hilo de eventos de Swing.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public final class GraficaTiempos extends JPanel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Color[] COLORES = {
+        new Color(0x1f77b4), new Color(0xd62728), new Color(0x2ca02c), new Color(0xff7f0e),
+        new Color(0x9467bd), new Color(0x8c564b)
+    };
+    private static final Stroke[] TRAZOS = {
+        new BasicStroke(2f),
+        new BasicStroke(2f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, new float[]{8f, 5f}, 0f),
+        new BasicStroke(2f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, new float[]{2f, 4f}, 0f)
+    };
+    private static final int MARGEN = 55;
+
+    /** distribución -> serie ("lista · algoritmo") -> puntos {n, ms}. */
+    private final transient Map<String, Map<String, List<double[]>>> datos = new LinkedHashMap<>();
+    private final transient Map<String, Integer> indiceAlgoritmo = new LinkedHashMap<>();
+    private final transient Map<String, Integer> indiceLista = new LinkedHashMap<>();
+    private String distribucionVisible;
+
+    public GraficaTiempos() {
+        setPreferredSize(new Dimension(720, 420));
+        setBackground(Color.WHITE);
+    }
+
+    /**
+     * Añade un punto a la serie correspondiente. No repinta: el llamador decide cuándo.
+     */
+    public void agregar(String distribucion, String tipoLista, String algoritmo, int n, double tiempoMs) {
+        if (n <= 0 || tiempoMs <= 0) {
+            return; // no representables en escala logarítmica
+        }
+        indiceAlgoritmo.putIfAbsent(algoritmo, indiceAlgoritmo.size());
+        indiceLista.putIfAbsent(tipoLista, indiceLista.size());
+        datos.computeIfAbsent(distribucion, k -> new LinkedHashMap<>())
+             .computeIfAbsent(tipoLista + " · " + algoritmo, k -> new ArrayList<>())
+             .add(new double[]{n, tiempoMs});
+        distribucionVisible = distribucion;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int ancho = getWidth() - 2 * MARGEN;
+        int alto = getHeight() - 2 * MARGEN;
+        Map<String, List<double[]>> series = (distribucionVisible != null) ? datos.get(distribucionVisible) : null;
+        if (series == null || ancho <= 0 || alto <= 0) {
+            g2.drawString("Esperando resultados...", MARGEN, MARGEN);
+            g2.dispose();
+            return;
+        }
+
+        // Rango en escala logarítmica
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (List<double[]> puntos : series.values()) {
+            for (double[] p : puntos) {
+                minX = Math.min(minX, Math.log10(p[0]));
+                maxX = Math.max(maxX, Math.log10(p[0]));
+                minY = Math.min(minY, Math.log10(p[1]));
+                maxY = Math.max(maxY, Math.log10(p[1]));
+            }
+        }
+        minX = Math.floor(minX);
+        maxX = Math.max(Math.ceil(maxX), minX + 1);
+        minY = Math.floor(minY);
+        maxY = Math.max(Math.ceil(maxY), minY + 1);
+
+        // Ejes y marcas por décadas
+        g2.setColor(Color.LIGHT_GRAY);
+        for (double d = minX; d <= maxX; d++) {
+            int x = MARGEN + (int) ((d - minX) / (maxX - minX) * ancho);
+            g2.drawLine(x, MARGEN, x, MARGEN + alto);
+            g2.drawString("1e" + (int) d, x - 10, MARGEN + alto + 15);
+        }
+        for (double d = minY; d <= maxY; d++) {
+            int y = MARGEN + alto - (int) ((d - minY) / (maxY - minY) * alto);
+            g2.drawLine(MARGEN, y, MARGEN + ancho, y);
+            g2.drawString("1e" + (int) d, 10, y + 4);
+        }
+        g2.setColor(Color.DARK_GRAY);
+        g2.drawRect(MARGEN, MARGEN, ancho, alto);
+        g2.drawString(distribucionVisible + " — tiempo (ms) frente a n", MARGEN, MARGEN - 25);
+
+        // Series
+        int fila = 0;
+        for (Map.Entry<String, List<double[]>> serie : series.entrySet()) {
+            String[] partes = serie.getKey().split(" · ");
+            Color color = COLORES[indiceAlgoritmo.getOrDefault(partes[1], 0) % COLORES.length];
+            Stroke trazo = TRAZOS[indiceLista.getOrDefault(partes[0], 0) % TRAZOS.length];
+            g2.setColor(color);
+            g2.setStroke(trazo);
+            int xAnterior = -1, yAnterior = -1;
+            for (double[] p : serie.getValue()) {
+                int x = MARGEN + (int) ((Math.log10(p[0]) - minX) / (maxX - minX) * ancho);
+                int y = MARGEN + alto - (int) ((Math.log10(p[1]) - minY) / (maxY - minY) * alto);
+                if (xAnterior >= 0) {
+                    g2.drawLine(xAnterior, yAnterior, x, y);
+                }
+                g2.fillOval(x - 2, y - 2, 5, 5);
+                xAnterior = x;
+                yAnterior = y;
+            }
+            // Leyenda
+            int yLeyenda = MARGEN + 12 + fila * 14;
+            g2.drawLine(MARGEN + 8, yLeyenda - 4, MARGEN + 30, yLeyenda - 4);
+            g2.drawString(serie.getKey(), MARGEN + 35, yLeyenda);
+            fila++;
+        }
+        g2.dispose();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package com.politicos.view;
+
+import com.politicos.model.EventoProgreso;
+import com.politicos.model.OyenteProgreso;
+import com.politicos.model.ResultadoOrdenamiento;
+import java.awt.BorderLayout;
+import java.awt.GridLayout;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.swing.BorderFactory;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Panel de seguimiento del experimento en vivo: celda actual, n, tiempo transcurrido,
+ * último resultado y una gráfica tiempo frente a n.
+ *
+ * <p>El hilo del experimento solo encola eventos ({@link #onEvento}); un {@link Timer} de
+ * Swing los vacía en el hilo de eventos cada {@value #INTERVALO_REFRESCO_MS} ms y repinta
+ * la gráfica como mucho una vez por tick, así que el trabajo nunca espera a la interfaz
+ * ni la interfaz toca los hilos de trabajo.</p>
+ *
+ * @author devapps
+ * @version 1.0
+ */
+public class VistaProgreso implements OyenteProgreso {
+
+    private static final int INTERVALO_REFRESCO_MS = 250;
+
+    private final ConcurrentLinkedQueue<EventoProgreso> pendientes = new ConcurrentLinkedQueue<>();
+    private final long inicioNanos = System.nanoTime();
+
+    // Solo se usan en el hilo de eventos de Swing
+    private JFrame ventana;
+    private JLabel etiquetaCelda;
+    private JLabel etiquetaN;
+    private JLabel etiquetaTiempo;
+    private JLabel etiquetaResultado;
+    private GraficaTiempos grafica;
+    private Timer temporizador;
+    private boolean terminado;
+
+    @Override
+    public void onEvento(EventoProgreso evento) {
+        pendientes.offer(evento);
+    }
+
+    /**
+     * Crea y muestra la ventana en el hilo de eventos. Puede llamarse desde cualquier hilo;
+     * los eventos recibidos antes de que la ventana exista se conservan en la cola.
+     */
+    public void mostrar() {
+        SwingUtilities.invokeLater(this::construir);
+    }
+
+    private void construir() {
+        ventana = new JFrame("Progreso del experimento");
+        ventana.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        etiquetaCelda = new JLabel("Celda: -");
+        etiquetaN = new JLabel("n: -");
+        etiquetaTiempo = new JLabel("Transcurrido: 0 s");
+        etiquetaResultado = new JLabel("Último resultado: -");
+        JPanel estado = new JPanel(new GridLayout(2, 2, 10, 4));
+        estado.setBorder(BorderFactory.createEmptyBorder(8, 8, 8, 8));
+        estado.add(etiquetaCelda);
+        estado.add(etiquetaN);
+        estado.add(etiquetaTiempo);
+        estado.add(etiquetaResultado);
+
+        grafica = new GraficaTiempos();
+        ventana.add(estado, BorderLayout.NORTH);
+        ventana.add(grafica, BorderLayout.CENTER);
+        ventana.pack();
+        ventana.setLocationRelativeTo(null);
+        ventana.setVisible(true);
+
+        temporizador = new Timer(INTERVALO_REFRESCO_MS, e -> refrescar());
+        temporizador.start();
+    }
+
+    private void refrescar() {
+        boolean nuevosDatos = false;
+        EventoProgreso evento;
+        while ((evento = pendientes.poll()) != null) {
+            nuevosDatos |= aplicar(evento);
+        }
+        if (!terminado) {
+            etiquetaTiempo.setText("Transcurrido: " + formatearDuracion((System.nanoTime() - inicioNanos) / 1_000_000));
+        } else {
+            temporizador.stop();
+        }
+        if (nuevosDatos) {
+            grafica.repaint();
+        }
+    }
+
+    /**
+     * Aplica un evento a las etiquetas y la gráfica.
+     * @return {@code true} si la gráfica recibió un punto nuevo.
+     */
+    private boolean aplicar(EventoProgreso evento) {
+        switch (evento.getTipo()) {
+            case INICIO_CELDA:
+                etiquetaCelda.setText("Celda: " + evento.getDistribucion() + " / " + evento.getTipoLista()
+                    + " / " + evento.getAlgoritmo());
+                etiquetaN.setText("n: " + evento.getN());
+                return false;
+            case FIN_CELDA:
+                ResultadoOrdenamiento r = evento.getResultado();
+                if (r == null) {
+                    etiquetaResultado.setText("Último resultado: " + evento.getAlgoritmo() + " falló");
+                    return false;
+                }
+                if (r.cancelado) {
+                    etiquetaResultado.setText(String.format("Último resultado: %s tiempo agotado (%.0f ms)",
+                        evento.getAlgoritmo(), r.tiempo));
+                    return false;
+                }
+                etiquetaResultado.setText(String.format("Último resultado: %s %.2f ms, %d comparaciones",
+                    evento.getAlgoritmo(), r.tiempo, r.comparaciones));
+                grafica.agregar(evento.getDistribucion(), evento.getTipoLista(), evento.getAlgoritmo(),
+                    evento.getN(), r.tiempo);
+                return true;
+            case FIN_EXPERIMENTO:
+                terminado = true;
+                etiquetaCelda.setText("Experimento terminado");
+                etiquetaTiempo.setText("Total: " + formatearDuracion(evento.getTranscurridoMs()));
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static String formatearDuracion(long milisegundos) {
+        long segundos = milisegundos / 1000;
+        return String.format("%d:%02d:%02d", segundos / 3600, (segundos / 60) % 60, segundos % 60);
+    }
+}